@@ -6,10 +6,12 @@
  */
 package org.hibernate;
 
+import java.util.Collection;
 import java.util.Iterator;
 
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.collection.internal.PagedCollectionIterator;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.HibernateIterator;
 import org.hibernate.engine.jdbc.LobCreator;
@@ -99,6 +101,29 @@ public final class Hibernate {
 		}
 	}
 
+	/**
+	 * Iterate the elements of a collection, loading the elements of an uninitialized persistent set,
+	 * bag or list at most {@code pageSize} at a time instead of initializing the collection.
+	 * <p/>
+	 * The collection itself stays uninitialized, so the loaded elements are only referenced by the
+	 * persistence context; evicting them as they are processed keeps the memory bounded when
+	 * walking large collections.  Other collections, and persistent collections which cannot be
+	 * iterated page by page (e.g. initialized collections, collections of embeddables or LOBs, or
+	 * collections with queued operations), are iterated normally.
+	 * <p/>
+	 * Changes made to the collection during the iteration are not reflected by the iterator,
+	 * which does not support {@link Iterator#remove()}.
+	 *
+	 * @param collection a collection, possibly a persistent collection
+	 * @param pageSize the maximum number of elements to load at once
+	 * @return an iterator over the elements of the collection
+	 * @throws LazyInitializationException if the <tt>Session</tt> is closed during the iteration
+	 */
+	public static <T> Iterator<T> pagedIterator(Collection<T> collection, int pageSize) {
+		final Iterator<T> pagedIterator = PagedCollectionIterator.create( collection, pageSize );
+		return pagedIterator == null ? collection.iterator() : pagedIterator;
+	}
+
 	/**
 	 * Get the true, underlying class of a proxied persistent class. This operation
 	 * will initialize a proxy by side-effect.
@@ -58,6 +58,29 @@ public interface MultiIdentifierLoadAccess<T> {
 	 */
 	MultiIdentifierLoadAccess<T> withBatchSize(int batchSize);
 
+	/**
+	 * Specify how many batches may be loaded concurrently, each on its own JDBC connection
+	 * obtained next to the one of the Session.  The rows are read on the additional
+	 * connections, the entities are still built and associated with the Session on the
+	 * calling thread.  The default is to load one batch after the other.
+	 * <p/>
+	 * This is only applied when the Session is {@link Session#isDefaultReadOnly() read-only}
+	 * by default, no lock stronger than {@link LockMode#READ} is requested and the entity
+	 * identifier is of a basic type; otherwise it is ignored.  Note that the additional
+	 * connections are not part of the Session's transaction, so they will not see changes
+	 * which are not committed yet.
+	 * <p/>
+	 * The statements are executed on the {@link org.hibernate.cfg.AvailableSettings#MULTI_LOAD_EXECUTOR}.
+	 * Implementations which do not support parallel loading ignore this option.
+	 *
+	 * @param parallelism The maximum number of batches to load concurrently
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	default MultiIdentifierLoadAccess<T> withParallelism(int parallelism) {
+		return this;
+	}
+
 	/**
 	 * Specify whether we should check the {@link Session} to see whether the first-level cache already contains any of the
 	 * entities to be loaded in a managed state <b>for the purpose of not including those
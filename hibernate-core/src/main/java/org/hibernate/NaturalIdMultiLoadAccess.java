@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads multiple entities at once by their natural identifiers, ultimately via one of the
+ * {@link #multiLoad} methods.
+ * <p/>
+ * Natural ids already cross-referenced by the Session (or found in the second-level natural-id
+ * cache) are resolved without hitting the database; the remaining ones are loaded in batches,
+ * one query per batch.
+ * <p/>
+ * For entities with a simple natural id, each natural id is passed as the value of the single
+ * natural id attribute.  For entities with a compound natural id, each natural id is passed as a
+ * {@link Map} of attribute name to value, see {@link #compoundValue}.
+ *
+ * @see Session#byMultipleNaturalId
+ * @see org.hibernate.annotations.NaturalId
+ */
+public interface NaturalIdMultiLoadAccess<T> {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> with(LockOptions lockOptions);
+
+	/**
+	 * Specify how many natural ids are loaded by a single query.  The default is to use a batch
+	 * sizing strategy defined by the Dialect in use.
+	 *
+	 * @param batchSize The batch size
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> withBatchSize(int batchSize);
+
+	/**
+	 * For entities with mutable natural ids, should Hibernate perform "synchronization" prior to performing
+	 * lookups?  The default is to perform "synchronization" (for correctness).
+	 * <p/>
+	 * See {@link NaturalIdLoadAccess#setSynchronizationEnabled} for detailed discussion.
+	 *
+	 * @param enabled Should synchronization be performed?  {@code true} indicates synchronization will be performed;
+	 * {@code false} indicates it will be circumvented.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> setSynchronizationEnabled(boolean enabled);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  The returned List is ordered and positional
+	 * in relation to the incoming natural ids, a {@code null} being returned for each natural id for
+	 * which no (non-deleted) entity exists.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(Object... naturalIds);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  The returned List is ordered and positional
+	 * in relation to the incoming natural ids, a {@code null} being returned for each natural id for
+	 * which no (non-deleted) entity exists.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(List<?> naturalIds);
+
+	/**
+	 * Helper for creating a compound natural id value from alternating attribute names and values,
+	 * e.g. {@code compoundValue( "system", "sap", "code", "X-42" )}.
+	 *
+	 * @param elements The attribute names and values
+	 *
+	 * @return The natural id value, as a Map of attribute name to value
+	 */
+	static Map<String, ?> compoundValue(Object... elements) {
+		if ( elements == null || elements.length % 2 != 0 ) {
+			throw new IllegalArgumentException( "Compound natural id value requires pairs of attribute name and value" );
+		}
+
+		final Map<String, Object> naturalId = new HashMap<>();
+		for ( int i = 0; i < elements.length; i += 2 ) {
+			naturalId.put( (String) elements[i], elements[i + 1] );
+		}
+		return naturalId;
+	}
+}
@@ -892,6 +892,32 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	<T> SimpleNaturalIdLoadAccess<T> bySimpleNaturalId(Class<T> entityClass);
 
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity, or if the
+	 * entity does not define a natural-id
+	 */
+	<T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass);
+
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name, or if the
+	 * entity does not define a natural-id
+	 */
+	NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName);
+
 	/**
 	 * Enable the named filter for this current session.
 	 *
@@ -46,5 +46,21 @@ public interface SessionEventListener extends Serializable {
 	public void dirtyCalculationStart();
 	public void dirtyCalculationEnd(boolean dirty);
 
+	/**
+	 * Called before a query is executed, so that the associations fetched next can be attributed to it.
+	 *
+	 * @param query The HQL/JPQL, native SQL or collection filter query string
+	 */
+	default void queryExecution(String query) {
+	}
+
+	/**
+	 * Called before an association, i.e. an entity proxy or a collection, is fetched from the database.
+	 *
+	 * @param role The entity name, or the collection role
+	 */
+	default void associationFetch(String role) {
+	}
+
 	public void end();
 }
@@ -19,6 +19,8 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostCommitInsertEventListener;
@@ -161,12 +163,18 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 
 	protected boolean cacheInsert(EntityPersister persister, Object ck) {
 		SharedSessionContractImplementor session = getSession();
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
+		final EntityDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		try {
 			session.getEventListenerManager().cachePutStart();
-			return persister.getCacheAccessStrategy().insert( session, ck, cacheEntry, version);
+			return cacheAccessStrategy.insert( session, ck, cacheEntry, version);
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			if ( cachePutEvent != null ) {
+				eventMonitor.completeCachePutEvent( cachePutEvent, session, cacheAccessStrategy.getRegion().getName() );
+			}
 		}
 	}
 
@@ -252,12 +260,17 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 	protected boolean cacheAfterInsert(EntityDataAccess cache, Object ck) {
 		SharedSessionContractImplementor session = getSession();
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 		try {
 			eventListenerManager.cachePutStart();
 			return cache.afterInsert( session, ck, cacheEntry, version );
 		}
 		finally {
 			eventListenerManager.cachePutEnd();
+			if ( cachePutEvent != null ) {
+				eventMonitor.completeCachePutEvent( cachePutEvent, session, cache.getRegion().getName() );
+			}
 		}
 	}
 
@@ -22,6 +22,8 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostCommitUpdateEventListener;
@@ -277,12 +279,18 @@ public class EntityUpdateAction extends EntityAction {
 
 	protected boolean cacheUpdate(EntityPersister persister, Object previousVersion, Object ck) {
 		final SharedSessionContractImplementor session = getSession();
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
+		final EntityDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		try {
 			session.getEventListenerManager().cachePutStart();
-			return persister.getCacheAccessStrategy().update( session, ck, cacheEntry, nextVersion, previousVersion );
+			return cacheAccessStrategy.update( session, ck, cacheEntry, nextVersion, previousVersion );
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			if ( cachePutEvent != null ) {
+				eventMonitor.completeCachePutEvent( cachePutEvent, session, cacheAccessStrategy.getRegion().getName() );
+			}
 		}
 	}
 
@@ -405,12 +413,17 @@ public class EntityUpdateAction extends EntityAction {
 	protected boolean cacheAfterUpdate(EntityDataAccess cache, Object ck) {
 		final SharedSessionContractImplementor session = getSession();
 		SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 		try {
 			eventListenerManager.cachePutStart();
 			return cache.afterUpdate( session, ck, cacheEntry, nextVersion, previousVersion, lock );
 		}
 		finally {
 			eventListenerManager.cachePutEnd();
+			if ( cachePutEvent != null ) {
+				eventMonitor.completeCachePutEvent( cachePutEvent, session, cache.getRegion().getName() );
+			}
 		}
 	}
 
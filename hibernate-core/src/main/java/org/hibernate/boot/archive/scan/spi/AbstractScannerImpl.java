@@ -6,7 +6,10 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,10 +22,23 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
 
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractScannerImpl implements Scanner {
+	private static final Logger log = Logger.getLogger( AbstractScannerImpl.class );
+
+	/**
+	 * The location of the Jandex index within an archive, as generated at build time by the Jandex
+	 * Maven and Gradle plugins.  The classes found in the index are categorized without reading their
+	 * class file.
+	 */
+	public static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
 	private final ArchiveDescriptorFactory archiveDescriptorFactory;
 	private final Map<URL, ArchiveDescriptorInfo> archiveDescriptorCache = new HashMap<URL, ArchiveDescriptorInfo>();
 
@@ -35,15 +51,19 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
+				final ArchiveContext context = new ArchiveContextImpl( false, collector, loadArchiveIndex( url ) );
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
 				descriptor.visitArchive( context );
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
+			final ArchiveContext context = new ArchiveContextImpl(
+					true,
+					collector,
+					loadArchiveIndex( environment.getRootUrl() )
+			);
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
 		}
@@ -75,6 +95,30 @@ public abstract class AbstractScannerImpl implements Scanner {
 		return descriptor;
 	}
 
+	/**
+	 * Load the Jandex index of an archive, if it has one.
+	 *
+	 * @param url The archive URL
+	 *
+	 * @return The index, or {@code null} if the archive has none or it cannot be read
+	 */
+	protected IndexView loadArchiveIndex(URL url) {
+		// the class loader resolves the entry for both directories and jar files, and closes the jar file
+		try (URLClassLoader archiveLoader = new URLClassLoader( new URL[] { url }, null );
+				InputStream inputStream = archiveLoader.getResourceAsStream( JANDEX_INDEX )) {
+			if ( inputStream == null ) {
+				return null;
+			}
+			log.debugf( "Using the Jandex index of [%s] to scan it", url );
+			return new IndexReader( inputStream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			// e.g. an index format not supported by this version of Jandex
+			log.debugf( e, "Unable to read the Jandex index of [%s], scanning its class files instead", url );
+			return null;
+		}
+	}
+
 	/**
 	 * Handle <jar-file/> references from a persistence.xml file.
 	 *
@@ -114,9 +158,13 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector, IndexView archiveIndex) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, archiveIndex );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
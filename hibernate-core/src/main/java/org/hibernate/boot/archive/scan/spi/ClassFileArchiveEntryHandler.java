@@ -22,7 +22,7 @@ import org.hibernate.boot.archive.spi.ArchiveException;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 /**
@@ -41,9 +41,22 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final IndexView archiveIndex;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null );
+	}
+
+	/**
+	 * Constructs a handler which looks the classes up in the Jandex index built for the archive, and only
+	 * reads the class files which are missing from it.
+	 *
+	 * @param resultCollector The collector of the scan results
+	 * @param archiveIndex The index of the archive, or {@code null} if it has none
+	 */
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, IndexView archiveIndex) {
 		this.resultCollector = resultCollector;
+		this.archiveIndex = archiveIndex;
 	}
 
 	@Override
@@ -59,37 +72,50 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+		if ( archiveIndex != null ) {
+			final ClassInfo classInfo = archiveIndex.getClassByName( toClassName( entry ) );
+			if ( classInfo != null ) {
+				return toClassDescriptor( classInfo, entry );
+			}
+		}
+
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			Indexer indexer = new Indexer();
 			ClassInfo classInfo = indexer.index( inputStream );
-			Index index = indexer.complete();
-			return toClassDescriptor( classInfo, index, entry );
+			return toClassDescriptor( classInfo, entry );
 		}
 		catch (IOException e) {
 			throw new ArchiveException( "Could not build ClassInfo", e );
 		}
 	}
 
-	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, Index index, ArchiveEntry entry) {
+	private DotName toClassName(ArchiveEntry entry) {
+		final String nameWithinArchive = entry.getNameWithinArchive();
+		return DotName.createSimple(
+				nameWithinArchive.substring( 0, nameWithinArchive.length() - ".class".length() ).replace( '/', '.' )
+		);
+	}
+
+	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, ArchiveEntry entry) {
 		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
 
-		if ( isModel( index ) ) {
+		if ( isModel( classInfo ) ) {
 			categorization = ClassDescriptor.Categorization.MODEL;
 		}
-		else if ( isConverter( index ) ) {
+		else if ( isConverter( classInfo ) ) {
 			categorization = ClassDescriptor.Categorization.CONVERTER;
 		}
 
 		return new ClassDescriptorImpl( classInfo.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
-	private boolean isConverter(Index index) {
-		return !index.getAnnotations( CONVERTER ).isEmpty();
+	private boolean isConverter(ClassInfo classInfo) {
+		return classInfo.annotations().containsKey( CONVERTER );
 	}
 
-	private boolean isModel(Index index) {
+	private boolean isModel(ClassInfo classInfo) {
 		for ( DotName model : MODELS ) {
-			if ( !index.getAnnotations( model ).isEmpty() ) {
+			if ( classInfo.annotations().containsKey( model ) ) {
 				return true;
 			}
 		}
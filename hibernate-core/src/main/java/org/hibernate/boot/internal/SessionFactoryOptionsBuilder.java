@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionAcquisitionMode;
@@ -45,6 +46,7 @@ import org.hibernate.engine.config.internal.ConfigurationServiceImpl;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.NPlusOneSelectDetectionMode;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.id.uuid.LocalObjectUuidHelper;
 import org.hibernate.internal.CoreMessageLogger;
@@ -73,6 +75,7 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BOOTSTRAP_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -95,9 +98,14 @@ import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MERGE_DETACHED_FAST_PATH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_LOAD_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_SELECT_DETECTION;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
@@ -107,12 +115,14 @@ import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING_BACKGROUND;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
@@ -191,6 +201,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
+	private int bootstrapParallelism;
+	private boolean lazyPersisterInitialization;
+	private Executor multiLoadExecutor;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
@@ -209,6 +222,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Queries
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private boolean namedQueryBackgroundCheckingEnabled;
 	private boolean conventionalJavaConstants;
 	private final boolean procedureParameterNullPassingEnabled;
 	private final boolean collectionJoinSubqueryRewriteEnabled;
@@ -233,6 +247,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -249,6 +264,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean mergeDetachedFastPathEnabled;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
@@ -314,7 +330,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				: strategySelector.selectStrategyImplementor( SessionEventListener.class, autoSessionEventsListenerName );
 
 		final boolean logSessionMetrics = cfgService.getSetting( LOG_SESSION_METRICS, BOOLEAN, statisticsEnabled );
-		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder( logSessionMetrics, autoSessionEventsListener );
+		final NPlusOneSelectDetectionMode nPlusOneSelectDetectionMode = NPlusOneSelectDetectionMode.interpret(
+				configurationSettings.get( N_PLUS_ONE_SELECT_DETECTION )
+		);
+		final int nPlusOneSelectThreshold = ConfigurationHelper.getInt( N_PLUS_ONE_SELECT_THRESHOLD, configurationSettings, 10 );
+		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder(
+				logSessionMetrics,
+				autoSessionEventsListener,
+				nPlusOneSelectDetectionMode,
+				nPlusOneSelectThreshold
+		);
 
 		this.customEntityDirtinessStrategy = strategySelector.resolveDefaultableStrategy(
 				CustomEntityDirtinessStrategy.class,
@@ -342,6 +367,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
+		this.bootstrapParallelism = ConfigurationHelper.getInt( BOOTSTRAP_PARALLELISM, configurationSettings, 1 );
+		this.lazyPersisterInitialization = cfgService.getSetting( LAZY_PERSISTER_INITIALIZATION, BOOLEAN, false );
+		this.multiLoadExecutor = strategySelector.resolveStrategy(
+				Executor.class,
+				configurationSettings.get( MULTI_LOAD_EXECUTOR )
+		);
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
@@ -358,6 +389,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryBackgroundCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING_BACKGROUND, BOOLEAN, false );
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
@@ -443,6 +475,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = ConfigurationHelper.getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -518,6 +551,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.mergeDetachedFastPathEnabled = ConfigurationHelper.getBoolean(
+				MERGE_DETACHED_FAST_PATH,
+				configurationSettings,
+				false
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -817,6 +856,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return delayBatchFetchLoaderCreations;
 	}
 
+	@Override
+	public int getBootstrapParallelism() {
+		return bootstrapParallelism;
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return lazyPersisterInitialization;
+	}
+
+	@Override
+	public Executor getMultiLoadExecutor() {
+		return multiLoadExecutor;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -867,6 +921,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isNamedQueryBackgroundCheckingEnabled() {
+		return namedQueryBackgroundCheckingEnabled;
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return conventionalJavaConstants;
@@ -957,6 +1016,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1042,6 +1106,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean isMergeDetachedFastPathEnabled() {
+		return this.mergeDetachedFastPathEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -177,6 +178,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public int getBootstrapParallelism() {
+		return delegate.getBootstrapParallelism();
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return delegate.isLazyPersisterInitializationEnabled();
+	}
+
+	@Override
+	public Executor getMultiLoadExecutor() {
+		return delegate.getMultiLoadExecutor();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -227,6 +243,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isNamedQueryBackgroundCheckingEnabled() {
+		return delegate.isNamedQueryBackgroundCheckingEnabled();
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return delegate.isConventionalJavaConstants();
@@ -327,6 +348,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -428,6 +454,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean isMergeDetachedFastPathEnabled() {
+		return delegate.isMergeDetachedFastPathEnabled();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -164,6 +165,27 @@ public interface SessionFactoryOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BOOTSTRAP_PARALLELISM
+	 */
+	default int getBootstrapParallelism() {
+		return 1;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	default boolean isLazyPersisterInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_LOAD_EXECUTOR
+	 */
+	default Executor getMultiLoadExecutor() {
+		return null;
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -193,6 +215,13 @@ public interface SessionFactoryOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_BACKGROUND
+	 */
+	default boolean isNamedQueryBackgroundCheckingEnabled() {
+		return false;
+	}
+
 	boolean isConventionalJavaConstants();
 
 	boolean isSecondLevelCacheEnabled();
@@ -225,6 +254,13 @@ public interface SessionFactoryOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -288,6 +324,13 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_FAST_PATH
+	 */
+	default boolean isMergeDetachedFastPathEnabled() {
+		return false;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.util.type.PrimitiveWrapperHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+/**
+ * Base class of the access optimizers generated from property {@link Getter}s and {@link Setter}s
+ * (see {@link BytecodeProviderImpl#getReflectionOptimizer(Class, String[], Getter[], Setter[])}).
+ * <p/>
+ * The generated subclasses read and write the members they can access directly through plain field
+ * and method instructions, and go through the getter or setter for the others.
+ */
+public abstract class AccessOptimizerSupport implements ReflectionOptimizer.AccessOptimizer {
+	private final String[] propertyNames;
+	protected final Getter[] getters;
+	protected final Setter[] setters;
+
+	// the (boxed) types of the values set directly by the generated subclass, null for those set through the setter
+	private final Class[] directValueTypes;
+	private final boolean[] primitiveValueTypes;
+
+	/**
+	 * @param propertyNames The property names
+	 * @param getters The property getters
+	 * @param setters The property setters
+	 * @param directValueTypes The types of the values the generated subclass sets directly, {@code null} for the
+	 * properties it sets through their setter
+	 */
+	protected AccessOptimizerSupport(String[] propertyNames, Getter[] getters, Setter[] setters, Class[] directValueTypes) {
+		this.propertyNames = propertyNames;
+		this.getters = getters;
+		this.setters = setters;
+		this.directValueTypes = new Class[directValueTypes.length];
+		this.primitiveValueTypes = new boolean[directValueTypes.length];
+		for ( int i = 0; i < directValueTypes.length; i++ ) {
+			final Class valueType = directValueTypes[i];
+			if ( valueType != null && valueType.isPrimitive() ) {
+				this.directValueTypes[i] = PrimitiveWrapperHelper.getDescriptorByPrimitiveType( valueType ).getWrapperClass();
+				this.primitiveValueTypes[i] = true;
+			}
+			else {
+				this.directValueTypes[i] = valueType;
+			}
+		}
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		if ( canSetValuesDirectly( values ) ) {
+			setValues( object, values );
+		}
+		else {
+			// a null for a primitive or a value of the wrong type; use the setters
+			// so that the failure gets reported against the offending property
+			for ( int i = 0; i < setters.length; i++ ) {
+				setters[i].set( object, values[i], null );
+			}
+		}
+	}
+
+	private boolean canSetValuesDirectly(Object[] values) {
+		for ( int i = 0; i < directValueTypes.length; i++ ) {
+			final Class valueType = directValueTypes[i];
+			if ( valueType != null ) {
+				final Object value = values[i];
+				if ( value == null ? primitiveValueTypes[i] : !valueType.isInstance( value ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Set all property values into the given instance, implemented by the generated subclass.
+	 *
+	 * @param object The instance
+	 * @param values The values to inject
+	 */
+	protected abstract void setValues(Object object, Object[] values);
+}
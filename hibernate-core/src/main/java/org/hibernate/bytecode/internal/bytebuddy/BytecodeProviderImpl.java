@@ -7,6 +7,8 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.concurrent.Callable;
@@ -18,6 +20,13 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.NamingStrategy;
@@ -44,6 +53,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction setValuesMethodName = ElementMatchers.named( "setValues" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -68,15 +78,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		final Class fastClass;
 		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
 			// we only provide a fast class instantiator if the class can be instantiated
-			final Constructor<?> constructor = findConstructor( clazz );
-
-			fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-					.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
-							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
-					.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-					.method( newInstanceMethodName )
-							.intercept( MethodCall.construct( constructor ) )
-			);
+			fastClass = buildInstantiatorClass( clazz, findConstructor( clazz ) );
 		}
 		else {
 			fastClass = null;
@@ -109,6 +111,149 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(
+			final Class clazz,
+			final String[] propertyNames,
+			final Getter[] getters,
+			final Setter[] setters) {
+		if ( getters.length != propertyNames.length || setters.length != propertyNames.length ) {
+			throw new BulkAccessorException( "bad number of accessors" );
+		}
+
+		Class fastClass = null;
+		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
+			try {
+				final Constructor<?> constructor = clazz.getDeclaredConstructor();
+				if ( !Modifier.isPrivate( constructor.getModifiers() ) ) {
+					fastClass = buildInstantiatorClass( clazz, constructor );
+				}
+			}
+			catch (NoSuchMethodException e) {
+				// no instantiation optimizer then
+			}
+		}
+
+		// the members which the generated class (defined in the package of the class) can access directly,
+		// null for those accessed through their getter / setter
+		final Member[] getterMembers = new Member[getters.length];
+		final Member[] setterMembers = new Member[setters.length];
+		final Class[] setterValueTypes = new Class[setters.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			getterMembers[i] = resolveDirectlyAccessibleGetter( clazz, getters[i] );
+			setterMembers[i] = resolveDirectlyAccessibleSetter( clazz, setters[i] );
+			if ( setterMembers[i] != null ) {
+				setterValueTypes[i] = setterMembers[i] instanceof Field
+						? ( (Field) setterMembers[i] ).getType()
+						: ( (Method) setterMembers[i] ).getParameterTypes()[0];
+			}
+		}
+
+		final Class bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( AccessOptimizerSupport.class )
+				.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetPropertyValuesFromAccessors( getterMembers ) ) )
+				.method( setValuesMethodName )
+						.intercept( new Implementation.Simple( new SetPropertyValuesFromAccessors( setterMembers ) ) )
+		);
+
+		try {
+			return new ReflectionOptimizerImpl(
+					fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
+					(ReflectionOptimizer.AccessOptimizer) bulkAccessor
+							.getConstructor( String[].class, Getter[].class, Setter[].class, Class[].class )
+							.newInstance( propertyNames, getters, setters, setterValueTypes )
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	private Class buildInstantiatorClass(Class clazz, Constructor<?> constructor) {
+		return byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+						.intercept( MethodCall.construct( constructor ) )
+		);
+	}
+
+	private static Member resolveDirectlyAccessibleGetter(Class clazz, Getter getter) {
+		final Member member;
+		if ( getter.getClass() == GetterMethodImpl.class ) {
+			member = getter.getMethod();
+		}
+		else if ( getter.getClass() == GetterFieldImpl.class ) {
+			member = getter.getMember();
+		}
+		else {
+			// e.g. enhanced or virtual properties, keep their specific behavior
+			return null;
+		}
+		return isDirectlyAccessible( member, clazz ) ? member : null;
+	}
+
+	private static Member resolveDirectlyAccessibleSetter(Class clazz, Setter setter) {
+		final Member member;
+		final Class valueType;
+		if ( setter.getClass() == SetterMethodImpl.class ) {
+			final Method method = setter.getMethod();
+			member = method;
+			valueType = method.getParameterTypes()[0];
+		}
+		else if ( setter.getClass() == SetterFieldImpl.class ) {
+			final Field field = ( (SetterFieldImpl) setter ).getField();
+			if ( Modifier.isFinal( field.getModifiers() ) ) {
+				// a PUTFIELD from another class is illegal, only the reflective setter can write it
+				return null;
+			}
+			member = field;
+			valueType = field.getType();
+		}
+		else {
+			return null;
+		}
+		// the value is cast to its type before being set
+		return isDirectlyAccessible( member, clazz ) && isAccessible( valueType, clazz ) ? member : null;
+	}
+
+	private static boolean isDirectlyAccessible(Member member, Class clazz) {
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) ) {
+			return false;
+		}
+		final Class declaringClass = member.getDeclaringClass();
+		if ( !isAccessible( declaringClass, clazz ) ) {
+			return false;
+		}
+		// protected members are only accessible from the same package, the generated class is no subclass
+		return Modifier.isPublic( modifiers ) || isSameRuntimePackage( declaringClass, clazz );
+	}
+
+	private static boolean isAccessible(Class type, Class clazz) {
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		return type.isPrimitive()
+				|| Modifier.isPublic( type.getModifiers() )
+				|| isSameRuntimePackage( type, clazz );
+	}
+
+	private static boolean isSameRuntimePackage(Class type, Class clazz) {
+		return type.getClassLoader() == clazz.getClassLoader()
+				&& packageName( type ).equals( packageName( clazz ) );
+	}
+
+	private static String packageName(Class type) {
+		final String name = type.getName();
+		final int lastDot = name.lastIndexOf( '.' );
+		return lastDot < 0 ? "" : name.substring( 0, lastDot );
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -208,6 +353,179 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static class GetPropertyValuesFromAccessors implements ByteCodeAppender {
+
+		private final Member[] members;
+
+		public GetPropertyValuesFromAccessors(Member[] members) {
+			this.members = members;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( members.length );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
+			for ( int index = 0; index < members.length; index++ ) {
+				final Member member = members[index];
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( index );
+				if ( member == null ) {
+					// getters[index].get( object )
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( AccessOptimizerSupport.class ),
+							"getters",
+							Type.getDescriptor( Getter[].class )
+					);
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( Getter.class ),
+							"get",
+							Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( Object.class ) ),
+							true
+					);
+				}
+				else {
+					final String owner = Type.getInternalName( member.getDeclaringClass() );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, owner );
+					final Class valueType;
+					if ( member instanceof Field ) {
+						final Field field = (Field) member;
+						valueType = field.getType();
+						methodVisitor.visitFieldInsn( Opcodes.GETFIELD, owner, field.getName(), Type.getDescriptor( valueType ) );
+					}
+					else {
+						final Method method = (Method) member;
+						valueType = method.getReturnType();
+						final boolean isInterface = method.getDeclaringClass().isInterface();
+						methodVisitor.visitMethodInsn(
+								isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+								owner,
+								method.getName(),
+								Type.getMethodDescriptor( method ),
+								isInterface
+						);
+					}
+					if ( valueType.isPrimitive() ) {
+						PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( valueType ) )
+								.assignBoxedTo(
+										TypeDescription.Generic.OBJECT,
+										ReferenceTypeAwareAssigner.INSTANCE,
+										Assigner.Typing.STATIC
+								)
+								.apply( methodVisitor, implementationContext );
+					}
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class SetPropertyValuesFromAccessors implements ByteCodeAppender {
+
+		private final Member[] members;
+
+		public SetPropertyValuesFromAccessors(Member[] members) {
+			this.members = members;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < members.length; index++ ) {
+				final Member member = members[index];
+				if ( member == null ) {
+					// setters[index].set( object, values[index], null )
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( AccessOptimizerSupport.class ),
+							"setters",
+							Type.getDescriptor( Setter[].class )
+					);
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( Setter.class ),
+							"set",
+							Type.getMethodDescriptor(
+									Type.VOID_TYPE,
+									Type.getType( Object.class ),
+									Type.getType( Object.class ),
+									Type.getType( SessionFactoryImplementor.class )
+							),
+							true
+					);
+					continue;
+				}
+
+				final String owner = Type.getInternalName( member.getDeclaringClass() );
+				final Class valueType = member instanceof Field
+						? ( (Field) member ).getType()
+						: ( (Method) member ).getParameterTypes()[0];
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, owner );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				if ( valueType.isPrimitive() ) {
+					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+							.assignUnboxedTo(
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( valueType ),
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.DYNAMIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				else {
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( valueType ) );
+				}
+				if ( member instanceof Field ) {
+					methodVisitor.visitFieldInsn( Opcodes.PUTFIELD, owner, member.getName(), Type.getDescriptor( valueType ) );
+				}
+				else {
+					final Method method = (Method) member;
+					final boolean isInterface = method.getDeclaringClass().isInterface();
+					methodVisitor.visitMethodInsn(
+							isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+							owner,
+							method.getName(),
+							Type.getMethodDescriptor( method ),
+							isInterface
+					);
+					// setters returning a value, e.g. fluent ones
+					final Class returnType = method.getReturnType();
+					if ( returnType == long.class || returnType == double.class ) {
+						methodVisitor.visitInsn( Opcodes.POP2 );
+					}
+					else if ( returnType != void.class ) {
+						methodVisitor.visitInsn( Opcodes.POP );
+					}
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
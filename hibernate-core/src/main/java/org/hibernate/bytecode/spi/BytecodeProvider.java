@@ -8,6 +8,8 @@ package org.hibernate.bytecode.spi;
 
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
 import org.hibernate.service.Service;
 
 /**
@@ -41,6 +43,31 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider
+	 * capable of generating reflection optimization components
+	 * accessing the properties through the given getters and setters.
+	 * <p/>
+	 * Unlike {@link #getReflectionOptimizer(Class, String[], String[], Class[])}
+	 * this is not limited to getter/setter methods declared on the class itself:
+	 * fields, inherited members and members which cannot be accessed directly
+	 * (which are then accessed through the given getter or setter) are supported
+	 * as well.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyNames The names of all properties.
+	 * @param getters The getters of all properties.
+	 * @param setters The setters of all properties.
+	 * @return The reflection optimization delegate, or {@code null} if this provider does not support it.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(
+			Class clazz,
+			String[] propertyNames,
+			Getter[] getters,
+			Setter[] setters) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
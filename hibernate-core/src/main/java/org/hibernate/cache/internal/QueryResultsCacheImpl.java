@@ -18,6 +18,8 @@ import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -87,12 +89,17 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 				resultsCopy
 		);
 
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 		try {
 			session.getEventListenerManager().cachePutStart();
 			cacheRegion.putIntoCache( key, cacheItem, session );
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			if ( cachePutEvent != null ) {
+				eventMonitor.completeCachePutEvent( cachePutEvent, session, cacheRegion.getName() );
+			}
 		}
 
 		return true;
@@ -182,6 +189,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
 		CacheItem cachedItem = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
@@ -189,6 +198,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( cachedItem != null );
+			if ( cacheGetEvent != null ) {
+				eventMonitor.completeCacheGetEvent( cacheGetEvent, session, cacheRegion.getName(), cachedItem != null );
+			}
 		}
 		return cachedItem;
 	}
@@ -742,6 +742,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String FORMAT_SQL ="hibernate.format_sql";
 
+	/**
+	 * Enable logging of generated SQL (to the console, the {@code org.hibernate.SQL} log category and the slow query
+	 * log) on a background thread, so that the threads executing the statements only pay for adding them to a buffer.
+	 * Statements logged while the buffer is full are dropped, and their number is reported.  Default is {@code false}.
+	 *
+	 * @see #LOG_SQL_ASYNC_BUFFER_SIZE
+	 */
+	String LOG_SQL_ASYNC = "hibernate.log_sql.async";
+
+	/**
+	 * The maximum number of statements waiting to be logged, when {@link #LOG_SQL_ASYNC} is enabled.  Default is 8192.
+	 */
+	String LOG_SQL_ASYNC_BUFFER_SIZE = "hibernate.log_sql.async.buffer_size";
+
 	/**
 	 * Add comments to the generated SQL
 	 */
@@ -781,6 +795,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Maximum number of JDBC prepared statements kept open per Session for reuse, until the JDBC
+	 * Connection is released (usually at the end of the transaction).  A statement released after
+	 * execution is then cached rather than closed, and preparing the same SQL again reuses it.
+	 * <p/>
+	 * The cache is not used when the JDBC Connection is released after each statement
+	 * ({@link org.hibernate.ConnectionReleaseMode#AFTER_STATEMENT}).
+	 * <p/>
+	 * The default value is {@code 0}, which disables the cache and leaves statement caching to the
+	 * JDBC driver or connection pool.
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
@@ -906,6 +933,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Should the named queries be checked on a background thread pool once the SessionFactory is
+	 * built, rather than while building it?  Errors are then logged instead of failing the bootstrap,
+	 * and a named query used before the background check reaches it is compiled on demand.
+	 * The queries are compiled by {@link #BOOTSTRAP_PARALLELISM} threads, and the check stops when
+	 * the SessionFactory is closed.
+	 * <p/>
+	 * Only relevant when {@link #QUERY_STARTUP_CHECKING} is enabled.  Default is {@code false},
+	 * meaning that the bootstrap fails on the first invalid named query.
+	 */
+	String QUERY_STARTUP_CHECKING_BACKGROUND = "hibernate.query.startup_check.background";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -1658,6 +1697,42 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * The number of threads used while building the SessionFactory to instantiate the entity and
+	 * collection persisters, generate their SQL and loaders, and compile the named queries.
+	 * The outcome is the same as when building the SessionFactory on a single thread.
+	 * <p/>
+	 * Custom persisters must then support being instantiated and post-instantiated concurrently
+	 * with other persisters.
+	 * <p/>
+	 * Default is 1, meaning the SessionFactory is built on the calling thread only.
+	 */
+	String BOOTSTRAP_PARALLELISM = "hibernate.bootstrap.parallelism";
+
+	/**
+	 * Should the entity persisters generate their static SQL (insert, update, delete and the various
+	 * selects) and their loaders (per lock mode, merge and refresh, unique keys) the first time they
+	 * are needed, rather than all of them while building the SessionFactory?  This reduces the time
+	 * to build the SessionFactory, and the memory retained by it, for large domain models of which
+	 * only a part is used by the application.
+	 * <p/>
+	 * Note that mapping problems in the generated SQL are then reported when the SQL is first
+	 * needed rather than during bootstrap.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.persister.lazy_initialization";
+
+	/**
+	 * The {@link java.util.concurrent.Executor} (instance, class or class name) on which multi-loads
+	 * requested through {@link org.hibernate.MultiIdentifierLoadAccess#withParallelism} execute their
+	 * batch statements.  The rows are always turned into entities on the thread using the Session.
+	 * <p/>
+	 * Default is a pool of daemon threads shared by all SessionFactories, created as needed and
+	 * discarded once idle.
+	 */
+	String MULTI_LOAD_EXECUTOR = "hibernate.multi_load.executor";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -1731,11 +1806,46 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * Names a {@link org.hibernate.engine.jdbc.spi.SlowQuerySink} receiving the queries which executed slower
+	 * than {@link #LOG_SLOW_QUERY}, instead of logging them.  Can be a class name, a Class or an instance.
+	 */
+	String SLOW_QUERY_SINK = "hibernate.session.events.log.slow_query.sink";
+
+	/**
+	 * Setting that captures the execution plan of the queries which executed slower than {@link #LOG_SLOW_QUERY},
+	 * for the Dialects supporting it.  The query is explained again, with the same bound values, on the same
+	 * connection.  Within a transaction, this happens inside a savepoint which is then rolled back, so that a
+	 * failure does not affect the transaction; without savepoint support, the plan is not captured.
+	 * Default is false.
+	 *
+	 * @see org.hibernate.dialect.Dialect#getExplainPlanString(String)
+	 */
+	String SLOW_QUERY_EXPLAIN = "hibernate.session.events.log.slow_query.explain";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to opened Sessions.
 	 */
 	String AUTO_SESSION_EVENTS_LISTENER = "hibernate.session.events.auto";
 
+	/**
+	 * Setting to detect N+1 selects, i.e. an entity or a collection role being fetched from the database
+	 * {@link #N_PLUS_ONE_SELECT_THRESHOLD} times or more following the same query, within a Session.  Valid values
+	 * are {@code none} (the default), {@code warning} to log a warning and {@code exception} to throw
+	 * a {@link org.hibernate.HibernateException}.
+	 *
+	 * @see org.hibernate.engine.spi.NPlusOneSelectDetectionMode
+	 */
+	String N_PLUS_ONE_SELECT_DETECTION = "hibernate.session.events.n_plus_one.detection";
+
+	/**
+	 * The number of times the same entity or collection role must be fetched following a query for an N+1 select
+	 * to be reported.  Default is 10.
+	 *
+	 * @see #N_PLUS_ONE_SELECT_DETECTION
+	 */
+	String N_PLUS_ONE_SELECT_THRESHOLD = "hibernate.session.events.n_plus_one.threshold";
+
 	/**
 	 * Global setting for whether NULL parameter bindings should be passed to database
 	 * procedure/function calls as part of {@link org.hibernate.procedure.ProcedureCall}
@@ -1835,6 +1945,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String MERGE_ENTITY_COPY_OBSERVER = "hibernate.event.merge.entity_copy_observer";
 
+	/**
+	 * Setting to enable the merge fast path for detached entity graphs.
+	 * <p/>
+	 * When enabled, the managed instances of the detached entities reachable from the merged entity
+	 * through {@code MERGE} cascades are loaded up front, one multi-load per entity type, instead of
+	 * one select per entity.  Also, for versioned entities whose version matches the managed one,
+	 * only the values which actually differ from the managed state are copied.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String MERGE_DETACHED_FAST_PATH = "hibernate.event.merge.detached_fast_path";
+
 	/**
 	 * Setting which indicates whether or not to use {@link org.hibernate.dialect.pagination.LimitHandler}
 	 * implementations that sacrifices performance optimizations to allow legacy 4.x limit behavior.
@@ -2045,6 +2169,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * Names a {@link org.hibernate.stat.spi.MetricsReporter} to which the metrics collected when
+	 * statistics are enabled are also pushed, qualified by tags such as the entity name, cache region or
+	 * tenant.  Accepts a {@code MetricsReporter} instance, its {@link Class} or its fully qualified class name.
+	 * </p>
+	 * By default, no metrics are pushed.
+	 *
+	 * @see org.hibernate.stat.spi.InMemoryMetricsReporter
+	 */
+	String STATISTICS_METRICS_REPORTER = "hibernate.statistics.metrics_reporter";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used when
 	 * Hibernate detects a mismatch between a sequence configuration in an entity mapping
@@ -12,7 +12,9 @@ import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
+import org.hibernate.engine.internal.NPlusOneSelectDetector;
 import org.hibernate.engine.internal.StatisticalLoggingSessionEventListener;
+import org.hibernate.engine.spi.NPlusOneSelectDetectionMode;
 
 /**
  * @author Steve Ebersole
@@ -23,12 +25,24 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private boolean logSessionMetrics;
 	private Class<? extends SessionEventListener> autoListener;
+	private final NPlusOneSelectDetectionMode nPlusOneSelectDetectionMode;
+	private final int nPlusOneSelectThreshold;
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
 			Class<? extends SessionEventListener> autoListener) {
+		this( logSessionMetrics, autoListener, NPlusOneSelectDetectionMode.NONE, 0 );
+	}
+
+	public BaselineSessionEventsListenerBuilder(
+			boolean logSessionMetrics,
+			Class<? extends SessionEventListener> autoListener,
+			NPlusOneSelectDetectionMode nPlusOneSelectDetectionMode,
+			int nPlusOneSelectThreshold) {
 		this.logSessionMetrics = logSessionMetrics;
 		this.autoListener = autoListener;
+		this.nPlusOneSelectDetectionMode = nPlusOneSelectDetectionMode;
+		this.nPlusOneSelectThreshold = nPlusOneSelectThreshold;
 	}
 
 	@SuppressWarnings("UnusedDeclaration")
@@ -59,6 +73,14 @@ public class BaselineSessionEventsListenerBuilder {
 		this.autoListener = autoListener;
 	}
 
+	public NPlusOneSelectDetectionMode getNPlusOneSelectDetectionMode() {
+		return nPlusOneSelectDetectionMode;
+	}
+
+	public int getNPlusOneSelectThreshold() {
+		return nPlusOneSelectThreshold;
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -70,22 +92,21 @@ public class BaselineSessionEventsListenerBuilder {
 	public SessionEventListener[] buildBaseline() {
 		final boolean addStats = logSessionMetrics && StatisticalLoggingSessionEventListener.isLoggingEnabled();
 		final boolean addAutoListener = autoListener != null;
-		final SessionEventListener[] arr;
-		if ( addStats && addAutoListener ) {
-			arr = new SessionEventListener[2];
-			arr[0] = buildStatsListener();
-			arr[1] = buildAutoListener( autoListener );
+		final boolean addNPlusOneSelectDetector = nPlusOneSelectDetectionMode != NPlusOneSelectDetectionMode.NONE;
+		final int size = ( addStats ? 1 : 0 ) + ( addAutoListener ? 1 : 0 ) + ( addNPlusOneSelectDetector ? 1 : 0 );
+		if ( size == 0 ) {
+			return EMPTY;
 		}
-		else if ( !addStats && !addAutoListener ) {
-			arr = EMPTY;
+		final SessionEventListener[] arr = new SessionEventListener[size];
+		int i = 0;
+		if ( addStats ) {
+			arr[i++] = buildStatsListener();
 		}
-		else if ( !addStats && addAutoListener ) {
-			arr = new SessionEventListener[1];
-			arr[0] = buildAutoListener( autoListener );
+		if ( addAutoListener ) {
+			arr[i++] = buildAutoListener( autoListener );
 		}
-		else { //Last case: if ( addStats && !addAutoListener )
-			arr = new SessionEventListener[1];
-			arr[0] = buildStatsListener();
+		if ( addNPlusOneSelectDetector ) {
+			arr[i] = new NPlusOneSelectDetector( nPlusOneSelectDetectionMode, nPlusOneSelectThreshold );
 		}
 		return arr;
 	}
@@ -407,9 +407,17 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 */
 	protected final void write() {
 		initialize( true );
+		discardOperationLog();
 		dirty();
 	}
 
+	/**
+	 * Called when the collection is modified through one of its views or iterators, which bypass
+	 * the operation log kept by some collection types while initialized (see {@link PersistentSet}).
+	 */
+	protected void discardOperationLog() {
+	}
+
 	/**
 	 * Is this collection in a state that would allow us to
 	 * "queue" operations?
@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Iterates the elements of an uninitialized persistent set, bag or list page by page, without
+ * initializing the collection.
+ * <p/>
+ * Sets are paged on the element (the identifier of entity elements) and lists on the index, using
+ * keyset pagination; bags, which may contain duplicates, are paged using offsets, as are sets whose
+ * elements are keyed by a composite identifier, which cannot be compared as a single value.  Sets and
+ * bags of LOBs, which cannot be ordered, are not paged.
+ *
+ * @see org.hibernate.Hibernate#pagedIterator
+ */
+public final class PagedCollectionIterator<T> implements Iterator<T> {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PagedCollectionIterator.class );
+
+	private enum Paging {
+		ELEMENT,
+		INDEX,
+		OFFSET
+	}
+
+	private final AbstractPersistentCollection collection;
+	private final SharedSessionContractImplementor session;
+	private final boolean entityElements;
+	private final Serializable ownerId;
+	private final String firstPageQuery;
+	private final String nextPageQuery;
+	private final Paging paging;
+	private final int pageSize;
+
+	private List page = Collections.emptyList();
+	private int position;
+	private int offset;
+	private Object lastKey;
+	private boolean exhausted;
+
+	private PagedCollectionIterator(
+			AbstractPersistentCollection collection,
+			boolean entityElements,
+			Serializable ownerId,
+			String firstPageQuery,
+			String nextPageQuery,
+			Paging paging,
+			int pageSize) {
+		this.collection = collection;
+		this.session = collection.getSession();
+		this.entityElements = entityElements;
+		this.ownerId = ownerId;
+		this.firstPageQuery = firstPageQuery;
+		this.nextPageQuery = nextPageQuery;
+		this.paging = paging;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Create a paged iterator over the elements of the given collection.
+	 *
+	 * @param collection The collection
+	 * @param pageSize The maximum number of elements loaded at once
+	 *
+	 * @return The iterator, or {@code null} if the collection cannot be iterated page by page (it is
+	 * initialized, not connected to an open session, has queued operations, or is not a set, bag or
+	 * list of entities or basic values other than LOBs).
+	 */
+	public static <T> PagedCollectionIterator<T> create(Object collection, int pageSize) {
+		if ( pageSize < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive: " + pageSize );
+		}
+		if ( !( collection instanceof PersistentSet
+				|| collection instanceof PersistentBag
+				|| collection instanceof PersistentIdentifierBag
+				|| collection instanceof PersistentList ) ) {
+			return null;
+		}
+		final AbstractPersistentCollection persistentCollection = (AbstractPersistentCollection) collection;
+		if ( persistentCollection.wasInitialized()
+				|| !persistentCollection.isConnectedToSession()
+				|| persistentCollection.hasQueuedOperations()
+				|| persistentCollection.getOwner() == null ) {
+			return null;
+		}
+
+		final SharedSessionContractImplementor session = persistentCollection.getSession();
+		final CollectionPersister persister = session.getFactory()
+				.getMetamodel()
+				.collectionPersister( persistentCollection.getRole() );
+		final EntityPersister ownerPersister = persister.getOwnerEntityPersister();
+		final String ownerIdName = ownerPersister.getIdentifierPropertyName();
+		final String rolePrefix = ownerPersister.getEntityName() + '.';
+		if ( ownerIdName == null || !persister.getRole().startsWith( rolePrefix ) ) {
+			return null;
+		}
+
+		final Type elementType = persister.getElementType();
+		final EntityPersister elementPersister;
+		final String elementKey;
+		if ( elementType.isEntityType() ) {
+			elementPersister = session.getFactory()
+					.getMetamodel()
+					.entityPersister( ( (EntityType) elementType ).getAssociatedEntityName( session.getFactory() ) );
+			if ( elementPersister.getIdentifierPropertyName() == null ) {
+				return null;
+			}
+			elementKey = "e." + elementPersister.getIdentifierPropertyName();
+		}
+		else if ( elementType.isComponentType() || elementType.isAnyType() ) {
+			return null;
+		}
+		else {
+			elementPersister = null;
+			elementKey = "e";
+		}
+
+		final Type elementKeyType = elementPersister != null ? elementPersister.getIdentifierType() : elementType;
+
+		final Paging paging;
+		final String select;
+		final String orderBy;
+		if ( collection instanceof PersistentList ) {
+			paging = Paging.INDEX;
+			select = "select e, index(e)";
+			orderBy = "index(e)";
+		}
+		else if ( isLob( elementKeyType, session ) ) {
+			// neither keyset nor offset pagination can order on it
+			return null;
+		}
+		else if ( collection instanceof PersistentSet && !elementKeyType.isComponentType() ) {
+			paging = Paging.ELEMENT;
+			select = "select e";
+			orderBy = elementKey;
+		}
+		else {
+			paging = Paging.OFFSET;
+			select = "select e";
+			orderBy = orderByColumns( elementKey, elementKeyType );
+		}
+
+		final String from = select
+				+ " from " + ownerPersister.getEntityName() + " o"
+				+ " join o." + persister.getRole().substring( rolePrefix.length() ) + " e"
+				+ " where o." + ownerIdName + " = :ownerId";
+		final String order = " order by " + orderBy;
+
+		return new PagedCollectionIterator<>(
+				persistentCollection,
+				elementPersister != null,
+				ownerPersister.getIdentifier( persistentCollection.getOwner(), session ),
+				from + order,
+				paging == Paging.OFFSET ? from + order : from + " and " + orderBy + " > :lastKey" + order,
+				paging,
+				pageSize
+		);
+	}
+
+	private static String orderByColumns(String path, Type type) {
+		if ( !type.isComponentType() ) {
+			return path;
+		}
+		// spell out the attributes of the composite, rather than relying on the expansion of its path
+		final CompositeType compositeType = (CompositeType) type;
+		final String[] propertyNames = compositeType.getPropertyNames();
+		final Type[] propertyTypes = compositeType.getSubtypes();
+		final StringBuilder orderBy = new StringBuilder();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			if ( i > 0 ) {
+				orderBy.append( ", " );
+			}
+			orderBy.append( orderByColumns( path + '.' + propertyNames[i], propertyTypes[i] ) );
+		}
+		return orderBy.toString();
+	}
+
+	private static boolean isLob(Type type, SharedSessionContractImplementor session) {
+		for ( int sqlType : type.sqlTypes( session.getFactory() ) ) {
+			if ( sqlType == Types.BLOB || sqlType == Types.CLOB || sqlType == Types.NCLOB ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( position < page.size() ) {
+			return true;
+		}
+		if ( exhausted ) {
+			return false;
+		}
+		fetchPage();
+		return position < page.size();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		final Object row = page.get( position++ );
+		switch ( paging ) {
+			case INDEX: {
+				final Object[] tuple = (Object[]) row;
+				lastKey = tuple[1];
+				return (T) tuple[0];
+			}
+			case ELEMENT: {
+				lastKey = entityElements ? session.getContextEntityIdentifier( row ) : row;
+				return (T) row;
+			}
+			default: {
+				return (T) row;
+			}
+		}
+	}
+
+	private void fetchPage() {
+		if ( !session.isOpen() ) {
+			throw new LazyInitializationException(
+					"could not iterate collection " + collection.getRole() + " - no Session"
+			);
+		}
+
+		final boolean first = offset == 0;
+		final Query query = session.createQuery( first ? firstPageQuery : nextPageQuery )
+				.setParameter( "ownerId", ownerId )
+				.setMaxResults( pageSize );
+		if ( paging == Paging.OFFSET ) {
+			query.setFirstResult( offset );
+		}
+		else if ( !first ) {
+			query.setParameter( "lastKey", lastKey );
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef( "Fetching page of collection %s at offset %s", collection.getRole(), offset );
+		}
+		page = query.list();
+		position = 0;
+		offset += page.size();
+		exhausted = page.size() < pageSize;
+	}
+}
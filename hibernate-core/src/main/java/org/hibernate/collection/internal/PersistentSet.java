@@ -12,11 +12,13 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.CollectionAliases;
@@ -34,6 +36,8 @@ import org.hibernate.type.Type;
 public class PersistentSet extends AbstractPersistentCollection implements java.util.Set {
 	protected Set set;
 	protected transient List tempList;
+	// the elements added and removed since the snapshot was taken, see #getSnapshot(CollectionPersister)
+	private transient OperationLog operationLog;
 
 	/**
 	 * Empty constructor.
@@ -100,14 +104,66 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		final OperationLog log = trackedOperationLog();
+		if ( log != null ) {
+			// bring the current snapshot up to date rather than copying the whole set
+			final java.util.Map snapshot = (java.util.Map) log.snapshot;
+			for ( Object removed : log.removed ) {
+				snapshot.remove( removed );
+			}
+			for ( Object added : log.added ) {
+				snapshot.put( added, added );
+			}
+			log.added.clear();
+			log.removed.clear();
+			return log.snapshot;
+		}
+
 		final HashMap clonedSet = new HashMap( set.size() );
 		for ( Object aSet : set ) {
 			final Object copied = persister.getElementType().deepCopy( aSet, persister.getFactory() );
 			clonedSet.put( copied, copied );
 		}
+
+		// changes to immutable elements can be tracked as they happen; mutable elements
+		// still require the full comparison against the snapshot
+		operationLog = persister.getElementType().isMutable() || set instanceof java.util.SortedSet
+				? null
+				: new OperationLog( clonedSet );
 		return clonedSet;
 	}
 
+	/**
+	 * The operation log of the set, if it is complete relative to the current snapshot.
+	 */
+	private OperationLog trackedOperationLog() {
+		final OperationLog log = operationLog;
+		if ( log == null || isDirectlyAccessible() || getSession() == null ) {
+			return null;
+		}
+		final CollectionEntry entry = getSession().getPersistenceContextInternal().getCollectionEntry( this );
+		return entry != null && entry.getSnapshot() == log.snapshot ? log : null;
+	}
+
+	@Override
+	protected void discardOperationLog() {
+		operationLog = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void logAddition(Object value) {
+		if ( operationLog != null && !operationLog.removed.remove( value ) ) {
+			operationLog.added.add( value );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void logRemoval(Object value) {
+		if ( operationLog != null && !operationLog.added.remove( value ) ) {
+			operationLog.removed.add( value );
+		}
+	}
+
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
 		final java.util.Map sn = (java.util.Map) snapshot;
@@ -209,6 +265,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.add( value ) ) {
+				logAddition( value );
 				dirty();
 				return true;
 			}
@@ -231,6 +288,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.remove( value ) ) {
+				logRemoval( value );
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -261,6 +319,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean addAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			discardOperationLog();
 			if ( set.addAll( coll ) ) {
 				dirty();
 				return true;
@@ -278,6 +337,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
 		initialize( true );
+		discardOperationLog();
 		if ( set.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -292,6 +352,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean removeAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			discardOperationLog();
 			if ( set.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -314,6 +375,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		}
 		else {
 			initialize( true );
+			discardOperationLog();
 			if ( !set.isEmpty() ) {
 				set.clear();
 				dirty();
@@ -379,6 +441,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final OperationLog log = trackedOperationLog();
+		if ( log != null ) {
+			return new ArrayList( log.removed ).iterator();
+		}
+
 		final Type elementType = persister.getElementType();
 		final java.util.Map sn = (java.util.Map) getSnapshot();
 		final ArrayList deletes = new ArrayList( sn.size() );
@@ -405,6 +472,13 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		return deletes.iterator();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator insertCandidates(CollectionPersister persister) {
+		final OperationLog log = trackedOperationLog();
+		return log == null ? set.iterator() : new ArrayList( log.added ).iterator();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
@@ -474,6 +548,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
+			discardOperationLog();
 			set.clear();
 		}
 
@@ -497,7 +572,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
-			set.add( getAddedInstance() );
+			if ( set.add( getAddedInstance() ) ) {
+				logAddition( getAddedInstance() );
+			}
 		}
 	}
 
@@ -510,7 +587,23 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
-			set.remove( getOrphan() );
+			if ( set.remove( getOrphan() ) ) {
+				logRemoval( getOrphan() );
+			}
+		}
+	}
+
+	/**
+	 * The elements added to and removed from the set since its snapshot was taken.  Applying them to
+	 * the snapshot gives the current state of the set.
+	 */
+	private static final class OperationLog {
+		private final Serializable snapshot;
+		private final Set added = new HashSet();
+		private final Set removed = new HashSet();
+
+		private OperationLog(Serializable snapshot) {
+			this.snapshot = snapshot;
 		}
 	}
 }
@@ -157,6 +157,18 @@ public interface PersistentCollection {
 	 */
 	Iterator entries(CollectionPersister persister);
 
+	/**
+	 * Iterate the collection entries which may need inserting during update of the database
+	 * (see {@link #needsInserting}).  By default, all the collection entries.
+	 *
+	 * @param persister The collection persister.
+	 *
+	 * @return The iterator
+	 */
+	default Iterator insertCandidates(CollectionPersister persister) {
+		return entries( persister );
+	}
+
 	/**
 	 * Read a row from the JDBC result set
 	 *
@@ -2430,6 +2430,59 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support restricting a single column to the elements of
+	 * a single {@link java.sql.Array} parameter?
+	 * <p/>
+	 * For example, "... where ID = any (?) ...".  Dynamic batch fetching uses this
+	 * in place of an IN list, so that the same SQL is used whatever the number of
+	 * keys in a batch.
+	 *
+	 * @return True if this dialect supports array restrictions; false otherwise.
+	 *
+	 * @see #getArrayRestrictionFragment
+	 * @see #bindArrayRestrictionParameter
+	 */
+	public boolean supportsArrayRestriction() {
+		return false;
+	}
+
+	/**
+	 * Build the SQL fragment restricting the given column to the elements of the
+	 * single array parameter.  Only called when {@link #supportsArrayRestriction()}.
+	 *
+	 * @param columnName The (qualified) column name
+	 *
+	 * @return The restriction fragment, containing a single parameter placeholder.
+	 */
+	public String getArrayRestrictionFragment(String columnName) {
+		return columnName + " = any (?)";
+	}
+
+	/**
+	 * Bind the values of an array restriction parameter (see {@link #getArrayRestrictionFragment}).
+	 *
+	 * @param statement The statement to bind to
+	 * @param position The parameter position
+	 * @param values The values to bind
+	 * @param sqlTypeCode The JDBC type code of the restricted column
+	 *
+	 * @throws SQLException Indicates a problem binding the values
+	 */
+	public void bindArrayRestrictionParameter(
+			PreparedStatement statement,
+			int position,
+			Object[] values,
+			int sqlTypeCode) throws SQLException {
+		String typeName = getTypeName( sqlTypeCode );
+		final int parenthesis = typeName.indexOf( '(' );
+		if ( parenthesis > 0 ) {
+			// drop any length/precision/scale placeholders
+			typeName = typeName.substring( 0, parenthesis );
+		}
+		statement.setArray( position, statement.getConnection().createArrayOf( typeName, values ) );
+	}
+
 	/**
 	 * Should LOBs (both BLOB and CLOB) be bound using stream operations (i.e.
 	 * {@link PreparedStatement#setBinaryStream}).
@@ -2850,6 +2903,19 @@ public abstract class Dialect implements ConversionContext {
 		return query;
 	}
 
+	/**
+	 * Build the SQL statement returning the execution plan of the given statement as a result set, to capture
+	 * the execution plan of slow queries.  By default, execution plans are not supported.
+	 *
+	 * @param sql The statement to explain; its parameters are bound to the returned statement as well.
+	 * @return The statement returning the execution plan, or {@code null} if not supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 */
+	public String getExplainPlanString(String sql) {
+		return null;
+	}
+
 	/**
 	 * Certain dialects support a subset of ScrollModes.  Provide a default to be used by Criteria and Query.
 	 *
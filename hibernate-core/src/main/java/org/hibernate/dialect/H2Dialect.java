@@ -461,6 +461,11 @@ public class H2Dialect extends Dialect {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
 	}
 
+	@Override
+	public String getExplainPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean supportsSelectAliasInGroupByClause() {
 		return true;
@@ -703,4 +703,9 @@ public class HSQLDialect extends Dialect {
 	public String getCascadeConstraintsString() {
 		return " CASCADE ";
 	}
+
+	@Override
+	public String getExplainPlanString(String sql) {
+		return "explain plan for " + sql;
+	}
 }
@@ -605,6 +605,11 @@ public class MySQLDialect extends Dialect {
 		return ESCAPE_PATTERN.matcher( super.escapeLiteral( literal ) ).replaceAll( ESCAPE_PATTERN_REPLACEMENT );
 	}
 
+	@Override
+	public String getExplainPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean supportsSelectAliasInGroupByClause() {
 		return true;
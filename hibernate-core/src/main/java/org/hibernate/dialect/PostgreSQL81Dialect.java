@@ -591,6 +591,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayRestriction() {
+		return true;
+	}
+
 	@Override
 	public String getForUpdateNowaitString() {
 		return getForUpdateString() + " nowait ";
@@ -644,6 +649,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public String getExplainPlanString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean supportsSelectAliasInGroupByClause() {
 		return true;
@@ -11,6 +11,8 @@ import java.io.Serializable;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 
 /**
  * @author Steve Ebersole
@@ -26,6 +28,8 @@ public final class CacheHelper {
 			Object cacheKey,
 			CachedDomainDataAccess cacheAccess) {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
 		Serializable cachedValue = null;
 		eventListenerManager.cacheGetStart();
 		try {
@@ -33,6 +37,14 @@ public final class CacheHelper {
 		}
 		finally {
 			eventListenerManager.cacheGetEnd( cachedValue != null );
+			if ( cacheGetEvent != null ) {
+				eventMonitor.completeCacheGetEvent(
+						cacheGetEvent,
+						session,
+						cacheAccess.getRegion().getName(),
+						cachedValue != null
+				);
+			}
 		}
 		return cachedValue;
 	}
@@ -7,6 +7,7 @@
 package org.hibernate.engine.internal;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -16,6 +17,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterc
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -79,7 +81,8 @@ public final class Cascade {
 			final Object parent,
 			final Object anything) throws HibernateException {
 
-		if ( persister.hasCascades() || action.requiresNoCascadeChecking() ) { // performance opt
+		final int[] propertyIndexes = persister.getCascadingPropertyIndexes( action );
+		if ( propertyIndexes.length > 0 ) { // performance opt
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -91,7 +94,7 @@ public final class Cascade {
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( parent );
 			final int componentPathStackDepth = 0;
-			for ( int i = 0; i < types.length; i++) {
+			for ( int i : propertyIndexes ) {
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final boolean isUninitializedProperty =
@@ -195,6 +198,43 @@ public final class Cascade {
 		}
 	}
 
+	/**
+	 * Determine the indexes of the properties which need to be visited when cascading the given
+	 * action, based on their cascade styles and types.  The result is meant to be computed once
+	 * per entity and action (see {@link EntityPersister#getCascadingPropertyIndexes}).
+	 *
+	 * @param action The cascading action
+	 * @param cascadeStyles The cascade styles of the properties
+	 * @param types The types of the properties
+	 *
+	 * @return The indexes of the properties to visit, in property order; an empty array
+	 * if the action never needs to visit any property.
+	 */
+	public static int[] resolveCascadingPropertyIndexes(
+			final CascadingAction action,
+			final CascadeStyle[] cascadeStyles,
+			final Type[] types) {
+		final int[] indexes = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( requiresVisit( action, cascadeStyles[i], types[i] ) ) {
+				indexes[count++] = i;
+			}
+		}
+		return count == indexes.length ? indexes : Arrays.copyOf( indexes, count );
+	}
+
+	private static boolean requiresVisit(final CascadingAction action, final CascadeStyle style, final Type type) {
+		if ( style.doCascade( action ) ) {
+			return true;
+		}
+		if ( action.requiresNoCascadeChecking() ) {
+			// only the built-in action is known to check entity associations exclusively
+			return action != CascadingActions.PERSIST_ON_FLUSH || type.isEntityType();
+		}
+		return action.deleteOrphans() && style.hasOrphanDelete() && isLogicalOneToOne( type );
+	}
+
 	/**
 	 * Cascade an action to the child or children
 	 */
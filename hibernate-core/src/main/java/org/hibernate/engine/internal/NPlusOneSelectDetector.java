@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.NPlusOneSelectDetectionMode;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Detects N+1 selects within a Session: counts the entity proxies and collections fetched from the
+ * database, per entity name or collection role, following each query, and reports the ones fetched
+ * at least {@code threshold} times.
+ * <p/>
+ * Only the fetches actually hitting the database are counted, so associations fetched in batches
+ * (through the {@link org.hibernate.engine.spi.BatchFetchQueue}) or from the second-level cache are
+ * reported accordingly less often.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_DETECTION
+ */
+public class NPlusOneSelectDetector extends BaseSessionEventListener {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NPlusOneSelectDetector.class );
+
+	private final NPlusOneSelectDetectionMode mode;
+	private final int threshold;
+
+	private String query;
+	private Map<String, Integer> fetchCounts;
+
+	public NPlusOneSelectDetector(NPlusOneSelectDetectionMode mode, int threshold) {
+		this.mode = mode;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void queryExecution(String query) {
+		reportFetches();
+		this.query = query;
+	}
+
+	@Override
+	public void associationFetch(String role) {
+		if ( fetchCounts == null ) {
+			fetchCounts = new HashMap<>();
+		}
+		final int count = fetchCounts.merge( role, 1, Integer::sum );
+		if ( count == threshold && mode == NPlusOneSelectDetectionMode.EXCEPTION ) {
+			throw new HibernateException( message( role, count ) );
+		}
+	}
+
+	@Override
+	public void end() {
+		reportFetches();
+	}
+
+	private void reportFetches() {
+		if ( fetchCounts == null ) {
+			return;
+		}
+		if ( mode == NPlusOneSelectDetectionMode.WARNING ) {
+			for ( Map.Entry<String, Integer> entry : fetchCounts.entrySet() ) {
+				if ( entry.getValue() >= threshold ) {
+					LOG.warn( message( entry.getKey(), entry.getValue() ) );
+				}
+			}
+		}
+		fetchCounts = null;
+	}
+
+	private String message(String role, int count) {
+		return "N+1 selects detected: " + role + " was fetched " + count + " times following "
+				+ ( query == null ? "no query" : "query [" + query + "]" );
+	}
+}
@@ -211,8 +211,9 @@ public class NaturalIdXrefDelegate {
 		NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
 
 		Serializable pk;
-		final CachedNaturalId cachedNaturalId = new CachedNaturalId( persister, naturalIdValues );
 		if ( entityNaturalIdResolutionCache != null ) {
+			// a single lookup key serves both the resolution and the invalid reference checks
+			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.lookupKey( naturalIdValues );
 			pk = entityNaturalIdResolutionCache.naturalIdToPkMap.get( cachedNaturalId );
 
 			// Found in session cache
@@ -229,7 +230,7 @@ public class NaturalIdXrefDelegate {
 			}
 
 			// if we did not find a hit, see if we know about these natural ids as invalid...
-			if ( entityNaturalIdResolutionCache.containsInvalidNaturalIdReference( naturalIdValues ) ) {
+			if ( entityNaturalIdResolutionCache.containsInvalidNaturalIdReference( cachedNaturalId ) ) {
 				return PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
 			}
 		}
@@ -278,6 +279,7 @@ public class NaturalIdXrefDelegate {
 				}
 			}
 
+			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.lookupKey( naturalIdValues );
 			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
 			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
 		}
@@ -359,23 +361,20 @@ public class NaturalIdXrefDelegate {
 		private final Type[] naturalIdTypes;
 		private int hashCode;
 
-		public CachedNaturalId(EntityPersister persister, Object[] values) {
+		public CachedNaturalId(EntityPersister persister, Type[] naturalIdTypes, Object[] values) {
 			this.persister = persister;
 			this.values = values;
+			this.naturalIdTypes = naturalIdTypes;
 
 			final int prime = 31;
 			int hashCodeCalculation = 1;
 			hashCodeCalculation = prime * hashCodeCalculation + persister.hashCode();
 
-			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
-			naturalIdTypes = new Type[ naturalIdPropertyIndexes.length ];
-			int i = 0;
-			for ( int naturalIdPropertyIndex : naturalIdPropertyIndexes ) {
-				final Type type = persister.getPropertyType( persister.getPropertyNames()[ naturalIdPropertyIndex ] );
-				naturalIdTypes[i] = type;
-				final int elementHashCode = values[i] == null ? 0 :type.getHashCode( values[i], persister.getFactory() );
+			for ( int i = 0; i < naturalIdTypes.length; i++ ) {
+				final int elementHashCode = values[i] == null
+						? 0
+						: naturalIdTypes[i].getHashCode( values[i], persister.getFactory() );
 				hashCodeCalculation = prime * hashCodeCalculation + elementHashCode;
-				i++;
 			}
 
 			this.hashCode = hashCodeCalculation;
@@ -428,8 +427,22 @@ public class NaturalIdXrefDelegate {
 
 		private List<CachedNaturalId> invalidNaturalIdList;
 
+		// resolved once per persister rather than for each key
+		private final Type[] naturalIdTypes;
+
 		private NaturalIdResolutionCache(EntityPersister persister) {
 			this.persister = persister;
+
+			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			this.naturalIdTypes = new Type[ naturalIdPropertyIndexes.length ];
+			for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+				naturalIdTypes[i] = propertyTypes[ naturalIdPropertyIndexes[i] ];
+			}
+		}
+
+		public CachedNaturalId lookupKey(Object[] naturalIdValues) {
+			return new CachedNaturalId( persister, naturalIdTypes, naturalIdValues );
 		}
 
 		public EntityPersister getPersister() {
@@ -461,7 +474,7 @@ public class NaturalIdXrefDelegate {
 				naturalIdToPkMap.remove( initial );
 			}
 
-			final CachedNaturalId cachedNaturalId = new CachedNaturalId( persister, naturalIdValues );
+			final CachedNaturalId cachedNaturalId = lookupKey( naturalIdValues );
 			pkToNaturalIdMap.put( pk, cachedNaturalId );
 			naturalIdToPkMap.put( cachedNaturalId, pk );
 			
@@ -472,12 +485,11 @@ public class NaturalIdXrefDelegate {
 			if ( invalidNaturalIdList == null ) {
 				invalidNaturalIdList = new ArrayList<>();
 			}
-			invalidNaturalIdList.add( new CachedNaturalId( persister, invalidNaturalIdValues ) );
+			invalidNaturalIdList.add( lookupKey( invalidNaturalIdValues ) );
 		}
 
-		public boolean containsInvalidNaturalIdReference(Object[] naturalIdValues) {
-			return invalidNaturalIdList != null
-					&& invalidNaturalIdList.contains( new CachedNaturalId( persister, naturalIdValues ) );
+		public boolean containsInvalidNaturalIdReference(CachedNaturalId naturalId) {
+			return invalidNaturalIdList != null && invalidNaturalIdList.contains( naturalId );
 		}
 
 		public void unStashInvalidNaturalIdReferences() {
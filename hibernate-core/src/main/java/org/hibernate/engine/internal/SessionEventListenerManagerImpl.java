@@ -273,6 +273,28 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void queryExecution(String query) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecution( query );
+		}
+	}
+
+	@Override
+	public void associationFetch(String role) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.associationFetch( role );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
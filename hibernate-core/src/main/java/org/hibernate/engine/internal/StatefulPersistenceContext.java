@@ -335,7 +335,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		persister = locateProperPersister( persister );
 
 		// let's first see if it is part of the natural id cache...
-		final Object[] cachedValue = naturalIdHelper.findCachedNaturalId( persister, id );
+		final Object[] cachedValue = getNaturalIdHelper().findCachedNaturalId( persister, id );
 		if ( cachedValue != null ) {
 			return cachedValue;
 		}
@@ -344,7 +344,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( persister.getEntityMetamodel().hasImmutableNaturalId() ) {
 			// an immutable natural-id is not retrieved during a normal database-snapshot operation...
 			final Object[] dbValue = persister.getNaturalIdentifierSnapshot( id, session );
-			naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad(
+			getNaturalIdHelper().cacheNaturalIdCrossReferenceFromLoad(
 					persister,
 					id,
 					dbValue
@@ -364,7 +364,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			for ( int i = 0; i < props.length; i++ ) {
 				naturalIdSnapshotSubSet[i] = entitySnapshot[ props[i] ];
 			}
-			naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad(
+			getNaturalIdHelper().cacheNaturalIdCrossReferenceFromLoad(
 					persister,
 					id,
 					naturalIdSnapshotSubSet
@@ -1941,7 +1941,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return naturalIdXrefDelegate;
 	}
 
-	private final NaturalIdHelper naturalIdHelper = new NaturalIdHelper() {
+	//Lazily initialized
+	private NaturalIdHelper naturalIdHelper;
+
+	private class NaturalIdHelperImpl implements NaturalIdHelper {
 		@Override
 		public void cacheNaturalIdCrossReferenceFromLoad(
 				EntityPersister persister,
@@ -2177,7 +2180,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		@Override
 		public Object[] findCachedNaturalId(EntityPersister persister, Serializable pk) {
-			return getNaturalIdXrefDelegate().findCachedNaturalId( locateProperPersister( persister ), pk );
+			if ( naturalIdXrefDelegate == null ) {
+				// nothing cached yet
+				return null;
+			}
+			return naturalIdXrefDelegate.findCachedNaturalId( locateProperPersister( persister ), pk );
 		}
 
 		@Override
@@ -2220,7 +2227,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		@Override
 		public Collection<Serializable> getCachedPkResolutions(EntityPersister entityPersister) {
-			return getNaturalIdXrefDelegate().getCachedPkResolutions( entityPersister );
+			if ( naturalIdXrefDelegate == null ) {
+				// nothing cached yet
+				return Collections.emptyList();
+			}
+			return naturalIdXrefDelegate.getCachedPkResolutions( entityPersister );
 		}
 
 		@Override
@@ -2255,7 +2266,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		@Override
 		public void cleanupFromSynchronizations() {
-			getNaturalIdXrefDelegate().unStashInvalidNaturalIdReferences();
+			// called after each flush: avoid creating the delegate just to find nothing to clean up
+			if ( naturalIdXrefDelegate != null ) {
+				naturalIdXrefDelegate.unStashInvalidNaturalIdReferences();
+			}
 		}
 
 		@Override
@@ -2266,10 +2280,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					findCachedNaturalId( persister, identifier )
 			);
 		}
-	};
+	}
 
 	@Override
 	public NaturalIdHelper getNaturalIdHelper() {
+		if ( naturalIdHelper == null ) {
+			naturalIdHelper = new NaturalIdHelperImpl();
+		}
 		return naturalIdHelper;
 	}
 
@@ -25,6 +25,8 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
@@ -284,6 +286,8 @@ public final class TwoPhaseLoad {
 			}
 			else {
 				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+				final EventMonitor eventMonitor = factory.getEventMonitor();
+				final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 				try {
 					eventListenerManager.cachePutStart();
 					final boolean put = cache.putFromLoad(
@@ -303,6 +307,9 @@ public final class TwoPhaseLoad {
 				}
 				finally {
 					eventListenerManager.cachePutEnd();
+					if ( cachePutEvent != null ) {
+						eventMonitor.completeCachePutEvent( cachePutEvent, session, cache.getRegion().getName() );
+					}
 				}
 			}
 		}
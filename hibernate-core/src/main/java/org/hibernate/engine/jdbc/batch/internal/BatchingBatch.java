@@ -9,11 +9,18 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.MetricNames;
+import org.hibernate.stat.spi.MetricTags;
+import org.hibernate.stat.spi.MetricsReporter;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -108,11 +115,18 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	private void performExecution() {
 		LOG.debugf( "Executing batch size: %s", batchPosition );
+		final MetricsReporter metricsReporter = metricsReporter();
+		final EventMonitor eventMonitor = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getEventMonitor();
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				String sql = entry.getKey();
 				try {
 					final PreparedStatement statement = entry.getValue();
+					final long start = metricsReporter == null ? 0 : System.nanoTime();
+					final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
 					final int[] rowCounts;
 					try {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
@@ -121,6 +135,14 @@ public class BatchingBatch extends AbstractBatchImpl {
 					finally {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
 					}
+					if ( executionEvent != null ) {
+						eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, rowCounts.length, sum( rowCounts ) );
+					}
+					if ( metricsReporter != null ) {
+						final MetricTags tags = getJdbcCoordinator().getMetricTags();
+						metricsReporter.recordTime( MetricNames.BATCH_EXECUTION, System.nanoTime() - start, TimeUnit.NANOSECONDS, tags );
+						metricsReporter.count( MetricNames.BATCH_STATEMENTS, rowCounts.length, tags );
+					}
 					checkRowCounts( rowCounts, statement );
 				}
 				catch ( SQLException e ) {
@@ -140,6 +162,25 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	private static int sum(int[] rowCounts) {
+		int sum = 0;
+		for ( int rowCount : rowCounts ) {
+			// ignore Statement.SUCCESS_NO_INFO
+			if ( rowCount > 0 ) {
+				sum += rowCount;
+			}
+		}
+		return sum;
+	}
+
+	private MetricsReporter metricsReporter() {
+		final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		return statistics.isStatisticsEnabled() ? statistics.getMetricsReporter() : null;
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
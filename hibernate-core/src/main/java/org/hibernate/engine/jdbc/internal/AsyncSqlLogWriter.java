@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.RingBuffer;
+
+/**
+ * Performs the (formatting and) writing of logged SQL statements on a background thread, so that the
+ * threads executing the statements only pay for adding them to a {@link RingBuffer}.
+ * <p/>
+ * The statements logged while the buffer is full are dropped; their number is reported by a warning.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#LOG_SQL_ASYNC
+ */
+public final class AsyncSqlLogWriter implements Runnable {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AsyncSqlLogWriter.class );
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+	private final RingBuffer<Runnable> buffer;
+	private final Thread thread;
+	private volatile boolean running = true;
+
+	private long reportedDroppedCount;
+
+	public AsyncSqlLogWriter(int bufferSize) {
+		this.buffer = new RingBuffer<>( bufferSize );
+		this.thread = new Thread( this, "Hibernate SQL logger" );
+		this.thread.setDaemon( true );
+		this.thread.start();
+	}
+
+	/**
+	 * Schedule the writing of a log entry, unless the buffer is full.
+	 *
+	 * @param logAction The action writing the log entry
+	 */
+	public void write(Runnable logAction) {
+		buffer.offer( logAction );
+	}
+
+	/**
+	 * @return The number of log entries dropped so far, as the buffer was full
+	 */
+	public long getDroppedCount() {
+		return buffer.getDroppedCount();
+	}
+
+	@Override
+	public void run() {
+		while ( running ) {
+			if ( !drain() ) {
+				LockSupport.parkNanos( this, IDLE_PARK_NANOS );
+			}
+		}
+		drain();
+	}
+
+	private boolean drain() {
+		boolean drained = false;
+		Runnable logAction;
+		while ( ( logAction = buffer.poll() ) != null ) {
+			drained = true;
+			try {
+				logAction.run();
+			}
+			catch (RuntimeException e) {
+				LOG.debug( "Unable to write SQL log entry", e );
+			}
+		}
+
+		final long droppedCount = buffer.getDroppedCount();
+		if ( droppedCount > reportedDroppedCount ) {
+			LOG.warnf(
+					"%s SQL statements were not logged, as the asynchronous SQL logging buffer (of size %s) was full",
+					droppedCount - reportedDroppedCount,
+					buffer.capacity()
+			);
+			reportedDroppedCount = droppedCount;
+		}
+		return drained;
+	}
+
+	/**
+	 * Stop the background thread, once the pending log entries are written.
+	 */
+	public void stop() {
+		running = false;
+		LockSupport.unpark( thread );
+		try {
+			thread.join( TimeUnit.SECONDS.toMillis( 5 ) );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.util.Set;
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -34,6 +35,7 @@ import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -42,9 +44,14 @@ import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.stat.spi.MetricNames;
+import org.hibernate.stat.spi.MetricTags;
+import org.hibernate.stat.spi.MetricsReporter;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -65,6 +72,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	private transient MetricTags metricTags;
+
+	private transient SlowQueryLog slowQueryLog;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -86,8 +97,19 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		JdbcObserver observer = owner.getJdbcSessionContext().getObserver();
+		if ( jdbcServices.getSqlStatementLogger().getLogSlowQuery() > 0 ) {
+			this.slowQueryLog = new SlowQueryLog( this, jdbcServices );
+			observer = slowQueryLog.observe( observer );
+		}
+
+		// connections released after each statement would never get to reuse a cached statement
+		final boolean releasedAfterStatement = !isUserSuppliedConnection
+				&& owner.getJdbcSessionContext().getPhysicalConnectionHandlingMode().getReleaseMode()
+						== ConnectionReleaseMode.AFTER_STATEMENT;
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				observer,
+				releasedAfterStatement ? 0 : owner.getJdbcSessionContext().getStatementCacheSize()
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -186,12 +208,36 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			else {
 				currentBatch.execute();
 				currentBatch.release();
+				if ( currentBatch instanceof BatchingBatch ) {
+					reportBatchSwitch();
+				}
 			}
 		}
 		currentBatch = batchBuilder().buildBatch( key, this );
 		return currentBatch;
 	}
 
+	private void reportBatchSwitch() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final MetricsReporter metricsReporter = statistics.getMetricsReporter();
+			if ( metricsReporter != null ) {
+				metricsReporter.count( MetricNames.BATCH_SWITCH, 1, getMetricTags() );
+			}
+		}
+	}
+
+	@Override
+	public MetricTags getMetricTags() {
+		if ( metricTags == null ) {
+			final String tenantIdentifier = owner instanceof SharedSessionContractImplementor
+					? ( (SharedSessionContractImplementor) owner ).getTenantIdentifier()
+					: null;
+			metricTags = MetricTags.of( MetricTags.TENANT, tenantIdentifier );
+		}
+		return metricTags;
+	}
+
 	@Override
 	public void executeBatch() {
 		if ( currentBatch != null ) {
@@ -223,11 +269,22 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public ResultSetReturn getResultSetReturn() {
 		if ( resultSetExtractor == null ) {
-			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices );
+			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices, slowQueryLog );
 		}
 		return resultSetExtractor;
 	}
 
+	/**
+	 * The log of the slow statements executed by this coordinator, which also has to be told about the session
+	 * operations issuing statements.
+	 *
+	 * @return The slow query log, or {@code null} if slow statements are not logged (or the coordinator was
+	 * deserialized)
+	 */
+	public SlowQueryLog getSlowQueryLog() {
+		return slowQueryLog;
+	}
+
 	@Override
 	public void setTransactionTimeOut(int seconds) {
 		transactionTimeOutInstant = System.currentTimeMillis() + ( seconds * 1000 );
@@ -9,6 +9,7 @@ package org.hibernate.engine.jdbc.internal;
 import java.util.Map;
 
 import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
@@ -19,19 +20,21 @@ import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
+import org.hibernate.engine.jdbc.spi.SlowQuerySink;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -56,8 +59,22 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		final boolean showSQL = ConfigurationHelper.getBoolean( Environment.SHOW_SQL, configValues, false );
 		final boolean formatSQL = ConfigurationHelper.getBoolean( Environment.FORMAT_SQL, configValues, false );
 		final long logSlowQuery = ConfigurationHelper.getLong( Environment.LOG_SLOW_QUERY, configValues, 0 );
-
-		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
+		final int asyncBufferSize = ConfigurationHelper.getBoolean( Environment.LOG_SQL_ASYNC, configValues, false )
+				? ConfigurationHelper.getInt( Environment.LOG_SQL_ASYNC_BUFFER_SIZE, configValues, 8192 )
+				: 0;
+
+		final SlowQuerySink slowQuerySink = serviceRegistry.getService( StrategySelector.class )
+				.resolveStrategy( SlowQuerySink.class, configValues.get( Environment.SLOW_QUERY_SINK ) );
+		final boolean explainSlowQueries = ConfigurationHelper.getBoolean( Environment.SLOW_QUERY_EXPLAIN, configValues, false );
+
+		this.sqlStatementLogger = new SqlStatementLogger(
+				showSQL,
+				formatSQL,
+				logSlowQuery,
+				asyncBufferSize,
+				slowQuerySink,
+				explainSlowQueries
+		);
 
 		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
 	}
@@ -113,4 +130,11 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public void stop() {
+		if ( sqlStatementLogger != null ) {
+			sqlStatementLogger.stop();
+		}
+	}
 }
@@ -18,6 +18,8 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -30,6 +32,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final EventMonitor eventMonitor;
+	private final SlowQueryLog slowQueryLog;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -37,10 +41,19 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	 * @param jdbcCoordinator The JdbcCoordinator
 	 */
 	public ResultSetReturnImpl(JdbcCoordinator jdbcCoordinator, JdbcServices jdbcServices) {
+		this( jdbcCoordinator, jdbcServices, null );
+	}
+
+	ResultSetReturnImpl(JdbcCoordinator jdbcCoordinator, JdbcServices jdbcServices, SlowQueryLog slowQueryLog) {
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.dialect = jdbcServices.getDialect();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.eventMonitor = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getEventMonitor();
+		this.slowQueryLog = slowQueryLog;
 	}
 
 	@Override
@@ -52,13 +65,13 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				jdbcExecuteStatementEnd( executionEvent, statement, null, -1 );
+				logSlowQuery( statement, null, executeStartNanos, -1, true );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -68,12 +81,21 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
-	private void jdbcExecuteStatementEnd() {
+	private void jdbcExecuteStatementEnd(DiagnosticEvent executionEvent, Statement statement, String sql, int rowCount) {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
+		if ( executionEvent != null ) {
+			// like for the slow query log, the SQL of a PreparedStatement is taken from its toString()
+			eventMonitor.completeJdbcStatementExecutionEvent(
+					executionEvent,
+					sql == null ? statement.toString() : sql,
+					rowCount
+			);
+		}
 	}
 
-	private void jdbcExecuteStatementStart() {
+	private DiagnosticEvent jdbcExecuteStatementStart() {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
+		return eventMonitor.beginJdbcStatementExecutionEvent();
 	}
 
 	@Override
@@ -85,13 +107,13 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = dialect.getResultSet( callableStatement );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				jdbcExecuteStatementEnd( executionEvent, callableStatement, null, -1 );
+				logSlowQuery( callableStatement, null, executeStartNanos, -1, true );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -110,13 +132,13 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery( sql );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				jdbcExecuteStatementEnd( executionEvent, statement, sql, -1 );
+				logSlowQuery( statement, sql, executeStartNanos, -1, true );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -135,8 +157,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -145,8 +167,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				jdbcExecuteStatementEnd( executionEvent, statement, null, -1 );
+				logSlowQuery( statement, null, executeStartNanos, -1, true );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -165,8 +187,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute( sql ) ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -175,8 +197,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				jdbcExecuteStatementEnd( executionEvent, statement, sql, -1 );
+				logSlowQuery( statement, sql, executeStartNanos, -1, true );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -192,16 +214,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
+		int rowCount = -1;
 		try {
-			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			jdbcExecuteStatementEnd( executionEvent, statement, null, rowCount );
+			logSlowQuery( statement, null, executeStartNanos, rowCount, false );
 		}
 	}
 
@@ -212,16 +236,32 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final DiagnosticEvent executionEvent = jdbcExecuteStatementStart();
+		int rowCount = -1;
 		try {
-			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			jdbcExecuteStatementEnd( executionEvent, statement, sql, rowCount );
+			logSlowQuery( statement, sql, executeStartNanos, rowCount, false );
+		}
+	}
+
+	private void logSlowQuery(Statement statement, String sql, long executeStartNanos, int rowCount, boolean resultSet) {
+		if ( slowQueryLog == null ) {
+			if ( sql == null ) {
+				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			}
+			else {
+				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			}
+		}
+		else if ( executeStartNanos > 0 ) {
+			slowQueryLog.executed( statement, sql, executeStartNanos, rowCount, resultSet );
 		}
 	}
 
@@ -0,0 +1,416 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowQuery;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * Measures the statements executed by a {@link JdbcCoordinatorImpl}, and reports those taking longer than the
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY slow query threshold} to the
+ * {@link SqlStatementLogger}.
+ * <p/>
+ * For each statement, the values bound by the {@link org.hibernate.type.descriptor.sql.BasicBinder basic binders}
+ * of the session are captured, as its {@link #getParameterBindingObserver() parameter binding observer}, and the time spent executing the statement is told apart from the time spent reading its result
+ * set, which ends when the statement is released.  Being a session event listener, it also tracks the session
+ * operation which issued the statement.
+ *
+ * @see org.hibernate.engine.jdbc.spi.SlowQuerySink
+ */
+public final class SlowQueryLog extends BaseSessionEventListener {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( SlowQueryLog.class );
+
+	private final transient JdbcCoordinatorImpl jdbcCoordinator;
+	private final transient SqlStatementLogger sqlStatementLogger;
+	private final transient Dialect dialect;
+	private final long threshold;
+
+	private final transient Map<Statement, Execution> executions = new IdentityHashMap<>();
+
+	private transient ObservingJdbcObserver observer;
+
+	private String origin;
+	private String originBeforeFlush;
+
+	SlowQueryLog(JdbcCoordinatorImpl jdbcCoordinator, JdbcServices jdbcServices) {
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.dialect = jdbcServices.getDialect();
+		this.threshold = sqlStatementLogger.getLogSlowQuery();
+	}
+
+	/**
+	 * Decorate the JDBC observer of the resource registry, to be told about the statements being released.
+	 *
+	 * @param observer The observer to decorate
+	 *
+	 * @return The decorated observer
+	 */
+	JdbcObserver observe(JdbcObserver observer) {
+		this.observer = new ObservingJdbcObserver( observer );
+		return this.observer;
+	}
+
+	/**
+	 * The observer to be told about the values bound by the session.
+	 *
+	 * @return The observer returned by {@link #observe}
+	 *
+	 * @see org.hibernate.type.descriptor.WrapperOptions#getParameterBindingObserver()
+	 */
+	public JdbcObserver getParameterBindingObserver() {
+		return observer;
+	}
+
+	@Override
+	public void queryExecution(String query) {
+		origin = "query [" + query + "]";
+	}
+
+	@Override
+	public void associationFetch(String role) {
+		origin = "fetch of [" + role + "]";
+	}
+
+	@Override
+	public void flushStart() {
+		originBeforeFlush = origin;
+		origin = "flush";
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		origin = originBeforeFlush;
+		originBeforeFlush = null;
+	}
+
+	/**
+	 * Start capturing the values bound to a statement.
+	 *
+	 * @param statement The prepared statement
+	 * @param sql The SQL of the statement
+	 */
+	void prepared(PreparedStatement statement, String sql) {
+		final Execution execution = new Execution( statement, sql );
+		execution.binding = true;
+		executions.put( statement, execution );
+	}
+
+	private void bound(Statement statement, Object position, Object value, JavaTypeDescriptor javaTypeDescriptor) {
+		final Execution execution = executions.get( statement );
+		if ( execution != null && execution.binding ) {
+			execution.bind( position, value, javaTypeDescriptor );
+		}
+	}
+
+	/**
+	 * Report a statement which does not return a result set if it is slow; otherwise start measuring the time
+	 * spent reading the result set.
+	 *
+	 * @param statement The executed statement
+	 * @param sql The executed SQL, or {@code null} for a prepared statement
+	 * @param startNanos The start of the execution
+	 * @param rowCount The number of affected rows; -1 for a result set
+	 * @param resultSet Whether the statement returned a result set
+	 */
+	void executed(Statement statement, String sql, long startNanos, int rowCount, boolean resultSet) {
+		final long executedNanos = System.nanoTime();
+		Execution execution = executions.get( statement );
+		if ( execution == null || sql != null ) {
+			// a plain statement, or one prepared elsewhere
+			execution = new Execution( statement, sql == null ? statement.toString() : sql );
+			executions.put( statement, execution );
+		}
+		execution.binding = false;
+
+		execution.executionNanos = executedNanos - startNanos;
+		if ( resultSet ) {
+			execution.executedNanos = executedNanos;
+		}
+		else {
+			execution.executedNanos = 0;
+			final long executionMillis = TimeUnit.NANOSECONDS.toMillis( execution.executionNanos );
+			if ( executionMillis > threshold ) {
+				report( execution, executionMillis, -1, rowCount );
+			}
+		}
+	}
+
+	private void released(Statement statement) {
+		final Execution execution = executions.remove( statement );
+		if ( execution != null ) {
+			if ( execution.executedNanos != 0 ) {
+				fetched( execution, System.nanoTime() );
+			}
+		}
+	}
+
+	private void releasedAll() {
+		final long releasedNanos = System.nanoTime();
+		for ( Execution execution : executions.values() ) {
+			if ( execution.executedNanos != 0 ) {
+				fetched( execution, releasedNanos );
+			}
+		}
+		executions.clear();
+	}
+
+	private void fetched(Execution execution, long releasedNanos) {
+		final long executionMillis = TimeUnit.NANOSECONDS.toMillis( execution.executionNanos );
+		final long fetchMillis = TimeUnit.NANOSECONDS.toMillis( releasedNanos - execution.executedNanos );
+		if ( executionMillis + fetchMillis > threshold ) {
+			report( execution, executionMillis, fetchMillis, -1 );
+		}
+	}
+
+	private void report(Execution execution, long executionMillis, long fetchMillis, int rowCount) {
+		sqlStatementLogger.logSlowQuery(
+				new SlowQuery(
+						execution.sql,
+						execution.renderBoundValues(),
+						executionMillis,
+						fetchMillis,
+						rowCount,
+						origin,
+						sqlStatementLogger.isExplainSlowQueries() ? explain( execution ) : null
+				)
+		);
+	}
+
+	private String explain(Execution execution) {
+		if ( execution.statement instanceof CallableStatement ) {
+			return null;
+		}
+		final String explainSql = dialect.getExplainPlanString( execution.sql );
+		final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		if ( explainSql == null || !logicalConnection.isPhysicallyConnected() ) {
+			return null;
+		}
+
+		// bypasses the statement logging and the resource registry, on purpose
+		final Connection connection = logicalConnection.getPhysicalConnection();
+		try {
+			if ( connection.getAutoCommit() ) {
+				return explain( connection, explainSql, execution );
+			}
+			if ( !connection.getMetaData().supportsSavepoints() ) {
+				// a failing statement could abort the transaction of the session (e.g. on PostgreSQL)
+				return null;
+			}
+			final Savepoint savepoint = connection.setSavepoint();
+			try {
+				return explain( connection, explainSql, execution );
+			}
+			finally {
+				connection.rollback( savepoint );
+				releaseSavepoint( connection, savepoint );
+			}
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Unable to capture the execution plan of slow query [%s]: %s", execution.sql, e.getMessage() );
+			return null;
+		}
+	}
+
+	private static String explain(Connection connection, String explainSql, Execution execution) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( explainSql ) ) {
+			if ( execution.boundValues != null ) {
+				for ( Map.Entry<Object, BoundValue> boundValue : execution.boundValues.entrySet() ) {
+					if ( boundValue.getKey() instanceof Integer ) {
+						statement.setObject( (Integer) boundValue.getKey(), boundValue.getValue().value );
+					}
+				}
+			}
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				final int columnCount = resultSet.getMetaData().getColumnCount();
+				final StringBuilder plan = new StringBuilder();
+				while ( resultSet.next() ) {
+					if ( plan.length() > 0 ) {
+						plan.append( '\n' );
+					}
+					for ( int i = 1; i <= columnCount; i++ ) {
+						if ( i > 1 ) {
+							plan.append( ' ' );
+						}
+						plan.append( resultSet.getString( i ) );
+					}
+				}
+				return plan.toString();
+			}
+		}
+	}
+
+	private static void releaseSavepoint(Connection connection, Savepoint savepoint) {
+		try {
+			connection.releaseSavepoint( savepoint );
+		}
+		catch (SQLException e) {
+			// not supported by some drivers (e.g. Oracle), the savepoint then lasts until the end of the transaction
+			LOG.tracef( "Unable to release the savepoint of an execution plan capture: %s", e.getMessage() );
+		}
+	}
+
+	private static final class Execution {
+		private final Statement statement;
+		private final String sql;
+
+		// keyed by parameter position or name; a value bound again (in a batch) replaces the previous one
+		private Map<Object, BoundValue> boundValues;
+		// whether the values bound to the statement are captured, until it is executed
+		private boolean binding;
+
+		private long executionNanos;
+		// the end of the execution of a statement returning a result set, 0 otherwise
+		private long executedNanos;
+
+		private Execution(Statement statement, String sql) {
+			this.statement = statement;
+			this.sql = sql;
+		}
+
+		private void bind(Object position, Object value, JavaTypeDescriptor javaTypeDescriptor) {
+			if ( boundValues == null ) {
+				boundValues = new LinkedHashMap<>();
+			}
+			boundValues.put( position, new BoundValue( value, javaTypeDescriptor ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private Map<String, String> renderBoundValues() {
+			if ( boundValues == null ) {
+				return null;
+			}
+			final Map<String, String> rendered = new LinkedHashMap<>();
+			for ( Map.Entry<Object, BoundValue> boundValue : boundValues.entrySet() ) {
+				final BoundValue value = boundValue.getValue();
+				rendered.put(
+						boundValue.getKey().toString(),
+						value.value == null ? "null" : value.javaTypeDescriptor.extractLoggableRepresentation( value.value )
+				);
+			}
+			return rendered;
+		}
+	}
+
+	private static final class BoundValue {
+		private final Object value;
+		private final JavaTypeDescriptor javaTypeDescriptor;
+
+		private BoundValue(Object value, JavaTypeDescriptor javaTypeDescriptor) {
+			this.value = value;
+			this.javaTypeDescriptor = javaTypeDescriptor;
+		}
+	}
+
+	/**
+	 * Tells the statements released by the resource registry and the values bound by the session apart, and
+	 * otherwise delegates to the session's observer.
+	 */
+	private final class ObservingJdbcObserver implements JdbcObserver {
+		private final JdbcObserver delegate;
+
+		private ObservingJdbcObserver(JdbcObserver delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void jdbcBindParameter(
+				Statement statement,
+				Object position,
+				Object value,
+				JavaTypeDescriptor javaTypeDescriptor) {
+			bound( statement, position, value, javaTypeDescriptor );
+		}
+
+		@Override
+		public void jdbcReleaseStatement(Statement statement) {
+			released( statement );
+			delegate.jdbcReleaseStatement( statement );
+		}
+
+		@Override
+		public void jdbcReleaseRegistryResourcesStart() {
+			releasedAll();
+			delegate.jdbcReleaseRegistryResourcesStart();
+		}
+
+		@Override
+		public void jdbcReleaseRegistryResourcesEnd() {
+			delegate.jdbcReleaseRegistryResourcesEnd();
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionStart() {
+			delegate.jdbcConnectionAcquisitionStart();
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionEnd(Connection connection) {
+			delegate.jdbcConnectionAcquisitionEnd( connection );
+		}
+
+		@Override
+		public void jdbcConnectionReleaseStart() {
+			delegate.jdbcConnectionReleaseStart();
+		}
+
+		@Override
+		public void jdbcConnectionReleaseEnd() {
+			delegate.jdbcConnectionReleaseEnd();
+		}
+
+		@Override
+		public void jdbcPrepareStatementStart() {
+			delegate.jdbcPrepareStatementStart();
+		}
+
+		@Override
+		public void jdbcPrepareStatementEnd() {
+			delegate.jdbcPrepareStatementEnd();
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			delegate.jdbcExecuteStatementStart();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			delegate.jdbcExecuteStatementEnd();
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			delegate.jdbcExecuteBatchStart();
+		}
+
+		@Override
+		public void jdbcExecuteBatchEnd() {
+			delegate.jdbcExecuteBatchEnd();
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
@@ -18,6 +19,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -82,7 +84,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		final StatementPreparationTemplate template = new StatementPreparationTemplate( sql ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -90,6 +92,8 @@ class StatementPreparerImpl implements StatementPreparer {
 						: connection().prepareStatement( sql );
 			}
 		};
+		// callable statements are never cached, their registered out parameters are not reset on reuse
+		return isCallable ? template : template.cacheable( ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
 	}
 
 	private void checkAutoGeneratedKeysSupportEnabled() {
@@ -108,7 +112,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
-		}.prepareStatement();
+		}.cacheable( ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null ).prepareStatement();
 	}
 
 	@Override
@@ -119,7 +123,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
-		}.prepareStatement();
+		}.cacheable( ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS, columnNames ).prepareStatement();
 	}
 
 	@Override
@@ -137,7 +141,7 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
-			}.prepareStatement();
+			}.cacheable( isCallable, scrollMode.toResultSetType() ).prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
 		}
@@ -148,7 +152,7 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
-			}.prepareStatement();
+			}.cacheable( isCallable, ResultSet.TYPE_FORWARD_ONLY ).prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
 		}
@@ -157,6 +161,11 @@ class StatementPreparerImpl implements StatementPreparer {
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
 
+		private boolean cacheable;
+		private int resultSetType;
+		private int autoGeneratedKeys;
+		private String[] columnNames;
+
 		protected StatementPreparationTemplate(String incomingSql) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
@@ -165,21 +174,48 @@ class StatementPreparerImpl implements StatementPreparer {
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
 		}
 
+		/**
+		 * Allow the statement to be taken from, and released to, the statement cache (if enabled)
+		 */
+		public StatementPreparationTemplate cacheable(int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+			this.cacheable = true;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+			return this;
+		}
+
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final ResourceRegistry resourceRegistry = jdbcCoordinator.getResourceRegistry();
+				final StatementCacheKey cacheKey = cacheable && resourceRegistry.isStatementCachingEnabled()
+						? new StatementCacheKey( sql, resultSetType, autoGeneratedKeys, columnNames )
+						: null;
+
+				PreparedStatement preparedStatement = cacheKey == null
+						? null
+						: resourceRegistry.takeCachedStatement( cacheKey );
+				if ( preparedStatement != null ) {
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
+				}
+				postProcess( preparedStatement, cacheKey );
+				final SlowQueryLog slowQueryLog = jdbcCoordinator.getSlowQueryLog();
+				if ( slowQueryLog != null ) {
+					slowQueryLog.prepared( preparedStatement, sql );
 				}
-				postProcess( preparedStatement );
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -189,8 +225,13 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+		public void postProcess(PreparedStatement preparedStatement, Object cacheKey) throws SQLException {
+			if ( cacheKey == null ) {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			}
+			else {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true, cacheKey );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -207,8 +248,12 @@ class StatementPreparerImpl implements StatementPreparer {
 			super( sql );
 		}
 
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			super.postProcess( preparedStatement );
+		public StatementPreparationTemplate cacheable(boolean isCallable, int resultSetType) {
+			return isCallable ? this : cacheable( resultSetType, Statement.NO_GENERATED_KEYS, null );
+		}
+
+		public void postProcess(PreparedStatement preparedStatement, Object cacheKey) throws SQLException {
+			super.postProcess( preparedStatement, cacheKey );
 			setStatementFetchSize( preparedStatement );
 		}
 	}
@@ -219,4 +264,48 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 	}
 
+	/**
+	 * Identifies the SQL and options a statement was prepared with
+	 */
+	private static final class StatementCacheKey {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		private StatementCacheKey(String sql, int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+
+			int result = sql.hashCode();
+			result = 31 * result + resultSetType;
+			result = 31 * result + autoGeneratedKeys;
+			result = 31 * result + Arrays.hashCode( columnNames );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final StatementCacheKey that = (StatementCacheKey) o;
+			return resultSetType == that.resultSetType
+					&& autoGeneratedKeys == that.autoGeneratedKeys
+					&& sql.equals( that.sql )
+					&& Arrays.equals( columnNames, that.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 }
@@ -21,6 +21,7 @@ import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransactionAccess;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorOwner;
+import org.hibernate.stat.spi.MetricTags;
 
 /**
  * Coordinates JDBC-related activities.
@@ -193,6 +194,16 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 		return getLogicalConnection().getResourceRegistry();
 	}
 
+	/**
+	 * The tags qualifying the metrics reported on behalf of this coordinator to the
+	 * {@link org.hibernate.stat.spi.MetricsReporter}, if any.
+	 *
+	 * @return The tags, e.g. identifying the tenant of the Session
+	 */
+	default MetricTags getMetricTags() {
+		return MetricTags.EMPTY;
+	}
+
 	void serialize(ObjectOutputStream objectOutputStream) throws IOException;
 
 }
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.util.Map;
+
+/**
+ * Describes the execution of a SQL statement which took longer than the
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY slow query threshold}.
+ *
+ * @see SlowQuerySink
+ */
+public final class SlowQuery {
+	private final String sql;
+	private final Map<String, String> boundValues;
+	private final long executionMillis;
+	private final long fetchMillis;
+	private final int rowCount;
+	private final String origin;
+	private final String executionPlan;
+
+	public SlowQuery(
+			String sql,
+			Map<String, String> boundValues,
+			long executionMillis,
+			long fetchMillis,
+			int rowCount,
+			String origin,
+			String executionPlan) {
+		this.sql = sql;
+		this.boundValues = boundValues;
+		this.executionMillis = executionMillis;
+		this.fetchMillis = fetchMillis;
+		this.rowCount = rowCount;
+		this.origin = origin;
+		this.executionPlan = executionPlan;
+	}
+
+	/**
+	 * The SQL of the statement
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * The loggable representation of the values bound to the statement parameters, keyed by parameter position
+	 * (or name), in binding order.  Only the values bound through Hibernate's basic types are known.
+	 */
+	public Map<String, String> getBoundValues() {
+		return boundValues;
+	}
+
+	/**
+	 * The time spent executing the statement, in milliseconds
+	 */
+	public long getExecutionMillis() {
+		return executionMillis;
+	}
+
+	/**
+	 * The time spent reading the result set, from the end of the execution until the statement was released,
+	 * in milliseconds; -1 if the statement did not return a result set.
+	 */
+	public long getFetchMillis() {
+		return fetchMillis;
+	}
+
+	/**
+	 * The number of rows affected by the statement; -1 if unknown, as for the statements returning a result set.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The session operation which issued the statement: the HQL or native query, association fetch, or flush
+	 * last started by the session; {@code null} if unknown.
+	 */
+	public String getOrigin() {
+		return origin;
+	}
+
+	/**
+	 * The execution plan of the statement, as returned by the database; {@code null} if not captured.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 */
+	public String getExecutionPlan() {
+		return executionPlan;
+	}
+
+	/**
+	 * The total time spent executing the statement and reading its result set, in milliseconds
+	 */
+	public long getTotalMillis() {
+		return fetchMillis < 0 ? executionMillis : executionMillis + fetchMillis;
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+/**
+ * Receives the statements which took longer than the
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY slow query threshold}.
+ * <p/>
+ * By default, they are logged by the {@link SqlStatementLogger} to the {@code org.hibernate.SQL_SLOW} category.
+ * Implementations are called by the threads executing the statements, and hence must be thread-safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_SINK
+ */
+public interface SlowQuerySink {
+	/**
+	 * Report a slow statement.
+	 *
+	 * @param slowQuery The slow statement
+	 */
+	void report(SlowQuery slowQuery);
+}
@@ -7,8 +7,10 @@
 package org.hibernate.engine.jdbc.spi;
 
 import java.sql.Statement;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.engine.jdbc.internal.AsyncSqlLogWriter;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
 import org.hibernate.internal.CoreLogging;
@@ -33,6 +35,21 @@ public class SqlStatementLogger {
 	 */
 	private final long logSlowQuery;
 
+	/**
+	 * Writes the log entries on a background thread, or {@code null} to write them synchronously.
+	 */
+	private final AsyncSqlLogWriter asyncWriter;
+
+	/**
+	 * Receives the slow queries, or {@code null} to log them.
+	 */
+	private final SlowQuerySink slowQuerySink;
+
+	/**
+	 * Should the execution plan of slow queries be captured?
+	 */
+	private final boolean explainSlowQueries;
+
 	/**
 	 * Constructs a new SqlStatementLogger instance.
 	 */
@@ -58,9 +75,46 @@ public class SqlStatementLogger {
 	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery) {
+		this( logToStdout, format, logSlowQuery, 0 );
+	}
+
+	/**
+	 * Constructs a new SqlStatementLogger instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements prior to logging
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param asyncBufferSize The maximum number of statements waiting to be formatted and logged on a background
+	 * thread. 0 - log synchronously.
+	 */
+	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery, int asyncBufferSize) {
+		this( logToStdout, format, logSlowQuery, asyncBufferSize, null, false );
+	}
+
+	/**
+	 * Constructs a new SqlStatementLogger instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements prior to logging
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param asyncBufferSize The maximum number of statements waiting to be formatted and logged on a background
+	 * thread. 0 - log synchronously.
+	 * @param slowQuerySink Receives the slow queries. {@code null} - log them.
+	 * @param explainSlowQueries Should we capture the execution plan of slow queries.
+	 */
+	public SqlStatementLogger(
+			boolean logToStdout,
+			boolean format,
+			long logSlowQuery,
+			int asyncBufferSize,
+			SlowQuerySink slowQuerySink,
+			boolean explainSlowQueries) {
 		this.logToStdout = logToStdout;
 		this.format = format;
 		this.logSlowQuery = logSlowQuery;
+		this.asyncWriter = asyncBufferSize > 0 ? new AsyncSqlLogWriter( asyncBufferSize ) : null;
+		this.slowQuerySink = slowQuerySink;
+		this.explainSlowQueries = explainSlowQueries;
 	}
 
 	/**
@@ -102,6 +156,27 @@ public class SqlStatementLogger {
 		return logSlowQuery;
 	}
 
+	/**
+	 * Should the execution plan of slow queries be captured?
+	 */
+	public boolean isExplainSlowQueries() {
+		return explainSlowQueries;
+	}
+
+	/**
+	 * Are statements logged asynchronously, on a background thread?
+	 */
+	public boolean isAsync() {
+		return asyncWriter != null;
+	}
+
+	/**
+	 * The number of statements not logged, as they were logged asynchronously while the buffer was full.
+	 */
+	public long getDroppedStatementCount() {
+		return asyncWriter == null ? 0 : asyncWriter.getDroppedCount();
+	}
+
 	/**
 	 * Log a SQL statement string.
 	 *
@@ -118,8 +193,17 @@ public class SqlStatementLogger {
 	 * @param statement The SQL statement.
 	 * @param formatter The formatter to use.
 	 */
-	@AllowSysOut
 	public void logStatement(String statement, Formatter formatter) {
+		if ( asyncWriter == null ) {
+			writeStatement( statement, formatter );
+		}
+		else if ( logToStdout || LOG.isDebugEnabled() ) {
+			asyncWriter.write( () -> writeStatement( statement, formatter ) );
+		}
+	}
+
+	@AllowSysOut
+	private void writeStatement(String statement, Formatter formatter) {
 		if ( format ) {
 			if ( logToStdout || LOG.isDebugEnabled() ) {
 				statement = formatter.format( statement );
@@ -141,7 +225,16 @@ public class SqlStatementLogger {
 		if ( logSlowQuery < 1 ) {
 			return;
 		}
-		logSlowQuery( statement.toString(), startTimeNanos );
+		if ( startTimeNanos <= 0 ) {
+			throw new IllegalArgumentException( "startTimeNanos [" + startTimeNanos + "] should be greater than 0!" );
+		}
+
+		long queryExecutionMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTimeNanos );
+
+		if ( queryExecutionMillis > logSlowQuery ) {
+			// only render the statement once known to be slow
+			logSlowQuery( new SlowQuery( statement.toString(), null, queryExecutionMillis, -1, -1, null, null ) );
+		}
 	}
 
 	/**
@@ -150,7 +243,6 @@ public class SqlStatementLogger {
 	 * @param sql The SQL query.
 	 * @param startTimeNanos Start time in nanoseconds.
 	 */
-	@AllowSysOut
 	public void logSlowQuery(String sql, long startTimeNanos) {
 		if ( logSlowQuery < 1 ) {
 			return;
@@ -162,11 +254,69 @@ public class SqlStatementLogger {
 		long queryExecutionMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTimeNanos );
 
 		if ( queryExecutionMillis > logSlowQuery ) {
-			String logData = "SlowQuery: " + queryExecutionMillis + " milliseconds. SQL: '" + sql + "'";
-			LOG_SLOW.info( logData );
-			if ( logToStdout ) {
-				System.out.println( logData );
+			logSlowQuery( new SlowQuery( sql, null, queryExecutionMillis, -1, -1, null, null ) );
+		}
+	}
+
+	/**
+	 * Report a slow SQL query to the {@link SlowQuerySink}, or log it if none was configured.
+	 *
+	 * @param slowQuery The slow query.
+	 */
+	public void logSlowQuery(SlowQuery slowQuery) {
+		if ( slowQuerySink != null ) {
+			slowQuerySink.report( slowQuery );
+		}
+		else if ( asyncWriter == null ) {
+			writeSlowQuery( slowQuery );
+		}
+		else {
+			asyncWriter.write( () -> writeSlowQuery( slowQuery ) );
+		}
+	}
+
+	@AllowSysOut
+	private void writeSlowQuery(SlowQuery slowQuery) {
+		final StringBuilder logData = new StringBuilder( "SlowQuery: " )
+				.append( slowQuery.getTotalMillis() )
+				.append( " milliseconds. SQL: '" )
+				.append( slowQuery.getSql() )
+				.append( '\'' );
+		if ( slowQuery.getFetchMillis() >= 0 ) {
+			logData.append( " Execution: " ).append( slowQuery.getExecutionMillis() )
+					.append( " milliseconds, fetch: " ).append( slowQuery.getFetchMillis() ).append( " milliseconds." );
+		}
+		if ( slowQuery.getRowCount() >= 0 ) {
+			logData.append( " Rows: " ).append( slowQuery.getRowCount() ).append( '.' );
+		}
+		if ( slowQuery.getBoundValues() != null && !slowQuery.getBoundValues().isEmpty() ) {
+			logData.append( " Parameters: " );
+			String separator = "";
+			for ( Map.Entry<String, String> boundValue : slowQuery.getBoundValues().entrySet() ) {
+				logData.append( separator ).append( '[' ).append( boundValue.getKey() ).append( "] " )
+						.append( boundValue.getValue() );
+				separator = ", ";
 			}
+			logData.append( '.' );
+		}
+		if ( slowQuery.getOrigin() != null ) {
+			logData.append( " Origin: " ).append( slowQuery.getOrigin() ).append( '.' );
+		}
+		if ( slowQuery.getExecutionPlan() != null ) {
+			logData.append( " Execution plan:\n" ).append( slowQuery.getExecutionPlan() );
+		}
+		LOG_SLOW.info( logData );
+		if ( logToStdout ) {
+			System.out.println( logData );
+		}
+	}
+
+	/**
+	 * Stop logging asynchronously, once the pending statements are logged.
+	 */
+	public void stop() {
+		if ( asyncWriter != null ) {
+			asyncWriter.stop();
 		}
 	}
 }
@@ -21,6 +21,8 @@ import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -391,6 +393,8 @@ public class CollectionLoadContext {
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
 		if (isPutFromLoad) {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventMonitor eventMonitor = factory.getEventMonitor();
+			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
 				final boolean put = cacheAccess.putFromLoad(
@@ -411,6 +415,9 @@ public class CollectionLoadContext {
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
+				if ( cachePutEvent != null ) {
+					eventMonitor.completeCachePutEvent( cachePutEvent, session, cacheAccess.getRegion().getName() );
+				}
 			}
 		}
 	}
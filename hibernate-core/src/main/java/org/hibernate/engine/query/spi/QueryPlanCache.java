@@ -21,6 +21,8 @@ import org.hibernate.QueryException;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
@@ -152,7 +154,12 @@ public class QueryPlanCache implements Serializable {
 			final long startTime = ( stats ) ? System.nanoTime() : 0L;
 
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			final EventMonitor eventMonitor = factory.getEventMonitor();
+			final DiagnosticEvent compilationEvent = eventMonitor.beginQueryPlanCompilationEvent();
 			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
+			if ( compilationEvent != null ) {
+				eventMonitor.completeQueryPlanCompilationEvent( compilationEvent, queryString );
+			}
 
 			if ( stats ) {
 				final long endTime = System.nanoTime();
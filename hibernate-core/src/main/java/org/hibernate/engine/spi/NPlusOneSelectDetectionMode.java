@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.HibernateException;
+
+/**
+ * This enum defines how N+1 selects, i.e. the same association being fetched over and over again
+ * following a query, are reported.
+ *
+ * By default, the ({@link NPlusOneSelectDetectionMode#NONE}) mode is used, meaning that N+1 selects
+ * are not detected.
+ *
+ * If the ({@link NPlusOneSelectDetectionMode#WARNING}) mode is used, a warning log message is issued
+ * for every association fetched too many times following a query.  If the
+ * ({@link NPlusOneSelectDetectionMode#EXCEPTION}) mode is used, then a {@link HibernateException} is
+ * thrown instead, which is meant to catch N+1 selects in tests.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_DETECTION
+ */
+public enum NPlusOneSelectDetectionMode {
+
+	NONE,
+	WARNING,
+	EXCEPTION;
+
+	/**
+	 * Interpret the configured {@link NPlusOneSelectDetectionMode} value.
+	 * Valid values are either a {@link NPlusOneSelectDetectionMode} object or its String representation.
+	 * For string values, the matching is case insensitive,
+	 * so you can use either {@code none}, {@code warning} or {@code exception} (case insensitive).
+	 *
+	 * @param mode configured {@link NPlusOneSelectDetectionMode} representation
+	 * @return associated {@link NPlusOneSelectDetectionMode} object
+	 */
+	public static NPlusOneSelectDetectionMode interpret(Object mode) {
+		if ( mode == null ) {
+			return NONE;
+		}
+		else if ( mode instanceof NPlusOneSelectDetectionMode ) {
+			return (NPlusOneSelectDetectionMode) mode;
+		}
+		else if ( mode instanceof String ) {
+			for ( NPlusOneSelectDetectionMode value : values() ) {
+				if ( value.name().equalsIgnoreCase( ( (String) mode ).trim() ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized n_plus_one.detection value : " + mode
+						+ ".  Supported values include 'none', 'warning' and 'exception'."
+		);
+	}
+}
@@ -38,6 +38,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.ReplicationMode;
 import org.hibernate.ScrollMode;
@@ -64,6 +65,7 @@ import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.spi.NativeQueryImplementor;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import org.hibernate.stat.SessionStatistics;
@@ -1070,6 +1072,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.bySimpleNaturalId( entityClass );
 	}
 
+	@Override
+	public <T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass) {
+		return delegate.byMultipleNaturalId( entityClass );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName) {
+		return delegate.byMultipleNaturalId( entityName );
+	}
+
 	@Override
 	public Filter enableFilter(String filterName) {
 		return delegate.enableFilter( filterName );
@@ -1234,4 +1246,9 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 	public TimeZone getJdbcTimeZone() {
 		return delegate.getJdbcTimeZone();
 	}
+
+	@Override
+	public JdbcObserver getParameterBindingObserver() {
+		return delegate.getParameterBindingObserver();
+	}
 }
@@ -41,6 +41,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.exception.spi.SQLExceptionConverter;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerator;
@@ -140,6 +141,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return delegate.getEventMonitor();
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
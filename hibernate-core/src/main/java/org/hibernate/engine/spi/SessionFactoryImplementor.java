@@ -32,6 +32,8 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.exception.spi.SQLExceptionConverter;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerator;
@@ -88,6 +90,15 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory, Quer
 	@Override
 	StatisticsImplementor getStatistics();
 
+	/**
+	 * Access to the EventMonitor diagnostic events are emitted to.
+	 *
+	 * @return The EventMonitor; a no-op one if none is available
+	 */
+	default EventMonitor getEventMonitor() {
+		return EmptyEventMonitor.INSTANCE;
+	}
+
 	/**
 	 * Access to the ServiceRegistry for this SessionFactory.
 	 *
@@ -139,13 +139,18 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		final CascadingAction cascadingAction = getCascadingAction();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
-				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
+				final EntityPersister persister = entry.getPersister();
+				// skip entities which have nothing to cascade for this action
+				if ( persister.getCascadingPropertyIndexes( cascadingAction ).length > 0 ) {
+					cascadeOnFlush( session, persister, me.getKey(), anything );
+				}
 			}
 		}
 	}
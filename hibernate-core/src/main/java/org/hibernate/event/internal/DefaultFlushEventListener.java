@@ -8,6 +8,8 @@ package org.hibernate.event.internal;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
@@ -33,6 +35,8 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
 				persistenceContext.getCollectionEntriesSize() > 0 ) {
 
+			final EventMonitor eventMonitor = source.getFactory().getEventMonitor();
+			final DiagnosticEvent flushEvent = eventMonitor.beginFlushEvent();
 			try {
 				source.getEventListenerManager().flushStart();
 
@@ -45,6 +49,14 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 						event.getNumberOfEntitiesProcessed(),
 						event.getNumberOfCollectionsProcessed()
 				);
+				if ( flushEvent != null ) {
+					eventMonitor.completeFlushEvent(
+							flushEvent,
+							source,
+							event.getNumberOfEntitiesProcessed(),
+							event.getNumberOfCollectionsProcessed()
+					);
+				}
 			}
 
 			postPostFlush( source );
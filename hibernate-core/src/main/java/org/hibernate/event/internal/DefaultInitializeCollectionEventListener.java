@@ -73,6 +73,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				source.getEventListenerManager().associationFetch( ceLoadedPersister.getRole() );
 				ceLoadedPersister.initialize( ce.getLoadedKey(), source );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
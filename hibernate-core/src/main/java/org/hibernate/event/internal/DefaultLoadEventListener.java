@@ -566,6 +566,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	protected Object loadFromDatasource(
 			final LoadEvent event,
 			final EntityPersister persister) {
+		if ( event.isAssociationFetch() ) {
+			event.getSession().getEventListenerManager().associationFetch( persister.getEntityName() );
+		}
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
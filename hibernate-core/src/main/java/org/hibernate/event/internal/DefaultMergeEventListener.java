@@ -14,6 +14,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
@@ -35,11 +36,13 @@ import org.hibernate.event.spi.MergeEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
 /**
@@ -67,6 +70,9 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 		final EntityCopyObserver entityCopyObserver = createEntityCopyObserver( event.getSession().getFactory() );
 		final MergeContext mergeContext = new MergeContext( event.getSession(), entityCopyObserver );
 		try {
+			if ( isDetachedFastPathEnabled( event.getSession() ) && event.getOriginal() != null ) {
+				MergeGraphPreloader.preload( event.getSession(), event.getEntityName(), event.getOriginal() );
+			}
 			onMerge( event, mergeContext );
 			entityCopyObserver.topLevelMergeComplete( event.getSession() );
 		}
@@ -76,6 +82,10 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 		}
 	}
 
+	private static boolean isDetachedFastPathEnabled(EventSource source) {
+		return source.getFactory().getSessionFactoryOptions().isMergeDetachedFastPathEnabled();
+	}
+
 	private EntityCopyObserver createEntityCopyObserver(SessionFactoryImplementor sessionFactory) {
 		final ServiceRegistry serviceRegistry = sessionFactory.getServiceRegistry();
 		final EntityCopyObserverFactory configurationService = serviceRegistry.getService( EntityCopyObserverFactory.class );
@@ -344,7 +354,14 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 			// cascade first, so that all unsaved objects get their
 			// copy created before we actually copy
 			cascadeOnMerge( source, persister, entity, copyCache );
-			copyValues( persister, entity, target, source, copyCache );
+			if ( persister.isVersioned() && isDetachedFastPathEnabled( source ) ) {
+				// the version matches, so the managed state is the one the detached
+				// instance was based upon: only copy what actually differs
+				copyChangedValues( persister, entity, target, source, copyCache );
+			}
+			else {
+				copyValues( persister, entity, target, source, copyCache );
+			}
 
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target, persister );
@@ -460,6 +477,40 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 		persister.setPropertyValues( target, copiedValues );
 	}
 
+	/**
+	 * Variant of {@link #copyValues(EntityPersister, Object, Object, SessionImplementor, Map)} only
+	 * replacing the values which differ from the ones of the target.  Collections are always
+	 * replaced, as comparing their elements would cost as much as replacing them.
+	 */
+	private void copyChangedValues(
+			final EntityPersister persister,
+			final Object entity,
+			final Object target,
+			final SessionImplementor source,
+			final Map copyCache) {
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] originalValues = persister.getPropertyValues( entity );
+		final Object[] targetValues = persister.getPropertyValues( target );
+		final Type[] types = persister.getPropertyTypes();
+		boolean changed = false;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object original = originalValues[i];
+			if ( original == LazyPropertyInitializer.UNFETCHED_PROPERTY || original == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				continue;
+			}
+			final boolean unfetched = targetValues[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			if ( !unfetched && !types[i].isCollectionType() && types[i].isEqual( original, targetValues[i], factory ) ) {
+				continue;
+			}
+			targetValues[i] = types[i].replace( original, unfetched ? null : targetValues[i], source, target, copyCache );
+			changed = true;
+		}
+
+		if ( changed ) {
+			persister.setPropertyValues( target, targetValues );
+		}
+	}
+
 	protected void copyValues(
 			final EntityPersister persister,
 			final Object entity,
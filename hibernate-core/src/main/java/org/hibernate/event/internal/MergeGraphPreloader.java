@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Loads the managed instances of the detached entities of a graph about to be merged, so that
+ * merging the graph does not issue one select per detached entity.
+ * <p/>
+ * The graph is walked along the properties cascading {@link CascadingActions#MERGE}, and the
+ * identifiers of the detached entities which are not part of the persistence context yet are
+ * loaded through a single multi-load per entity hierarchy.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MERGE_DETACHED_FAST_PATH
+ */
+final class MergeGraphPreloader {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( MergeGraphPreloader.class );
+
+	private final EventSource source;
+	private final PersistenceContext persistenceContext;
+	private final IdentitySet visited = new IdentitySet();
+	private final Map<String, List<Serializable>> idsByRootEntityName = new LinkedHashMap<>();
+
+	private MergeGraphPreloader(EventSource source) {
+		this.source = source;
+		this.persistenceContext = source.getPersistenceContextInternal();
+	}
+
+	/**
+	 * Load the managed instances of the detached entities reachable from the given entity.
+	 *
+	 * @param source The session
+	 * @param entityName The name of the merged entity, may be {@code null}
+	 * @param entity The merged entity
+	 */
+	static void preload(EventSource source, String entityName, Object entity) {
+		final MergeGraphPreloader preloader = new MergeGraphPreloader( source );
+		preloader.collect( entityName, entity );
+		preloader.load();
+	}
+
+	private void collect(String entityName, Object value) {
+		final Object entity = resolveEntity( value );
+		if ( entity == null || !visited.add( entity ) ) {
+			return;
+		}
+
+		final EntityPersister persister = source.getEntityPersister( entityName, entity );
+		if ( persistenceContext.getEntry( entity ) == null ) {
+			final Serializable id = persister.getIdentifier( entity, source );
+			if ( id != null
+					&& !Boolean.TRUE.equals( persister.getEntityMetamodel().getIdentifierProperty().getUnsavedValue().isUnsaved( id ) )
+					&& persistenceContext.getEntity( source.generateEntityKey( id, persister ) ) == null ) {
+				idsByRootEntityName.computeIfAbsent( persister.getRootEntityName(), k -> new ArrayList<>() ).add( id );
+			}
+		}
+
+		if ( persister.hasUninitializedLazyProperties( entity ) ) {
+			// do not trigger the loading of lazy attributes
+			return;
+		}
+
+		final int[] propertyIndexes = persister.getCascadingPropertyIndexes( CascadingActions.MERGE );
+		if ( propertyIndexes.length == 0 ) {
+			return;
+		}
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i : propertyIndexes ) {
+			final Object propertyValue = persister.getPropertyValue( entity, i );
+			if ( propertyValue == null || propertyValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				collect( ( (EntityType) types[i] ).getAssociatedEntityName( factory ), propertyValue );
+			}
+			else if ( types[i].isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) types[i];
+				final Type elementType = collectionType.getElementType( factory );
+				if ( !elementType.isEntityType() ) {
+					continue;
+				}
+				if ( propertyValue instanceof PersistentCollection
+						&& !( (PersistentCollection) propertyValue ).wasInitialized() ) {
+					continue;
+				}
+				final String elementEntityName = ( (EntityType) elementType ).getAssociatedEntityName( factory );
+				final Iterator elements = collectionType.getElementsIterator( propertyValue, source );
+				while ( elements.hasNext() ) {
+					collect( elementEntityName, elements.next() );
+				}
+			}
+		}
+	}
+
+	private static Object resolveEntity(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			return ( (HibernateProxy) value ).getHibernateLazyInitializer().isUninitialized()
+					? null
+					: ( (HibernateProxy) value ).getHibernateLazyInitializer().getImplementation();
+		}
+		if ( value instanceof PersistentAttributeInterceptable
+				&& ( (PersistentAttributeInterceptable) value ).$$_hibernate_getInterceptor() instanceof EnhancementAsProxyLazinessInterceptor ) {
+			return null;
+		}
+		return value;
+	}
+
+	private void load() {
+		// as when the merge loads the entities itself, so that their cascaded associations are fetched along
+		final String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
+		source.getLoadQueryInfluencers().setInternalFetchProfile( "merge" );
+		try {
+			for ( Map.Entry<String, List<Serializable>> entry : idsByRootEntityName.entrySet() ) {
+				// a single entity is just as well loaded by the merge itself
+				if ( entry.getValue().size() > 1 ) {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.tracef( "Preloading %s instances of %s for merge", entry.getValue().size(), entry.getKey() );
+					}
+					source.byMultipleIds( entry.getKey() )
+							.enableOrderedReturn( false )
+							.multiLoad( entry.getValue() );
+				}
+			}
+		}
+		finally {
+			source.getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile );
+		}
+	}
+}
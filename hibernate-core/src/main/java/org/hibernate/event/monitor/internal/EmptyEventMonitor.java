@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.monitor.internal;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+
+/**
+ * The {@link EventMonitor} used when none is available, which emits no events.
+ */
+public final class EmptyEventMonitor implements EventMonitor {
+	public static final EmptyEventMonitor INSTANCE = new EmptyEventMonitor();
+
+	private EmptyEventMonitor() {
+	}
+
+	@Override
+	public DiagnosticEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(DiagnosticEvent event, SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public DiagnosticEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(DiagnosticEvent event, SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public DiagnosticEvent beginFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			int numberOfEntities,
+			int numberOfCollections) {
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryPlanCompilationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryPlanCompilationEvent(DiagnosticEvent event, String query) {
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcStatementExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcStatementExecutionEvent(DiagnosticEvent event, String sql, int rowCount) {
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcBatchExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(DiagnosticEvent event, String sql, int batchSize, int rowCount) {
+	}
+
+	@Override
+	public DiagnosticEvent beginCacheGetEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String regionName,
+			boolean hit) {
+	}
+
+	@Override
+	public DiagnosticEvent beginCachePutEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(DiagnosticEvent event, SharedSessionContractImplementor session, String regionName) {
+	}
+
+	@Override
+	public DiagnosticEvent beginLazyInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier) {
+	}
+}
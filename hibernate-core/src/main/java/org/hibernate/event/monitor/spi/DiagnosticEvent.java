@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.monitor.spi;
+
+/**
+ * Marker for the events created by an {@link EventMonitor} when an operation begins, and handed back
+ * to it when the operation completes.
+ */
+public interface DiagnosticEvent {
+}
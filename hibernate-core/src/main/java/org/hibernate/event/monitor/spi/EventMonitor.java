@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.monitor.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Contract for emitting low-level diagnostic events, e.g. to JDK Flight Recorder, about Session, flush,
+ * query plan, JDBC, second-level cache and lazy initialization operations.
+ * <p/>
+ * Each operation is reported through a pair of calls: {@code beginXyzEvent()} right before the operation,
+ * and {@code completeXyzEvent()} right after it, passing back the event returned by the first call along
+ * with the details of the operation.  An implementation not interested in an event returns {@code null}
+ * from its {@code begin} method, which must be cheap as it is called on hot paths; the matching
+ * {@code complete} method is then not called.
+ * <p/>
+ * The implementation is discovered through the {@link java.util.ServiceLoader} mechanism when the
+ * SessionFactory is built; by default no events are emitted.
+ *
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getEventMonitor()
+ */
+public interface EventMonitor {
+	DiagnosticEvent beginSessionOpenEvent();
+
+	void completeSessionOpenEvent(DiagnosticEvent event, SharedSessionContractImplementor session);
+
+	DiagnosticEvent beginSessionClosedEvent();
+
+	void completeSessionClosedEvent(DiagnosticEvent event, SharedSessionContractImplementor session);
+
+	DiagnosticEvent beginFlushEvent();
+
+	/**
+	 * @param numberOfEntities The number of entities flushed
+	 * @param numberOfCollections The number of collections flushed
+	 */
+	void completeFlushEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			int numberOfEntities,
+			int numberOfCollections);
+
+	DiagnosticEvent beginQueryPlanCompilationEvent();
+
+	/**
+	 * @param query The (HQL/JPQL) query string compiled
+	 */
+	void completeQueryPlanCompilationEvent(DiagnosticEvent event, String query);
+
+	DiagnosticEvent beginJdbcStatementExecutionEvent();
+
+	/**
+	 * @param sql The SQL executed
+	 * @param rowCount The number of rows affected by an update, or -1 for a query
+	 */
+	void completeJdbcStatementExecutionEvent(DiagnosticEvent event, String sql, int rowCount);
+
+	DiagnosticEvent beginJdbcBatchExecutionEvent();
+
+	/**
+	 * @param sql The SQL executed
+	 * @param batchSize The number of statements in the batch
+	 * @param rowCount The total number of rows affected by the batch
+	 */
+	void completeJdbcBatchExecutionEvent(DiagnosticEvent event, String sql, int batchSize, int rowCount);
+
+	DiagnosticEvent beginCacheGetEvent();
+
+	/**
+	 * @param regionName The name of the second-level cache region accessed
+	 * @param hit Whether the entry was found
+	 */
+	void completeCacheGetEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String regionName,
+			boolean hit);
+
+	DiagnosticEvent beginCachePutEvent();
+
+	/**
+	 * @param regionName The name of the second-level cache region accessed
+	 */
+	void completeCachePutEvent(DiagnosticEvent event, SharedSessionContractImplementor session, String regionName);
+
+	DiagnosticEvent beginLazyInitializationEvent();
+
+	/**
+	 * @param role The entity name of the initialized proxy, or the role of the initialized collection
+	 * @param identifier The identifier of the entity, or of the collection owner
+	 */
+	void completeLazyInitializationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier);
+}
@@ -32,12 +32,15 @@ import org.jboss.logging.Logger;
 class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 	private static final Logger log = Logger.getLogger( EventListenerGroupImpl.class );
 
+	private static final String BUILT_IN_LISTENER_PACKAGE = "org.hibernate.event.internal.";
+
 	private final EventType<T> eventType;
 	private final EventListenerRegistryImpl listenerRegistry;
 
 	private final Set<DuplicationStrategy> duplicationStrategies = new LinkedHashSet<>();
 
 	private T[] listeners = null;
+	private boolean builtInListenersOnly = true;
 
 	public EventListenerGroupImpl(EventType<T> eventType, EventListenerRegistryImpl listenerRegistry) {
 		this.eventType = eventType;
@@ -75,10 +78,16 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		return ls == null ? 0 : ls.length;
 	}
 
+	@Override
+	public boolean hasBuiltInListenersOnly() {
+		return builtInListenersOnly;
+	}
+
 	@Override
 	public void clear() {
 		duplicationStrategies.clear();
 		listeners = null;
+		builtInListenersOnly = true;
 	}
 
 	@Override
@@ -156,7 +165,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 
 			this.listeners = newCopy;
 		}
-
+		listenersChanged();
 	}
 
 	@Override
@@ -195,6 +204,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 
 			this.listeners = newCopy;
 		}
+		listenersChanged();
 	}
 
 	private void handleListenerAddition(T listener, Consumer<T> additionHandler) {
@@ -245,6 +255,7 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 							prepareListener( listener );
 
 							listeners[i] = listener;
+							listenersChanged();
 						}
 					}
 
@@ -261,6 +272,19 @@ class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		additionHandler.accept( listener );
 	}
 
+	private void listenersChanged() {
+		// computed here, while registering, rather than on each dispatch
+		boolean builtIn = true;
+		//noinspection ForLoopReplaceableByForEach
+		for ( int i = 0; i < listeners.length; i++ ) {
+			if ( !listeners[i].getClass().getName().startsWith( BUILT_IN_LISTENER_PACKAGE ) ) {
+				builtIn = false;
+				break;
+			}
+		}
+		builtInListenersOnly = builtIn;
+	}
+
 	private void prepareListener(T listener) {
 		checkAgainstBaseInterface( listener );
 		performInjections( listener );
@@ -37,6 +37,20 @@ public interface EventListenerGroup<T> extends Serializable {
 
 	public int count();
 
+	/**
+	 * Are all the registered listeners Hibernate's own default listeners?
+	 * <p/>
+	 * Those do not retain the event instances they are notified of, so that callers are free to reuse
+	 * an event instance once it has been fired.  The answer is computed as listeners get registered,
+	 * so it is cheap enough to be checked on each dispatch.
+	 *
+	 * @return {@literal true} if only default listeners (or no listeners) are registered; {@literal false} otherwise.
+	 */
+	@Incubating
+	default boolean hasBuiltInListenersOnly() {
+		return false;
+	}
+
 	/**
 	 * @deprecated this is not the most efficient way for iterating the event listeners.
 	 * See {@link #fireEventOnEachListener(Object, BiConsumer)} and its overloaded variants for better alternatives.
@@ -68,6 +68,10 @@ public class LoadEvent extends AbstractEvent {
 		return isAssociationFetch;
 	}
 
+	public void setAssociationFetch(boolean associationFetch) {
+		this.isAssociationFetch = associationFetch;
+	}
+
 	private LoadEvent(
 			Serializable entityId,
 			String entityClassName,
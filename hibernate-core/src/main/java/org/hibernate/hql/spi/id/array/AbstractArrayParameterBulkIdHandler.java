@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.array;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.AbstractIdsBulkIdHandler;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.Queryable;
+
+/**
+ * Base class for the bulk-id strategy handlers passing the identifiers of the updatable/deletable rows
+ * as a single array parameter.
+ *
+ * @see Dialect#supportsArrayRestriction()
+ */
+public abstract class AbstractArrayParameterBulkIdHandler
+		extends AbstractIdsBulkIdHandler {
+
+	private final int idSqlTypeCode;
+
+	public AbstractArrayParameterBulkIdHandler(
+			SessionFactoryImplementor sessionFactory,
+			HqlSqlWalker walker) {
+		super( sessionFactory, walker );
+		Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
+		if ( !dialect.supportsArrayRestriction() ) {
+			throw new UnsupportedOperationException(
+					"The " + getClass().getSimpleName() +
+							" can only be used with Dialects that support array restrictions!"
+			);
+		}
+		if ( getTargetedQueryable().getIdentifierColumnNames().length != 1 ) {
+			throw new UnsupportedOperationException(
+					"The " + getClass().getSimpleName() +
+							" cannot be used with composite identifiers!"
+			);
+		}
+		this.idSqlTypeCode = getTargetedQueryable().getIdentifierType().sqlTypes( sessionFactory )[0];
+	}
+
+	/**
+	 * Generate the restriction of the given key column to the identifiers of the array parameter.
+	 *
+	 * @param columnName The key column, referencing the identifier of the targeted entity
+	 *
+	 * @return The restriction
+	 */
+	protected String generateIdRestriction(String columnName) {
+		return dialect().getArrayRestrictionFragment( columnName );
+	}
+
+	/**
+	 * Generate the restriction of the key columns of the given collection to the identifiers of the
+	 * array parameter.
+	 *
+	 * @param persister The targeted entity persister
+	 * @param cPersister The collection persister
+	 *
+	 * @return The restriction
+	 */
+	protected String generateIdRestriction(Queryable persister, AbstractCollectionPersister cPersister) {
+		String[] columnNames = getKeyColumnNames( persister, cPersister );
+		// If the column names are equal to the identifier column names, restrict the key column directly
+		if ( Arrays.equals( getTargetedQueryable().getIdentifierColumnNames(), columnNames ) ) {
+			return generateIdRestriction( cPersister.getKeyColumnNames()[0] );
+		}
+
+		// Otherwise, we need to fetch the key column names from the original table
+		StringBuilder restrictionBuilder = new StringBuilder();
+		restrictionBuilder.append( "(" );
+		appendJoined( ", ", cPersister.getKeyColumnNames(), restrictionBuilder );
+		restrictionBuilder.append( ") in (select " );
+		appendJoined( ", ", columnNames, restrictionBuilder );
+		restrictionBuilder.append( " from " ).append( getTargetedQueryable().getTableName() );
+		restrictionBuilder.append( " tmp where " );
+		restrictionBuilder.append( generateIdRestriction( getTargetedQueryable().getIdentifierColumnNames()[0] ) );
+		restrictionBuilder.append( ")" );
+		return restrictionBuilder.toString();
+	}
+
+	/**
+	 * Bind the selected identifiers as the array parameter.
+	 *
+	 * @param ps The statement
+	 * @param position The position of the array parameter
+	 * @param ids The selected identifiers
+	 *
+	 * @throws SQLException Indicates a problem binding the identifiers
+	 */
+	protected void bindIds(PreparedStatement ps, int position, List<Object[]> ids) throws SQLException {
+		final Object[] values = new Object[ids.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = ids.get( i )[0];
+		}
+		dialect().bindArrayRestrictionParameter( ps, position, values, idSqlTypeCode );
+	}
+}
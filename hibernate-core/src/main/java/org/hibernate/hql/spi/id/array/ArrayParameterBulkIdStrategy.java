@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.array;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+
+/**
+ * This bulk-id strategy selects the identifiers of the rows that need to be updated or deleted,
+ * and passes them to each statement as a single array parameter:
+ *
+ * <pre>
+ * delete
+ * from
+ *     Doctor
+ * where
+ *     id = any (?)
+ * </pre>
+ *
+ * Unlike the {@link org.hibernate.hql.spi.id.inline inline} strategies, the statements do not depend
+ * on the number of identifiers, so they are generated only once and their execution plans can be reused.
+ * <p/>
+ * This strategy can only be used with Dialects supporting
+ * {@link org.hibernate.dialect.Dialect#supportsArrayRestriction() array restrictions}, and with
+ * single column identifiers.
+ */
+public class ArrayParameterBulkIdStrategy
+		implements MultiTableBulkIdStrategy {
+
+	public static final ArrayParameterBulkIdStrategy INSTANCE = new ArrayParameterBulkIdStrategy();
+
+	@Override
+	public void prepare(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess jdbcConnectionAccess,
+			MetadataImplementor metadataImplementor,
+			SessionFactoryOptions sessionFactoryOptions) {
+		// nothing to do
+	}
+
+	@Override
+	public void release(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess connectionAccess) {
+		// nothing to do
+	}
+
+	@Override
+	public UpdateHandler buildUpdateHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new ArrayParameterUpdateHandlerImpl( factory, walker );
+	}
+
+	@Override
+	public DeleteHandler buildDeleteHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		return new ArrayParameterDeleteHandlerImpl( factory, walker );
+	}
+}
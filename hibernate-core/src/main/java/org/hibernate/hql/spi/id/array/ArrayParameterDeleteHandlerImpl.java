@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.array;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.sql.Delete;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Bulk-id delete handler that passes the identifiers of the rows to be deleted as a single array parameter.
+ */
+public class ArrayParameterDeleteHandlerImpl
+		extends AbstractArrayParameterBulkIdHandler
+		implements MultiTableBulkIdStrategy.DeleteHandler {
+
+	private final List<String> deletes = new ArrayList<>();
+
+	public ArrayParameterDeleteHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		super( factory, walker );
+
+		for ( Type type : getTargetedQueryable().getPropertyTypes() ) {
+			if ( type.isCollectionType() ) {
+				CollectionType cType = (CollectionType) type;
+				AbstractCollectionPersister cPersister = (AbstractCollectionPersister) factory.getMetamodel().collectionPersister( cType.getRole() );
+				if ( cPersister.isManyToMany() ) {
+					deletes.add( generateDelete(
+							cPersister.getTableName(),
+							generateIdRestriction( getTargetedQueryable(), cPersister ),
+							"bulk delete - m2m join table cleanup"
+					) );
+				}
+			}
+		}
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+		for ( int i = 0; i < tableNames.length; i++ ) {
+			deletes.add( generateDelete( tableNames[i], generateIdRestriction( columnNames[i][0] ), "bulk delete" ) );
+		}
+	}
+
+	@Override
+	public String[] getSqlStatements() {
+		return deletes.toArray( new String[deletes.size()] );
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+
+		final List<Object[]> ids = selectIds( session, queryParameters );
+
+		if ( !ids.isEmpty() ) {
+			// Start performing the deletes
+			for ( String delete : deletes ) {
+				try {
+					try ( PreparedStatement ps = session
+							.getJdbcCoordinator().getStatementPreparer()
+							.prepareStatement( delete, false ) ) {
+						bindIds( ps, 1, ids );
+						session
+								.getJdbcCoordinator().getResultSetReturn()
+								.executeUpdate( ps );
+					}
+				}
+				catch ( SQLException e ) {
+					throw convert( e, "error performing bulk delete", delete );
+				}
+			}
+		}
+
+		return ids.size();
+	}
+
+	private String generateDelete(
+			String tableName,
+			String idRestriction,
+			String comment) {
+		final Delete delete = new Delete().setTableName( tableName ).setWhere( idRestriction );
+		if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( comment );
+		}
+		return delete.toStatementString();
+	}
+}
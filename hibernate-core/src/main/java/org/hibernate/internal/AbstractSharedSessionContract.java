@@ -85,6 +85,7 @@ import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.query.spi.NativeQueryImplementor;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
@@ -114,6 +115,8 @@ import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 public abstract class AbstractSharedSessionContract implements SharedSessionContractImplementor {
 	private static final EntityManagerMessageLogger log = HEMLogging.messageLogger( SessionImpl.class );
 
+	private static final StatementInspector EMPTY_INTERCEPTOR_STATEMENT_INSPECTOR = EmptyInterceptor.INSTANCE::onPrepareStatement;
+
 	private transient SessionFactoryImpl factory;
 	private final String tenantIdentifier;
 	protected transient FastSessionServices fastSessionServices;
@@ -122,6 +125,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	private transient JdbcConnectionAccess jdbcConnectionAccess;
 	private transient JdbcSessionContext jdbcSessionContext;
 	private transient JdbcCoordinator jdbcCoordinator;
+	private transient JdbcObserver parameterBindingObserver;
 
 	private transient TransactionImplementor currentHibernateTransaction;
 	private transient TransactionCoordinator transactionCoordinator;
@@ -142,6 +146,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	// transient & non-final for Serialization purposes - ugh
 	private transient SessionEventListenerManagerImpl sessionEventsManager;
+
+	//Lazily initialized
 	private transient EntityNameResolver entityNameResolver;
 
 	private Integer jdbcBatchSize;
@@ -184,8 +190,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		final StatementInspector statementInspector = interpret( options.getStatementInspector() );
 		this.jdbcSessionContext = new JdbcSessionContextImpl( this, statementInspector, fastSessionServices );
 
-		this.entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
-
 		if ( options instanceof SharedSessionCreationOptions && ( (SharedSessionCreationOptions) options ).isTransactionCoordinatorShared() ) {
 			if ( options.getConnection() != null ) {
 				throw new SessionException( "Cannot simultaneously share transaction context and specify connection" );
@@ -219,7 +223,13 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		else {
 			this.isTransactionCoordinatorShared = false;
 			this.autoJoinTransactions = options.shouldAutoJoinTransactions();
-			this.jdbcCoordinator = new JdbcCoordinatorImpl( options.getConnection(), this, fastSessionServices.jdbcServices );
+			final JdbcCoordinatorImpl jdbcCoordinator = new JdbcCoordinatorImpl( options.getConnection(), this, fastSessionServices.jdbcServices );
+			if ( jdbcCoordinator.getSlowQueryLog() != null ) {
+				// tracks the operation issuing each statement, and the values bound to it
+				sessionEventsManager.addListener( jdbcCoordinator.getSlowQueryLog() );
+				this.parameterBindingObserver = jdbcCoordinator.getSlowQueryLog().getParameterBindingObserver();
+			}
+			this.jdbcCoordinator = jdbcCoordinator;
 			this.transactionCoordinator = fastSessionServices.transactionCoordinatorBuilder.buildTransactionCoordinator( jdbcCoordinator, this );
 		}
 	}
@@ -242,6 +252,10 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private StatementInspector interpret(StatementInspector statementInspector) {
 		if ( statementInspector == null ) {
+			if ( interceptor == EmptyInterceptor.INSTANCE ) {
+				// the common case: share a single inspector rather than binding a new one for each session
+				return EMPTY_INTERCEPTOR_STATEMENT_INSPECTOR;
+			}
 			// If there is no StatementInspector specified, map to the call
 			//		to the (deprecated) Interceptor #onPrepareStatement method
 			return (StatementInspector) interceptor::onPrepareStatement;
@@ -275,6 +289,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	}
 
 	public EntityNameResolver getEntityNameResolver() {
+		if ( entityNameResolver == null ) {
+			entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
+		}
 		return entityNameResolver;
 	}
 
@@ -564,6 +581,11 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return jdbcTimeZone;
 	}
 
+	@Override
+	public JdbcObserver getParameterBindingObserver() {
+		return parameterBindingObserver;
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return getFactory().getJdbcServices();
@@ -1244,8 +1266,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		transactionCoordinator = factory.getServiceRegistry()
 				.getService( TransactionCoordinatorBuilder.class )
 				.buildTransactionCoordinator( jdbcCoordinator, this );
-
-		entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
 	}
 
 }
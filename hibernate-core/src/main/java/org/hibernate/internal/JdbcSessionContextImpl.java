@@ -58,6 +58,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
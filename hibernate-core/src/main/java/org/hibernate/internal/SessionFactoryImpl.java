@@ -12,12 +12,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
@@ -82,6 +84,8 @@ import org.hibernate.engine.spi.SessionBuilderImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionOwner;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
@@ -90,6 +94,7 @@ import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.factory.IdentifierGeneratorFactory;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
+import org.hibernate.internal.util.ParallelTaskExecutor;
 import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.internal.AfterCompletionActionLegacyJpaImpl;
@@ -168,6 +173,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 
 	private final transient SessionFactoryServiceRegistry serviceRegistry;
 	private final transient JdbcServices jdbcServices;
+	private final transient EventMonitor eventMonitor;
 
 	private final transient SQLFunctionRegistry sqlFunctionRegistry;
 
@@ -179,6 +185,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient CacheImplementor cacheAccess;
 	private final transient NamedQueryRepository namedQueryRepository;
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient CompletableFuture<Map<String, HibernateException>> namedQueryCheck;
+	private transient volatile ParallelTaskExecutor namedQueryCheckExecutor;
 
 	private final transient CurrentSessionContext currentSessionContext;
 
@@ -210,6 +218,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 
 		metadata.initSessionFactory( this );
 
+		this.eventMonitor = buildEventMonitor( serviceRegistry.getService( ClassLoaderService.class ) );
+
 		final CfgXmlAccessService cfgXmlAccessService = serviceRegistry.getService( CfgXmlAccessService.class );
 
 		String sfName = settings.getSessionFactoryName();
@@ -275,6 +285,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		}
 		final IntegratorObserver integratorObserver = new IntegratorObserver();
 		this.observer.addObserver( integratorObserver );
+		final ParallelTaskExecutor bootstrapExecutor = ParallelTaskExecutor.create( options.getBootstrapParallelism() );
 		try {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
 				integrator.integrate( metadata, this, this.serviceRegistry );
@@ -298,7 +309,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.metamodel = metadata.getTypeConfiguration().scope( this );
 			( (MetamodelImpl) this.metamodel ).initialize(
 					metadata,
-					determineJpaMetaModelPopulationSetting( properties )
+					determineJpaMetaModelPopulationSetting( properties ),
+					bootstrapExecutor
 			);
 
 			//Named Queries:
@@ -320,9 +332,13 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 
 			currentSessionContext = buildCurrentSessionContext();
 
-			//checking for named queries
-			if ( settings.isNamedQueryStartupCheckingEnabled() ) {
-				final Map<String, HibernateException> errors = checkNamedQueries();
+			//checking for named queries, unless done in the background once the factory is ready
+			if ( settings.isNamedQueryStartupCheckingEnabled()
+					&& !sessionFactoryOptions.isNamedQueryBackgroundCheckingEnabled() ) {
+				final Map<String, HibernateException> errors = namedQueryRepository.checkNamedQueries(
+						queryPlanCache,
+						bootstrapExecutor
+				);
 				if ( !errors.isEmpty() ) {
 					StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
 					String separator = System.lineSeparator();
@@ -386,6 +402,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 					this,
 					serviceRegistry.getService( JndiService.class )
 			);
+
+			this.namedQueryCheck = settings.isNamedQueryStartupCheckingEnabled()
+					&& sessionFactoryOptions.isNamedQueryBackgroundCheckingEnabled()
+					? checkNamedQueriesInBackground()
+					: CompletableFuture.completedFuture( Collections.emptyMap() );
 		}
 		catch (Exception e) {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
@@ -395,6 +416,58 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			close();
 			throw e;
 		}
+		finally {
+			bootstrapExecutor.close();
+		}
+	}
+
+	private CompletableFuture<Map<String, HibernateException>> checkNamedQueriesInBackground() {
+		final CompletableFuture<Map<String, HibernateException>> result = new CompletableFuture<>();
+		// created here, so that the pool threads use the context class loader of the bootstrap thread;
+		// cancelled when the factory is closed
+		final ParallelTaskExecutor executor = ParallelTaskExecutor.create( sessionFactoryOptions.getBootstrapParallelism() );
+		this.namedQueryCheckExecutor = executor;
+		final Thread thread = new Thread(
+				() -> {
+					try {
+						final Map<String, HibernateException> errors = namedQueryRepository.checkNamedQueries(
+								queryPlanCache,
+								executor
+						);
+						if ( !isClosed ) {
+							for ( Map.Entry<String, HibernateException> entry : errors.entrySet() ) {
+								LOG.namedQueryError( entry.getKey(), entry.getValue() );
+							}
+						}
+						result.complete( errors );
+					}
+					catch (RuntimeException e) {
+						if ( !isClosed ) {
+							LOG.warn( "Unable to check the named queries", e );
+						}
+						result.completeExceptionally( e );
+					}
+					finally {
+						executor.close();
+					}
+				},
+				"Hibernate named query check"
+		);
+		thread.setDaemon( true );
+		thread.start();
+		return result;
+	}
+
+	private static EventMonitor buildEventMonitor(ClassLoaderService classLoaderService) {
+		final Collection<EventMonitor> eventMonitors = classLoaderService.loadJavaServices( EventMonitor.class );
+		if ( eventMonitors.isEmpty() ) {
+			return EmptyEventMonitor.INSTANCE;
+		}
+		final EventMonitor eventMonitor = eventMonitors.iterator().next();
+		if ( eventMonitors.size() > 1 ) {
+			LOG.debugf( "Multiple EventMonitor implementations found, using %s", eventMonitor.getClass().getName() );
+		}
+		return eventMonitor;
 	}
 
 	private SessionBuilder buildTemporarySessionOpenOptions() {
@@ -543,10 +616,6 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryPlanCache;
 	}
 
-	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
-	}
-
 	@Override
 	public DeserializationResolver getDeserializationResolver() {
 		return new DeserializationResolver() {
@@ -691,6 +760,17 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return namedQueryRepository;
 	}
 
+	/**
+	 * The check of the named queries performed in the background, as per
+	 * {@link org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_BACKGROUND}.
+	 *
+	 * @return The errors found, keyed by query name; completed from the start, without errors, when the
+	 * named queries are checked while building the factory or not checked at all
+	 */
+	public CompletableFuture<Map<String, HibernateException>> getNamedQueryCheck() {
+		return namedQueryCheck;
+	}
+
 
 	public Type getIdentifierType(String className) throws MappingException {
 		return getMetamodel().entityPersister( className ).getIdentifierType();
@@ -769,6 +849,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		LOG.closing();
 		observer.sessionFactoryClosing( this );
 
+		if ( namedQueryCheckExecutor != null ) {
+			// stop checking the named queries in the background, against the closed factory
+			namedQueryCheckExecutor.cancel();
+		}
+
 		settings.getMultiTableBulkIdStrategy().release( serviceRegistry.getService( JdbcServices.class ), buildLocalConnectionAccess() );
 
 		// NOTE : the null checks below handle cases where close is called from
@@ -953,6 +1038,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return statistics;
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return eventMonitor;
+	}
+
 	public FilterDefinition getFilterDefinition(String filterName) throws HibernateException {
 		FilterDefinition def = filters.get( filterName );
 		if ( def == null ) {
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.persistence.CacheRetrieveMode;
 import javax.persistence.CacheStoreMode;
@@ -53,6 +54,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.QueryException;
@@ -95,6 +97,9 @@ import org.hibernate.engine.spi.Status;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.engine.transaction.spi.TransactionObserver;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.ClearEvent;
@@ -169,6 +174,7 @@ import org.hibernate.resource.transaction.spi.TransactionStatus;
 import org.hibernate.stat.SessionStatistics;
 import org.hibernate.stat.internal.SessionStatisticsImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.Type;
 
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
@@ -213,6 +219,8 @@ public class SessionImpl
 	private transient int dontFlushFromFind;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
+	private transient PersistEvent persistEvent; //cached PersistEvent instance
+	private transient MergeEvent mergeEvent; //cached MergeEvent instance
 
 	private transient TransactionObserver transactionObserver;
 	
@@ -246,6 +254,12 @@ public class SessionImpl
 			statistics.openSession();
 		}
 
+		final EventMonitor eventMonitor = factory.getEventMonitor();
+		final DiagnosticEvent sessionOpenEvent = eventMonitor.beginSessionOpenEvent();
+		if ( sessionOpenEvent != null ) {
+			eventMonitor.completeSessionOpenEvent( sessionOpenEvent, this );
+		}
+
 		if ( this.properties != null ) {
 			//There might be custom properties for this session that affect the LockOptions state
 			LockOptionsHelper.applyPropertiesToLockOptions( this.properties, this::getLockOptionsForWrite );
@@ -358,6 +372,8 @@ public class SessionImpl
 
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
+		final EventMonitor eventMonitor = sessionFactory.getEventMonitor();
+		final DiagnosticEvent sessionClosedEvent = eventMonitor.beginSessionClosedEvent();
 		if ( sessionFactory.getSessionFactoryOptions().isJpaBootstrap() ) {
 			// Original hibernate-entitymanager EM#close behavior
 			checkSessionFactoryOpen();
@@ -379,6 +395,10 @@ public class SessionImpl
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.closeSession();
 		}
+
+		if ( sessionClosedEvent != null ) {
+			eventMonitor.completeSessionClosedEvent( sessionClosedEvent, this );
+		}
 	}
 
 	private boolean isTransactionInProgress(boolean isMarkedRollbackConsideredActive) {
@@ -687,19 +707,47 @@ public class SessionImpl
 	@Override
 	public void persist(String entityName, Object object) throws HibernateException {
 		checkOpen();
-		firePersist( new PersistEvent( entityName, object, this ) );
+		final PersistEvent event = recyclePersistEvent( entityName, object );
+		firePersist( event );
+		releasePersistEvent( event, fastSessionServices.eventListenerGroup_PERSIST );
 	}
 
 	@Override
 	public void persist(Object object) throws HibernateException {
 		checkOpen();
-		firePersist( new PersistEvent( null, object, this ) );
+		final PersistEvent event = recyclePersistEvent( null, object );
+		firePersist( event );
+		releasePersistEvent( event, fastSessionServices.eventListenerGroup_PERSIST );
 	}
 
 	@Override
 	public void persist(String entityName, Object object, Map copiedAlready) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
-		firePersist( copiedAlready, new PersistEvent( entityName, object, this ) );
+		final PersistEvent event = recyclePersistEvent( entityName, object );
+		firePersist( copiedAlready, event );
+		releasePersistEvent( event, fastSessionServices.eventListenerGroup_PERSIST );
+	}
+
+	/**
+	 * Helper to avoid creating many new instances of PersistEvent, as for {@link #recycleEventInstance}.
+	 */
+	private PersistEvent recyclePersistEvent(final String entityName, final Object object) {
+		final PersistEvent event = persistEvent;
+		if ( event == null || object == null ) {
+			return new PersistEvent( entityName, object, this );
+		}
+		persistEvent = null;
+		event.setEntityName( entityName );
+		event.setObject( object );
+		return event;
+	}
+
+	private void releasePersistEvent(final PersistEvent event, final EventListenerGroup<PersistEventListener> listeners) {
+		if ( persistEvent == null && listeners.hasBuiltInListenersOnly() ) {
+			event.setEntityName( null );
+			event.setObject( null );
+			persistEvent = event;
+		}
 	}
 
 	private void firePersist(final PersistEvent event) {
@@ -751,8 +799,9 @@ public class SessionImpl
 	public void persistOnFlush(String entityName, Object object, Map copiedAlready) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
-		PersistEvent event = new PersistEvent( entityName, object, this );
+		final PersistEvent event = recyclePersistEvent( entityName, object );
 		fastSessionServices.eventListenerGroup_PERSIST_ONFLUSH.fireEventOnEachListener( event, copiedAlready, PersistEventListener::onPersist );
+		releasePersistEvent( event, fastSessionServices.eventListenerGroup_PERSIST_ONFLUSH );
 		delayedAfterCompletion();
 	}
 
@@ -761,19 +810,52 @@ public class SessionImpl
 	@Override
 	public Object merge(String entityName, Object object) throws HibernateException {
 		checkOpen();
-		return fireMerge( new MergeEvent( entityName, object, this ) );
+		final MergeEvent event = recycleMergeEvent( entityName, object );
+		final Object result = fireMerge( event );
+		releaseMergeEvent( event );
+		return result;
 	}
 
 	@Override
 	public Object merge(Object object) throws HibernateException {
 		checkOpen();
-		return fireMerge( new MergeEvent( null, object, this ));
+		final MergeEvent event = recycleMergeEvent( null, object );
+		final Object result = fireMerge( event );
+		releaseMergeEvent( event );
+		return result;
 	}
 
 	@Override
 	public void merge(String entityName, Object object, Map copiedAlready) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
-		fireMerge( copiedAlready, new MergeEvent( entityName, object, this ) );
+		final MergeEvent event = recycleMergeEvent( entityName, object );
+		fireMerge( copiedAlready, event );
+		releaseMergeEvent( event );
+	}
+
+	/**
+	 * Helper to avoid creating many new instances of MergeEvent, as for {@link #recycleEventInstance}.
+	 */
+	private MergeEvent recycleMergeEvent(final String entityName, final Object object) {
+		final MergeEvent event = mergeEvent;
+		if ( event == null || object == null ) {
+			return new MergeEvent( entityName, object, this );
+		}
+		mergeEvent = null;
+		event.setEntityName( entityName );
+		event.setOriginal( object );
+		return event;
+	}
+
+	private void releaseMergeEvent(final MergeEvent event) {
+		if ( mergeEvent == null && fastSessionServices.eventListenerGroup_MERGE.hasBuiltInListenersOnly() ) {
+			event.setEntityName( null );
+			event.setOriginal( null );
+			event.setRequestedId( null );
+			event.setEntity( null );
+			event.setResult( null );
+			mergeEvent = event;
+		}
 	}
 
 	private Object fireMerge(MergeEvent event) {
@@ -945,17 +1027,13 @@ public class SessionImpl
 			event.setLockMode( LoadEvent.DEFAULT_LOCK_MODE );
 			event.setLockScope( LoadEvent.DEFAULT_LOCK_OPTIONS.getScope() );
 			event.setLockTimeout( LoadEvent.DEFAULT_LOCK_OPTIONS.getTimeOut() );
+			event.setAssociationFetch( false );
+			event.setReadOnly( getReadOnlyFromLoadQueryInfluencers() );
 		}
 
 		fireLoad( event, LoadEventListener.RELOAD );
 
-		if ( loadEvent == null ) {
-			event.setEntityClassName( null );
-			event.setEntityId( null );
-			event.setInstanceToLoad( null );
-			event.setResult( null );
-			loadEvent = event;
-		}
+		releaseLoadEvent( event );
 	}
 
 	@Override
@@ -991,16 +1069,10 @@ public class SessionImpl
 		}
 		LoadEvent event = loadEvent;
 		loadEvent = null;
-		event = recycleEventInstance( event, id, entityName );
+		event = recycleEventInstance( event, id, entityName, true );
 		fireLoadNoChecks( event, LoadEventListener.IMMEDIATE_LOAD );
 		Object result = event.getResult();
-		if ( loadEvent == null ) {
-			event.setEntityClassName( null );
-			event.setEntityId( null );
-			event.setInstanceToLoad( null );
-			event.setResult( null );
-			loadEvent = event;
-		}
+		releaseLoadEvent( event );
 		return result;
 	}
 
@@ -1036,7 +1108,7 @@ public class SessionImpl
 			LoadEvent event = loadEvent;
 			loadEvent = null;
 
-			event = recycleEventInstance( event, id, entityName );
+			event = recycleEventInstance( event, id, entityName, true );
 
 			fireLoadNoChecks( event, type );
 
@@ -1046,13 +1118,7 @@ public class SessionImpl
 				UnresolvableObjectException.throwIfNull( result, id, entityName );
 			}
 
-			if ( loadEvent == null ) {
-				event.setEntityClassName( null );
-				event.setEntityId( null );
-				event.setInstanceToLoad( null );
-				event.setResult( null );
-				loadEvent = event;
-			}
+			releaseLoadEvent( event );
 			return result;
 		}
 		finally {
@@ -1065,9 +1131,13 @@ public class SessionImpl
 	/**
 	 * Helper to avoid creating many new instances of LoadEvent: it's an allocation hot spot.
 	 */
-	private LoadEvent recycleEventInstance(final LoadEvent event, final Serializable id, final String entityName) {
+	private LoadEvent recycleEventInstance(
+			final LoadEvent event,
+			final Serializable id,
+			final String entityName,
+			final boolean associationFetch) {
 		if ( event == null ) {
-			return new LoadEvent( id, entityName, true, this, getReadOnlyFromLoadQueryInfluencers() );
+			return new LoadEvent( id, entityName, associationFetch, this, getReadOnlyFromLoadQueryInfluencers() );
 		}
 		else {
 			event.setEntityClassName( entityName );
@@ -1076,10 +1146,26 @@ public class SessionImpl
 			event.setLockMode( LoadEvent.DEFAULT_LOCK_MODE );
 			event.setLockScope( LoadEvent.DEFAULT_LOCK_OPTIONS.getScope() );
 			event.setLockTimeout( LoadEvent.DEFAULT_LOCK_OPTIONS.getTimeOut() );
+			event.setAssociationFetch( associationFetch );
+			event.setReadOnly( getReadOnlyFromLoadQueryInfluencers() );
 			return event;
 		}
 	}
 
+	/**
+	 * Keep the given LoadEvent for reuse, unless an instance is already kept or the
+	 * registered listeners might hold on to it.
+	 */
+	private void releaseLoadEvent(final LoadEvent event) {
+		if ( loadEvent == null && fastSessionServices.eventListenerGroup_LOAD.hasBuiltInListenersOnly() ) {
+			event.setEntityClassName( null );
+			event.setEntityId( null );
+			event.setInstanceToLoad( null );
+			event.setResult( null );
+			loadEvent = event;
+		}
+	}
+
 	@Override
 	public <T> T load(Class<T> entityClass, Serializable id, LockMode lockMode) throws HibernateException {
 		return this.byId( entityClass ).with( new LockOptions( lockMode ) ).getReference( id );
@@ -1140,6 +1226,16 @@ public class SessionImpl
 		return new MultiIdentifierLoadAccessImpl( locateEntityPersister( entityName ) );
 	}
 
+	@Override
+	public <T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass) {
+		return new NaturalIdMultiLoadAccessImpl<T>( locateEntityPersister( entityClass ) );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName) {
+		return new NaturalIdMultiLoadAccessImpl( locateEntityPersister( entityName ) );
+	}
+
 	@Override
 	public NaturalIdLoadAccess byNaturalId(String entityName) {
 		return new NaturalIdLoadAccessImpl( entityName );
@@ -1395,6 +1491,7 @@ public class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		getEventListenerManager().queryExecution( query );
 
 		final List results;
 		boolean success = false;
@@ -1518,6 +1615,7 @@ public class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		getEventListenerManager().queryExecution( query );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -1540,6 +1638,7 @@ public class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		getEventListenerManager().queryExecution( query );
 
 		dontFlushFromFind++;
 		try {
@@ -1735,6 +1834,7 @@ public class SessionImpl
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
 		FilterQueryPlan plan = getFilterQueryPlan( collection, filter, queryParameters, false );
+		getEventListenerManager().queryExecution( filter );
 		List results = Collections.EMPTY_LIST;
 
 		boolean success = false;
@@ -1756,6 +1856,7 @@ public class SessionImpl
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
 		FilterQueryPlan plan = getFilterQueryPlan( collection, filter, queryParameters, true );
+		getEventListenerManager().queryExecution( filter );
 		Iterator itr = plan.performIterate( queryParameters, this );
 		delayedAfterCompletion();
 		return itr;
@@ -2100,6 +2201,7 @@ public class SessionImpl
 		CustomLoader loader = getFactory().getQueryPlanCache().getNativeQueryInterpreter().createCustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		getEventListenerManager().queryExecution( customQuery.getSQL() );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -2124,6 +2226,7 @@ public class SessionImpl
 		CustomLoader loader = getFactory().getQueryPlanCache().getNativeQueryInterpreter().createCustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		getEventListenerManager().queryExecution( customQuery.getSQL() );
 
 		dontFlushFromFind++;
 		boolean success = false;
@@ -2149,8 +2252,13 @@ public class SessionImpl
 	public void initializeCollection(PersistentCollection collection, boolean writing) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
+		final EventMonitor eventMonitor = getFactory().getEventMonitor();
+		final DiagnosticEvent initializationEvent = eventMonitor.beginLazyInitializationEvent();
 		InitializeCollectionEvent event = new InitializeCollectionEvent( collection, this );
 		fastSessionServices.eventListenerGroup_INIT_COLLECTION.fireEventOnEachListener( event, InitializeCollectionEventListener::onInitializeCollection );
+		if ( initializationEvent != null ) {
+			eventMonitor.completeLazyInitializationEvent( initializationEvent, this, collection.getRole(), collection.getKey() );
+		}
 		delayedAfterCompletion();
 	}
 
@@ -2734,20 +2842,24 @@ public class SessionImpl
 				return (T) event.getResult();
 			}
 
-			LoadEvent event = new LoadEvent( id, entityPersister.getEntityName(), false, SessionImpl.this, getReadOnlyFromLoadQueryInfluencers() );
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityPersister.getEntityName(), false );
 			boolean success = false;
 			try {
 				fireLoad( event, LoadEventListener.LOAD );
-				if ( event.getResult() == null ) {
+				final Object result = event.getResult();
+				if ( result == null ) {
 					getFactory().getEntityNotFoundDelegate().handleEntityNotFound(
 							entityPersister.getEntityName(),
 							id
 					);
 				}
 				success = true;
-				return (T) event.getResult();
+				return (T) result;
 			}
 			finally {
+				releaseLoadEvent( event );
 				afterOperation( success );
 			}
 		}
@@ -2770,19 +2882,25 @@ public class SessionImpl
 				return (T) event.getResult();
 			}
 
-			LoadEvent event = new LoadEvent( id, entityPersister.getEntityName(), false, SessionImpl.this, getReadOnlyFromLoadQueryInfluencers() );
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityPersister.getEntityName(), false );
+			Object result = null;
 			boolean success = false;
 			try {
 				fireLoad( event, LoadEventListener.GET );
+				result = event.getResult();
 				success = true;
 			}
 			catch (ObjectNotFoundException e) {
 				// if session cache contains proxy for non-existing object
+				result = event.getResult();
 			}
 			finally {
+				releaseLoadEvent( event );
 				afterOperation( success );
 			}
-			return (T) event.getResult();
+			return (T) result;
 		}
 	}
 
@@ -2796,6 +2914,7 @@ public class SessionImpl
 		private GraphSemantic graphSemantic;
 
 		private Integer batchSize;
+		private Integer parallelism;
 		private boolean sessionCheckingEnabled;
 		private boolean returnOfDeletedEntitiesEnabled;
 		private boolean orderedReturnEnabled = true;
@@ -2844,6 +2963,22 @@ public class SessionImpl
 			return this;
 		}
 
+		@Override
+		public Integer getParallelism() {
+			return parallelism;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> withParallelism(int parallelism) {
+			if ( parallelism < 2 ) {
+				this.parallelism = null;
+			}
+			else {
+				this.parallelism = parallelism;
+			}
+			return this;
+		}
+
 		@Override
 		public boolean isSessionCheckingEnabled() {
 			return sessionCheckingEnabled;
@@ -3039,6 +3174,10 @@ public class SessionImpl
 		protected EntityPersister entityPersister() {
 			return entityPersister;
 		}
+
+		protected LockOptions lockOptions() {
+			return lockOptions;
+		}
 	}
 
 	private class NaturalIdLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadAccess<T> {
@@ -3180,6 +3319,292 @@ public class SessionImpl
 		}
 	}
 
+	private class NaturalIdMultiLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T>
+			implements NaturalIdMultiLoadAccess<T> {
+		private Integer batchSize;
+
+		private NaturalIdMultiLoadAccessImpl(EntityPersister entityPersister) {
+			super( entityPersister );
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl<T> with(LockOptions lockOptions) {
+			return (NaturalIdMultiLoadAccessImpl<T>) super.with( lockOptions );
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl<T> withBatchSize(int batchSize) {
+			if ( batchSize < 1 ) {
+				this.batchSize = null;
+			}
+			else {
+				this.batchSize = batchSize;
+			}
+			return this;
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl<T> setSynchronizationEnabled(boolean synchronizationEnabled) {
+			super.synchronizationEnabled( synchronizationEnabled );
+			return this;
+		}
+
+		@Override
+		public List<T> multiLoad(Object... naturalIds) {
+			return multiLoad( Arrays.asList( naturalIds ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<T> multiLoad(List<?> naturalIds) {
+			performAnyNeededCrossReferenceSynchronizations();
+
+			final EntityPersister persister = entityPersister();
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = getPersistenceContextInternal().getNaturalIdHelper();
+			final int size = naturalIds.size();
+			final Serializable[] ids = new Serializable[size];
+			final Object[][] orderedValues = new Object[size][];
+
+			// first resolve what the session (or the second-level cache) already knows about...
+			final int[] unresolved = new int[size];
+			int unresolvedCount = 0;
+			for ( int i = 0; i < size; i++ ) {
+				final Object[] values = orderNaturalIdValues( naturalIds.get( i ) );
+				if ( values == null ) {
+					continue;
+				}
+				final Serializable pk = naturalIdHelper.findCachedNaturalIdResolution( persister, values );
+				if ( pk == PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ) {
+					continue;
+				}
+				if ( pk != null ) {
+					ids[i] = pk;
+				}
+				else {
+					orderedValues[i] = values;
+					unresolved[unresolvedCount++] = i;
+				}
+			}
+
+			// ...then query the others, one query per batch
+			if ( unresolvedCount > 0 ) {
+				final int batch = batchSize != null
+						? batchSize
+						: getJdbcServices().getDialect()
+								.getDefaultBatchLoadSizingStrategy()
+								.determineOptimalBatchLoadSize( persister.getNaturalIdentifierProperties().length, unresolvedCount );
+				for ( int start = 0; start < unresolvedCount; start += batch ) {
+					loadBatch( ids, orderedValues, unresolved, start, Math.min( start + batch, unresolvedCount ) );
+				}
+			}
+
+			// and finally load the entities, those just queried are already associated with the session
+			final List<Serializable> resolvedIds = new ArrayList<>( size );
+			for ( Serializable id : ids ) {
+				if ( id != null ) {
+					resolvedIds.add( id );
+				}
+			}
+			final List<T> entities;
+			if ( resolvedIds.isEmpty() ) {
+				entities = Collections.emptyList();
+			}
+			else {
+				final MultiIdentifierLoadAccessImpl<T> loadAccess = new MultiIdentifierLoadAccessImpl<>( persister );
+				if ( lockOptions() != null ) {
+					loadAccess.with( lockOptions() );
+				}
+				entities = loadAccess.enableSessionCheck( true ).multiLoad( resolvedIds );
+			}
+
+			final List<T> result = new ArrayList<>( size );
+			int position = 0;
+			for ( Serializable id : ids ) {
+				result.add( id == null ? null : entities.get( position++ ) );
+			}
+			return result;
+		}
+
+		private Object[] orderNaturalIdValues(Object naturalId) {
+			final EntityPersister persister = entityPersister();
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final String[] propertyNames = persister.getPropertyNames();
+
+			if ( naturalIdProperties.length == 1 && !( naturalId instanceof Map ) ) {
+				// a null simple natural id cannot match any entity
+				return naturalId == null ? null : new Object[] { naturalId };
+			}
+			if ( !( naturalId instanceof Map ) ) {
+				throw new HibernateException(
+						String.format(
+								"Entity [%s] defines a compound natural-id, natural id values must be passed as a Map",
+								persister.getEntityName()
+						)
+				);
+			}
+
+			final Map<?, ?> naturalIdValues = (Map<?, ?>) naturalId;
+			final Object[] values = new Object[naturalIdProperties.length];
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				final String propertyName = propertyNames[naturalIdProperties[i]];
+				if ( !naturalIdValues.containsKey( propertyName ) ) {
+					throw new HibernateException(
+							String.format(
+									"No value specified for natural-id property %s#%s",
+									persister.getEntityName(),
+									propertyName
+							)
+					);
+				}
+				values[i] = naturalIdValues.get( propertyName );
+			}
+			return values;
+		}
+
+		private void loadBatch(Serializable[] ids, Object[][] orderedValues, int[] positions, int start, int end) {
+			final EntityPersister persister = entityPersister();
+			final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+			final String[] propertyNames = persister.getPropertyNames();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+
+			final StringBuilder hql = new StringBuilder( "select e from " )
+					.append( persister.getEntityName() )
+					.append( " e where " );
+			if ( naturalIdProperties.length == 1 ) {
+				hql.append( "e." ).append( propertyNames[naturalIdProperties[0]] ).append( " in (:naturalIds)" );
+			}
+			else {
+				for ( int p = start; p < end; p++ ) {
+					if ( p > start ) {
+						hql.append( " or " );
+					}
+					hql.append( '(' );
+					for ( int k = 0; k < naturalIdProperties.length; k++ ) {
+						if ( k > 0 ) {
+							hql.append( " and " );
+						}
+						hql.append( "e." ).append( propertyNames[naturalIdProperties[k]] );
+						if ( orderedValues[positions[p]][k] == null ) {
+							hql.append( " is null" );
+						}
+						else {
+							hql.append( " = :naturalId" ).append( p - start ).append( '_' ).append( k );
+						}
+					}
+					hql.append( ')' );
+				}
+			}
+
+			final Query query = createQuery( hql.toString() );
+			if ( naturalIdProperties.length == 1 ) {
+				final List<Object> values = new ArrayList<>( end - start );
+				for ( int p = start; p < end; p++ ) {
+					values.add( orderedValues[positions[p]][0] );
+				}
+				query.setParameterList( "naturalIds", values );
+			}
+			else {
+				for ( int p = start; p < end; p++ ) {
+					for ( int k = 0; k < naturalIdProperties.length; k++ ) {
+						final Object value = orderedValues[positions[p]][k];
+						if ( value != null ) {
+							query.setParameter( "naturalId" + ( p - start ) + '_' + k, value );
+						}
+					}
+				}
+			}
+			if ( lockOptions() != null ) {
+				query.setLockOptions( lockOptions() );
+			}
+
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final boolean stats = statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
+
+			final List<?> entities = query.list();
+
+			if ( stats ) {
+				statistics.naturalIdQueryExecuted(
+						persister.getRootEntityName(),
+						TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS )
+				);
+			}
+
+			// match the loaded entities with the requested natural ids; loading them also cross-referenced them
+			final Type[] naturalIdTypes = new Type[naturalIdProperties.length];
+			for ( int k = 0; k < naturalIdProperties.length; k++ ) {
+				naturalIdTypes[k] = propertyTypes[naturalIdProperties[k]];
+			}
+			final Map<NaturalIdValues, List<Integer>> positionsByNaturalId = new HashMap<>( ( end - start ) * 2 );
+			for ( int p = start; p < end; p++ ) {
+				positionsByNaturalId.computeIfAbsent(
+						new NaturalIdValues( naturalIdTypes, orderedValues[positions[p]], getFactory() ),
+						values -> new ArrayList<>( 1 )
+				).add( positions[p] );
+			}
+
+			final PersistenceContext persistenceContext = getPersistenceContextInternal();
+			for ( Object entity : entities ) {
+				final Object[] values = persistenceContext.getNaturalIdHelper()
+						.extractNaturalIdValues( persistenceContext.unproxy( entity ), persister );
+				final List<Integer> matchingPositions = positionsByNaturalId.get(
+						new NaturalIdValues( naturalIdTypes, values, getFactory() )
+				);
+				if ( matchingPositions != null ) {
+					final Serializable pk = getContextEntityIdentifier( entity );
+					for ( int position : matchingPositions ) {
+						if ( ids[position] == null ) {
+							ids[position] = pk;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The values of a natural id, with equals/hashCode applying the natural id types.
+	 */
+	private static final class NaturalIdValues {
+		private final Type[] naturalIdTypes;
+		private final Object[] values;
+		private final SessionFactoryImplementor factory;
+		private final int hashCode;
+
+		private NaturalIdValues(Type[] naturalIdTypes, Object[] values, SessionFactoryImplementor factory) {
+			this.naturalIdTypes = naturalIdTypes;
+			this.values = values;
+			this.factory = factory;
+			int hashCode = 1;
+			for ( int k = 0; k < naturalIdTypes.length; k++ ) {
+				hashCode = 31 * hashCode + ( values[k] == null ? 0 : naturalIdTypes[k].getHashCode( values[k], factory ) );
+			}
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !( obj instanceof NaturalIdValues ) ) {
+				return false;
+			}
+			final NaturalIdValues other = (NaturalIdValues) obj;
+			for ( int k = 0; k < naturalIdTypes.length; k++ ) {
+				if ( !naturalIdTypes[k].isEqual( values[k], other.values[k], factory ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	@Override
 	public void startTransactionBoundary() {
 		checkOpenOrWaitingForAutoClose();
@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies a task to each element of a collection, on the threads of a {@link ForkJoinPool} or sequentially,
+ * with the same outcome either way: the results are returned in the iteration order of the collection, and
+ * if tasks fail, the exception thrown is the one of the first failing element in that order.
+ * <p/>
+ * The tasks must only depend on state which is complete before the executor is used, and on the element
+ * they are applied to.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BOOTSTRAP_PARALLELISM
+ */
+public final class ParallelTaskExecutor implements AutoCloseable {
+	/**
+	 * Applies the tasks on the calling thread.
+	 */
+	public static final ParallelTaskExecutor SEQUENTIAL = new ParallelTaskExecutor( null );
+
+	/**
+	 * Build an executor using the given number of threads.
+	 *
+	 * @param parallelism The number of threads; 1 (or less) to apply the tasks on the calling thread
+	 *
+	 * @return The executor, to be closed once no longer used
+	 */
+	public static ParallelTaskExecutor create(int parallelism) {
+		if ( parallelism <= 1 ) {
+			// not SEQUENTIAL, which must not be cancelled
+			return new ParallelTaskExecutor( null );
+		}
+		// the tasks may load classes through the context class loader of the calling thread
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ParallelTaskExecutor(
+				new ForkJoinPool(
+						parallelism,
+						pool -> {
+							final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+							thread.setName( "Hibernate bootstrap worker " + thread.getPoolIndex() );
+							thread.setContextClassLoader( contextClassLoader );
+							return thread;
+						},
+						null,
+						false
+				)
+		);
+	}
+
+	private final ForkJoinPool pool;
+	private volatile boolean cancelled;
+
+	private ParallelTaskExecutor(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public boolean isParallel() {
+		return pool != null;
+	}
+
+	/**
+	 * Apply a task to each element.
+	 *
+	 * @param elements The elements
+	 * @param task The task
+	 * @param <T> The type of the elements
+	 * @param <R> The type of the results
+	 *
+	 * @return The results, in the iteration order of the elements
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, R> List<R> map(Collection<? extends T> elements, Function<? super T, ? extends R> task) {
+		if ( pool == null || elements.size() < 2 ) {
+			final List<R> results = new ArrayList<>( elements.size() );
+			for ( T element : elements ) {
+				checkNotCancelled();
+				results.add( task.apply( element ) );
+			}
+			return results;
+		}
+
+		final Object[] results = new Object[elements.size()];
+		final Throwable[] failures = new Throwable[elements.size()];
+		final List<Callable<Void>> tasks = new ArrayList<>( elements.size() );
+		int index = 0;
+		for ( T element : elements ) {
+			final int elementIndex = index++;
+			tasks.add( () -> {
+				if ( cancelled ) {
+					return null;
+				}
+				try {
+					results[elementIndex] = task.apply( element );
+				}
+				catch (RuntimeException | Error e) {
+					// rethrown as is by the calling thread, rather than wrapped by the pool
+					failures[elementIndex] = e;
+				}
+				return null;
+			} );
+		}
+		pool.invokeAll( tasks );
+		checkNotCancelled();
+
+		for ( Throwable failure : failures ) {
+			if ( failure instanceof RuntimeException ) {
+				throw (RuntimeException) failure;
+			}
+			else if ( failure != null ) {
+				throw (Error) failure;
+			}
+		}
+		return (List<R>) Arrays.asList( results );
+	}
+
+	/**
+	 * Apply a task to each element.
+	 *
+	 * @param elements The elements
+	 * @param task The task
+	 * @param <T> The type of the elements
+	 */
+	public <T> void forEach(Collection<? extends T> elements, Consumer<? super T> task) {
+		map(
+				elements,
+				element -> {
+					task.accept( element );
+					return null;
+				}
+		);
+	}
+
+	/**
+	 * Cancel the tasks: those not started yet are skipped, and the {@link #map} or {@link #forEach}
+	 * in progress, as well as any later one, throws a {@link CancellationException}.
+	 */
+	public void cancel() {
+		if ( this == SEQUENTIAL ) {
+			throw new IllegalStateException( "The sequential executor is shared and cannot be cancelled" );
+		}
+		cancelled = true;
+	}
+
+	private void checkNotCancelled() {
+		if ( cancelled ) {
+			throw new CancellationException();
+		}
+	}
+
+	@Override
+	public void close() {
+		if ( pool != null ) {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A bounded, lock-free queue backed by a ring buffer, for many producer threads and a single consumer thread.
+ * <p/>
+ * Producers never block: an element offered while the buffer is full is dropped, and counted as such.
+ *
+ * @param <E> The type of the elements
+ */
+public final class RingBuffer<E> {
+	private final AtomicReferenceArray<E> slots;
+	private final int mask;
+
+	// the sequence of the next slot to be claimed by a producer
+	private final AtomicLong tail = new AtomicLong();
+	// the sequence of the next slot to be read by the consumer
+	private final AtomicLong head = new AtomicLong();
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * @param capacity The maximum number of elements, rounded up to the next power of two
+	 */
+	public RingBuffer(int capacity) {
+		if ( capacity < 1 ) {
+			throw new IllegalArgumentException( "capacity [" + capacity + "] should be greater than 0" );
+		}
+		final int size = MathHelper.ceilingPowerOfTwo( capacity );
+		this.slots = new AtomicReferenceArray<>( size );
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Add an element, unless the buffer is full.  May be called by any thread.
+	 *
+	 * @param element The element, not {@code null}
+	 *
+	 * @return {@code true} if the element was added; {@code false} if it was dropped
+	 */
+	public boolean offer(E element) {
+		long sequence;
+		do {
+			sequence = tail.get();
+			if ( sequence - head.get() >= slots.length() ) {
+				droppedCount.increment();
+				return false;
+			}
+		} while ( !tail.compareAndSet( sequence, sequence + 1 ) );
+		slots.lazySet( (int) sequence & mask, element );
+		return true;
+	}
+
+	/**
+	 * Remove the oldest element.  Must only be called by the consumer thread.
+	 *
+	 * @return The element, or {@code null} if the buffer is empty
+	 */
+	public E poll() {
+		final long sequence = head.get();
+		final int index = (int) sequence & mask;
+		// null if the buffer is empty, or if the producer which claimed the slot did not store its element yet
+		final E element = slots.get( index );
+		if ( element == null ) {
+			return null;
+		}
+		// the slot must be cleared before being made available to the producers again
+		slots.lazySet( index, null );
+		head.lazySet( sequence + 1 );
+		return element;
+	}
+
+	public int capacity() {
+		return slots.length();
+	}
+
+	/**
+	 * @return The number of elements dropped so far, as the buffer was full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+}
@@ -39,7 +39,17 @@ public enum BatchFetchStyle {
 	 * Dynamically builds its SQL based on the actual number of available ids.  Does still limit to the batch-size
 	 * defined on the entity/collection
 	 */
-	DYNAMIC;
+	DYNAMIC,
+	/**
+	 * Keeps the concept of pre-built batch sizes, but chooses between padding (as in {@link #PADDED}) and
+	 * loading the next-smaller batch size exactly (as in {@link #LEGACY}) per entity/collection based on the
+	 * execution times observed for earlier batch loads of that entity/collection.
+	 * <p/>
+	 * Using the same example of a batch-size setting of 32, an attempt to batch load 17 identifiers would
+	 * result in a single padded batch of 32 where round trips are found to be expensive compared to the
+	 * per-identifier cost, and in a batch of 16 (leaving 1 identifier for a later batch) otherwise.
+	 */
+	ADAPTIVE;
 
 	private static final Logger log = Logger.getLogger( BatchFetchStyle.class );
 
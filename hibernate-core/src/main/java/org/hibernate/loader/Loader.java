@@ -801,13 +801,31 @@ public abstract class Loader {
 			numberOfPersistersToProcess = entitySpan;
 		}
 
+		final EntityAliases[] entityAliases = getEntityAliases();
+
+		if ( getCompositeKeyManyToOneTargetIndices() == null ) {
+			// no key-many-to-one needs to be force resolved, so each key can be hydrated and
+			// resolved in a single pass without buffering the hydrated state of the whole row
+			for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
+				final Type idType = persisters[i].getIdentifierType();
+				final Object hydratedKeyState = idType.hydrate(
+						resultSet,
+						entityAliases[i].getSuffixedKeyAliases(),
+						session,
+						null
+				);
+				keys[i] = resolveEntityKey( hydratedKeyState, idType, persisters[i], keys[i], session );
+			}
+			return;
+		}
+
 		final Object[] hydratedKeyState = new Object[numberOfPersistersToProcess];
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
 			hydratedKeyState[i] = idType.hydrate(
 					resultSet,
-					getEntityAliases()[i].getSuffixedKeyAliases(),
+					entityAliases[i].getSuffixedKeyAliases(),
 					session,
 					null
 			);
@@ -815,7 +833,7 @@ public abstract class Loader {
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
-			if ( idType.isComponentType() && getCompositeKeyManyToOneTargetIndices() != null ) {
+			if ( idType.isComponentType() ) {
 				// we may need to force resolve any key-many-to-one(s)
 				int[] keyManyToOneTargetIndices = getCompositeKeyManyToOneTargetIndices()[i];
 				// todo : better solution is to order the index processing based on target indices
@@ -853,7 +871,7 @@ public abstract class Loader {
 									resultSet,
 									targetIndex,
 									persisters[targetIndex],
-									getEntityAliases()[targetIndex].getRowIdAlias(),
+									entityAliases[targetIndex].getRowIdAlias(),
 									keys[targetIndex],
 									lockModes[targetIndex],
 									getOptionalObjectKey( queryParameters, session ),
@@ -865,23 +883,44 @@ public abstract class Loader {
 					}
 				}
 			}
-			// If hydratedKeyState[i] is null, then we know the association should be null.
-			// Don't bother resolving the ID if hydratedKeyState[i] is null.
+			keys[i] = resolveEntityKey( hydratedKeyState[i], idType, persisters[i], keys[i], session );
+		}
+	}
 
-			// Implementation note: if the ID is a composite ID, then resolving a null value will
-			// result in instantiating an empty composite if AvailableSettings#CREATE_EMPTY_COMPOSITES_ENABLED
-			// is true. By not resolving a null value for a composite ID, we avoid the overhead of instantiating
-			// an empty composite, checking if it is equivalent to null (it should be), then ultimately throwing
-			// out the empty value.
-			final Serializable resolvedId;
-			if ( hydratedKeyState[i] != null ) {
-				resolvedId = (Serializable) idType.resolve( hydratedKeyState[i], session, null );
-			}
-			else {
-				resolvedId = null;
-			}
-			keys[i] = resolvedId == null ? null : session.generateEntityKey( resolvedId, persisters[i] );
+	/**
+	 * Resolve the EntityKey for the given hydrated identifier state.
+	 * <p/>
+	 * The keys array is reused across rows, so when the same entity shows up on consecutive
+	 * rows (e.g. the owner of a fetched collection) the key built for the previous row is
+	 * returned rather than allocating (and hashing) an equal one.
+	 */
+	static EntityKey resolveEntityKey(
+			Object hydratedKeyState,
+			Type idType,
+			Loadable persister,
+			EntityKey previousKey,
+			SharedSessionContractImplementor session) {
+		// If hydratedKeyState is null, then we know the association should be null.
+		// Don't bother resolving the ID if hydratedKeyState is null.
+
+		// Implementation note: if the ID is a composite ID, then resolving a null value will
+		// result in instantiating an empty composite if AvailableSettings#CREATE_EMPTY_COMPOSITES_ENABLED
+		// is true. By not resolving a null value for a composite ID, we avoid the overhead of instantiating
+		// an empty composite, checking if it is equivalent to null (it should be), then ultimately throwing
+		// out the empty value.
+		if ( hydratedKeyState == null ) {
+			return null;
+		}
+		final Serializable resolvedId = (Serializable) idType.resolve( hydratedKeyState, session, null );
+		if ( resolvedId == null ) {
+			return null;
 		}
+		if ( previousKey != null
+				&& previousKey.getPersister() == persister
+				&& idType.isEqual( previousKey.getIdentifier(), resolvedId, session.getFactory() ) ) {
+			return previousKey;
+		}
+		return session.generateEntityKey( resolvedId, persister );
 	}
 
 	protected void applyPostLoadLocks(Object[] row, LockMode[] lockModesArray, SharedSessionContractImplementor session) {
@@ -2364,7 +2403,19 @@ public abstract class Loader {
 		}
 	}
 
-	private ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
+	/**
+	 * Retrieve the cache of column-name -> column-index resolutions used when wrapping result sets.
+	 * <p/>
+	 * By default the cache is scoped to this loader; subclasses created per execution may override
+	 * this to share a cache scoped to the query plan instead.
+	 *
+	 * @param rs The ResultSet about to be wrapped
+	 *
+	 * @return The column name cache
+	 *
+	 * @throws SQLException Indicates a problem accessing the ResultSet metadata
+	 */
+	protected ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
 		final ColumnNameCache cache = columnNameCache;
 		if ( cache == null ) {
 			//there is no need for a synchronized second check, as in worst case
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.collection;
+
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.Loader;
+import org.hibernate.loader.internal.AdaptiveBatchSizeSelector;
+import org.hibernate.persister.collection.QueryableCollection;
+
+/**
+ * A batch-fetch capable CollectionInitializer that performs batch-fetching using the adaptive style.  See
+ * {@link org.hibernate.loader.BatchFetchStyle} for a discussion of the different styles.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ */
+public class AdaptiveBatchingCollectionInitializerBuilder extends BatchingCollectionInitializerBuilder {
+	public static final AdaptiveBatchingCollectionInitializerBuilder INSTANCE = new AdaptiveBatchingCollectionInitializerBuilder();
+
+	@Override
+	public CollectionInitializer createRealBatchingCollectionInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		final int[] batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+		final Loader[] loaders = new Loader[ batchSizes.length ];
+		for ( int i = 0; i < batchSizes.length; i++ ) {
+			loaders[i] = new BasicCollectionLoader( persister, batchSizes[i], factory, loadQueryInfluencers );
+		}
+		return new AdaptiveBatchingCollectionInitializer( persister, batchSizes, loaders );
+	}
+
+	@Override
+	public CollectionInitializer createRealBatchingOneToManyInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		final int[] batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+		final Loader[] loaders = new Loader[ batchSizes.length ];
+		for ( int i = 0; i < batchSizes.length; i++ ) {
+			loaders[i] = new OneToManyLoader( persister, batchSizes[i], factory, loadQueryInfluencers );
+		}
+		return new AdaptiveBatchingCollectionInitializer( persister, batchSizes, loaders );
+	}
+
+
+	private static class AdaptiveBatchingCollectionInitializer extends BatchingCollectionInitializer {
+		private final int[] batchSizes;
+		private final Loader[] loaders;
+		private final AdaptiveBatchSizeSelector batchSizeSelector;
+
+		public AdaptiveBatchingCollectionInitializer(QueryableCollection persister, int[] batchSizes, Loader[] loaders) {
+			super( persister );
+
+			this.batchSizes = batchSizes;
+			this.loaders = loaders;
+			this.batchSizeSelector = new AdaptiveBatchSizeSelector( batchSizes );
+		}
+
+		@Override
+		public void initialize(Serializable id, SharedSessionContractImplementor session)	throws HibernateException {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getCollectionBatch( collectionPersister(), id, batchSizes[0] );
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int indexToUse = batchSizeSelector.selectBatchSizeIndex( numberOfIds );
+			final int batchSize = batchSizes[indexToUse];
+
+			final long start = System.nanoTime();
+			if ( batchSize == 1 ) {
+				loaders[indexToUse].loadCollection( session, id, collectionPersister().getKeyType() );
+			}
+			else {
+				// the requested key is always the first one of the batch, so it is part of the keys to load
+				// whether the batch gets padded or cut down to the chosen size
+				final Serializable[] idsToLoad = new Serializable[ batchSize ];
+				System.arraycopy( batch, 0, idsToLoad, 0, Math.min( numberOfIds, batchSize ) );
+				for ( int i = numberOfIds; i < batchSize; i++ ) {
+					idsToLoad[i] = id;
+				}
+				loaders[indexToUse].loadCollectionBatch( session, idsToLoad, collectionPersister().getKeyType() );
+			}
+			batchSizeSelector.recordExecution( batchSize, System.nanoTime() - start );
+		}
+	}
+}
@@ -23,6 +23,9 @@ public abstract class BatchingCollectionInitializerBuilder {
 			case PADDED: {
 				return PaddedBatchingCollectionInitializerBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingCollectionInitializerBuilder.INSTANCE;
+			}
 			case DYNAMIC: {
 				return DynamicBatchingCollectionInitializerBuilder.INSTANCE;
 			}
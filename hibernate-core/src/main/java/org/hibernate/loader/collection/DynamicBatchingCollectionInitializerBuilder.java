@@ -7,6 +7,7 @@
 package org.hibernate.loader.collection;
 
 import java.io.Serializable;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -26,6 +27,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.internal.ArrayRestrictionHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.pretty.MessageHelper;
@@ -115,6 +117,8 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		private final String sqlTemplate;
 		private final String alias;
+		// the SQL binding all keys as a single array parameter, if the dialect and key allow it
+		private final String arrayRestrictionSql;
 
 		public DynamicBatchingCollectionLoader(
 				QueryableCollection collectionPersister,
@@ -128,6 +132,18 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 			this.alias = StringHelper.generateAlias( collectionPersister.getRole(), 0 );
 			postInstantiate();
 
+			// subselect fetches re-bind the positional parameters through the subselect loader,
+			// which does not know about the array parameter
+			this.arrayRestrictionSql = isSubselectLoadingEnabled()
+					? null
+					: ArrayRestrictionHelper.buildArrayRestrictionSql(
+							sqlTemplate,
+							alias,
+							collectionPersister.getKeyColumnNames(),
+							collectionPersister.getKeyType(),
+							factory
+					);
+
 			if ( LOG.isDebugEnabled() ) {
 				LOG.debugf(
 						"SQL-template for dynamic collection [%s] batch-fetching : %s",
@@ -168,6 +184,18 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayRestrictionSql == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return ArrayRestrictionHelper.bindPositionalParameters( statement, queryParameters, startIndex, session );
+		}
+
 		public final void doBatchedCollectionLoad(
 				final SharedSessionContractImplementor session,
 				final Serializable[] ids,
@@ -184,13 +212,20 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 			Arrays.fill( idTypes, type );
 			final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
 
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					collectionPersister().getKeyColumnNames(),
-					session.getJdbcServices().getJdbcEnvironment().getDialect()
-			);
+			final String sql;
+			if ( arrayRestrictionSql != null ) {
+				sql = arrayRestrictionSql;
+				ArrayRestrictionHelper.applyKeysAsArray( queryParameters, ids, type );
+			}
+			else {
+				sql = StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						collectionPersister().getKeyColumnNames(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
+			}
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -23,6 +23,7 @@ import org.hibernate.Session;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -54,6 +55,7 @@ public class CustomLoader extends Loader {
 
 	// Currently *not* cachable if autodiscover types is in effect (e.g. "select * ...")
 
+	private final CustomQuery customQuery;
 	private final String sql;
 	private final Set<Serializable> querySpaces = new HashSet<>();
 
@@ -85,6 +87,7 @@ public class CustomLoader extends Loader {
 	public CustomLoader(CustomQuery customQuery, SessionFactoryImplementor factory) {
 		super( factory );
 
+		this.customQuery = customQuery;
 		this.sql = customQuery.getSQL();
 		this.querySpaces.addAll( customQuery.getQuerySpaces() );
 
@@ -482,6 +485,13 @@ public class CustomLoader extends Loader {
 		return span;
 	}
 
+	@Override
+	protected ColumnNameCache retrieveColumnNameToIndexCache(ResultSet rs) throws SQLException {
+		// a CustomLoader is created per execution, so prefer the cache kept by the query (plan) itself
+		final ColumnNameCache sharedCache = customQuery.resolveColumnNameCache( rs );
+		return sharedCache != null ? sharedCache : super.retrieveColumnNameToIndexCache( rs );
+	}
+
 	@Override
 	protected void autoDiscoverTypes(ResultSet rs) {
 		try {
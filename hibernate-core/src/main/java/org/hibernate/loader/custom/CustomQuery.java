@@ -6,9 +6,12 @@
  */
 package org.hibernate.loader.custom;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.param.ParameterBinder;
 
 /**
@@ -46,4 +49,22 @@ public interface CustomQuery {
 	 */
 	List<Return> getCustomQueryReturns();
 
+	/**
+	 * Access to a cache of column-name -> column-index resolutions shared by all executions
+	 * of this query.  Since the SQL is the same for each execution, a column name resolved
+	 * (and thereby validated) against the first ResultSet holds for all later ones.
+	 * <p/>
+	 * Returning {@code null} (the default) means the cache is scoped to each
+	 * {@link CustomLoader} instead.
+	 *
+	 * @param resultSet The ResultSet about to be wrapped
+	 *
+	 * @return The shared cache, or {@code null}
+	 *
+	 * @throws SQLException Indicates a problem accessing the ResultSet metadata
+	 */
+	default ColumnNameCache resolveColumnNameCache(ResultSet resultSet) throws SQLException {
+		return null;
+	}
+
 }
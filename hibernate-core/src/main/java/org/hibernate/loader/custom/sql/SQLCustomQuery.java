@@ -7,6 +7,8 @@
 package org.hibernate.loader.custom.sql;
 
 import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -15,6 +17,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
@@ -45,6 +48,7 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 
 	private final List customQueryReturns = new ArrayList();
 
+	private transient volatile ColumnNameCache columnNameCache;
 
 	public String getSQL() {
 		return sql;
@@ -59,6 +63,21 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 		return paramValueBinders;
 	}
 
+	@Override
+	public ColumnNameCache resolveColumnNameCache(ResultSet resultSet) throws SQLException {
+		final ColumnNameCache cache = columnNameCache;
+		if ( cache == null ) {
+			//there is no need for a synchronized second check, as in worst case
+			//we'll have allocated an unnecessary ColumnNameCache
+			LOG.trace( "Building columnName -> columnIndex cache for native query" );
+			columnNameCache = new ColumnNameCache( resultSet.getMetaData().getColumnCount() );
+			return columnNameCache;
+		}
+		else {
+			return cache;
+		}
+	}
+
 	public List getCustomQueryReturns() {
 		return customQueryReturns;
 	}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity;
+
+import java.io.Serializable;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.internal.BatchFetchQueueHelper;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.Loader;
+import org.hibernate.loader.internal.AdaptiveBatchSizeSelector;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+/**
+ * A batch-fetch capable loader builder using the adaptive style.  See
+ * {@link org.hibernate.loader.BatchFetchStyle} for a discussion of the different styles.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ */
+class AdaptiveBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
+	public static final AdaptiveBatchingEntityLoaderBuilder INSTANCE = new AdaptiveBatchingEntityLoaderBuilder();
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockMode lockMode,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader( persister, batchSize, lockMode, factory, influencers );
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockOptions lockOptions,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
+	}
+
+	public static class AdaptiveBatchingEntityLoader extends BatchingEntityLoader {
+		private final int[] batchSizes;
+		private final Loader[] loaders;
+		private final AdaptiveBatchSizeSelector batchSizeSelector;
+
+		public AdaptiveBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister );
+			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+			this.loaders = new Loader[ batchSizes.length ];
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockMode, factory, loadQueryInfluencers);
+			}
+			this.batchSizeSelector = new AdaptiveBatchSizeSelector( batchSizes );
+		}
+
+		public AdaptiveBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister );
+			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+			this.loaders = new Loader[ batchSizes.length ];
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockOptions, factory, loadQueryInfluencers);
+			}
+			this.batchSizeSelector = new AdaptiveBatchSizeSelector( batchSizes );
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions) {
+			return load( id, optionalObject, session, lockOptions, null );
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions, Boolean readOnly) {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getEntityBatch( persister(), id, batchSizes[0], persister().getEntityMode() );
+
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int indexToUse = batchSizeSelector.selectBatchSizeIndex( numberOfIds );
+			final int batchSize = batchSizes[indexToUse];
+
+			final long start = System.nanoTime();
+			final Object result;
+			if ( batchSize == 1 ) {
+				result = ( (UniqueEntityLoader) loaders[indexToUse] ).load( id, optionalObject, session );
+				if ( result == null ) {
+					// There was no entity with the specified ID. Make sure the EntityKey does not remain
+					// in the batch to avoid including it in future batches that get executed.
+					BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, persister(), session );
+				}
+			}
+			else {
+				// the requested id is always the first one of the batch, so it is part of the ids to load
+				// whether the batch gets padded or cut down to the chosen size
+				final Serializable[] idsToLoad = new Serializable[ batchSize ];
+				System.arraycopy( batch, 0, idsToLoad, 0, Math.min( numberOfIds, batchSize ) );
+				for ( int i = numberOfIds; i < batchSize; i++ ) {
+					idsToLoad[i] = id;
+				}
+				result = doBatchLoad( id, loaders[indexToUse], session, idsToLoad, optionalObject, lockOptions, readOnly );
+			}
+			batchSizeSelector.recordExecution( batchSize, System.nanoTime() - start );
+			return result;
+		}
+	}
+
+}
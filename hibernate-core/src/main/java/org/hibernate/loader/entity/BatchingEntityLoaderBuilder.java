@@ -27,6 +27,9 @@ public abstract class BatchingEntityLoaderBuilder {
 			case PADDED: {
 				return PaddedBatchingEntityLoaderBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingEntityLoaderBuilder.INSTANCE;
+			}
 			case DYNAMIC: {
 				return DynamicBatchingEntityLoaderBuilder.INSTANCE;
 			}
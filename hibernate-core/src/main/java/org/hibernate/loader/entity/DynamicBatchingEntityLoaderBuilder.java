@@ -8,17 +8,33 @@ package org.hibernate.loader.entity;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
+import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.NonContextualLobCreator;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityEntry;
@@ -36,11 +52,16 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.internal.ArrayRestrictionHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 import org.jboss.logging.Logger;
 
@@ -55,6 +76,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 	public static final DynamicBatchingEntityLoaderBuilder INSTANCE = new DynamicBatchingEntityLoaderBuilder();
 
+
 	public List multiLoad(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -95,6 +117,15 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		// when loading in parallel, the batches are collected first and loaded together at the end
+		final List<Serializable[]> parallelBatches = isParallelLoadingApplicable(
+				persister,
+				ids.length,
+				maxBatchSize,
+				lockOptions,
+				session,
+				loadOptions
+		) ? new ArrayList<>() : null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Serializable id = ids[i];
@@ -149,7 +180,13 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				if ( parallelBatches != null ) {
+					parallelBatches.add( idsInBatch.toArray( new Serializable[ idsInBatch.size() ] ) );
+					idsInBatch.clear();
+				}
+				else {
+					performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				}
 			}
 
 			// Save the EntityKey instance for use later!
@@ -157,7 +194,13 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			elementPositionsLoadedByBatch.add( i );
 		}
 
-		if ( !idsInBatch.isEmpty() ) {
+		if ( parallelBatches != null ) {
+			if ( !idsInBatch.isEmpty() ) {
+				parallelBatches.add( idsInBatch.toArray( new Serializable[ idsInBatch.size() ] ) );
+			}
+			performParallelBatchLoads( parallelBatches, lockOptions, persister, session, loadOptions.getParallelism() );
+		}
+		else if ( !idsInBatch.isEmpty() ) {
 			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
 		}
 
@@ -303,16 +346,27 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			);
 		}
 
+		if ( isParallelLoadingApplicable( persister, ids.length, maxBatchSize, lockOptions, session, loadOptions ) ) {
+			final List<Serializable[]> batches = new ArrayList<>();
+			for ( int idPosition = 0; idPosition < ids.length; idPosition += maxBatchSize ) {
+				batches.add( Arrays.copyOfRange( ids, idPosition, Math.min( ids.length, idPosition + maxBatchSize ) ) );
+			}
+			result.addAll( performParallelBatchLoads( batches, lockOptions, persister, session, loadOptions.getParallelism() ) );
+			return result;
+		}
+
+		// the loader does not depend on the number of ids in a batch
+		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
-			final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
-					persister,
-					batchSize,
-					lockOptions,
-					session.getFactory(),
-					session.getLoadQueryInfluencers()
-			);
 
 			Serializable[] idsInBatch = new Serializable[batchSize];
 			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
@@ -327,6 +381,156 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	private static boolean isParallelLoadingApplicable(
+			OuterJoinLoadable persister,
+			int numberOfIds,
+			int maxBatchSize,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions) {
+		final Integer parallelism = loadOptions.getParallelism();
+		return parallelism != null
+				&& parallelism > 1
+				&& numberOfIds > maxBatchSize
+				// the rows are read outside of the Session's connection and transaction
+				&& session.getPersistenceContextInternal().isDefaultReadOnly()
+				&& !lockOptions.getLockMode().greaterThan( LockMode.READ )
+				// the ids are bound on the loading threads, so their binding must not need the Session
+				&& persister.getIdentifierType() instanceof AbstractStandardBasicType;
+	}
+
+	/**
+	 * Load the given batches concurrently, each on one of (at most) {@code parallelism} additional connections.
+	 * The statements are bound and executed on the threads of the multi-load executor, whereas their rows are
+	 * read and turned into entities on the calling thread, in the order of the batches.  A connection executes
+	 * its next batch once the rows of its previous batch have been processed.
+	 */
+	@SuppressWarnings("unchecked")
+	private List performParallelBatchLoads(
+			List<Serializable[]> batches,
+			LockOptions lockOptions,
+			OuterJoinLoadable persister,
+			SharedSessionContractImplementor session,
+			int parallelism) {
+		if ( batches.isEmpty() ) {
+			return Collections.emptyList();
+		}
+
+		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
+				persister,
+				batches.get( 0 ).length,
+				lockOptions,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+
+		final List<DetachedBatchFetch> batchFetches = new ArrayList<>( batches.size() );
+		for ( Serializable[] idsInBatch : batches ) {
+			final QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
+			final DetachedBatchFetch batchFetch = batchingLoader.prepareDetachedBatchFetch( session, qp, idsInBatch );
+			if ( batchFetch == null ) {
+				// a (filter) parameter cannot be bound without the Session
+				return performSequentialBatchLoads( batchingLoader, batches, lockOptions, persister, session );
+			}
+			batchFetches.add( batchFetch );
+		}
+
+		final Executor configuredExecutor = session.getFactory().getSessionFactoryOptions().getMultiLoadExecutor();
+		final Executor executor = configuredExecutor == null ? SharedMultiLoadExecutor.INSTANCE : configuredExecutor;
+		final JdbcConnectionAccess connectionAccess = session.getJdbcConnectionAccess();
+		final List<Connection> connections = new ArrayList<>();
+		final List<CompletableFuture<ResultSet>> fetches = new ArrayList<>( batchFetches.size() );
+		final List result = new ArrayList();
+		try {
+			final int numberOfConnections = Math.min( parallelism, batchFetches.size() );
+			for ( int i = 0; i < numberOfConnections; i++ ) {
+				connections.add( connectionAccess.obtainConnection() );
+			}
+			for ( Connection connection : connections ) {
+				fetches.add( batchFetches.get( fetches.size() ).execute( connection, executor ) );
+			}
+
+			for ( int i = 0; i < batchFetches.size(); i++ ) {
+				final DetachedBatchFetch batchFetch = batchFetches.get( i );
+				final ResultSet rows = awaitBatchFetch( fetches.get( i ), batchFetch, persister, session );
+				try {
+					result.addAll( batchingLoader.processFetchedBatch( session, batchFetch, rows ) );
+				}
+				finally {
+					batchFetch.closeStatement();
+				}
+				if ( fetches.size() < batchFetches.size() ) {
+					fetches.add( batchFetches.get( fetches.size() ).execute( batchFetch.getConnection(), executor ) );
+				}
+			}
+			return result;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not obtain JDBC connections for parallel multi-load"
+			);
+		}
+		finally {
+			// the connections must not be released while still in use
+			for ( int i = 0; i < fetches.size(); i++ ) {
+				fetches.get( i ).handle( (rows, failure) -> null ).join();
+				batchFetches.get( i ).closeStatement();
+			}
+			for ( Connection connection : connections ) {
+				try {
+					connectionAccess.releaseConnection( connection );
+				}
+				catch (SQLException e) {
+					log.debug( "Unable to release JDBC connection used for parallel multi-load", e );
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List performSequentialBatchLoads(
+			DynamicEntityLoader batchingLoader,
+			List<Serializable[]> batches,
+			LockOptions lockOptions,
+			OuterJoinLoadable persister,
+			SharedSessionContractImplementor session) {
+		final List result = new ArrayList();
+		for ( Serializable[] idsInBatch : batches ) {
+			final QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
+			result.addAll( batchingLoader.doEntityBatchFetch( session, qp, idsInBatch ) );
+		}
+		return result;
+	}
+
+	private static ResultSet awaitBatchFetch(
+			CompletableFuture<ResultSet> fetch,
+			DetachedBatchFetch batchFetch,
+			OuterJoinLoadable persister,
+			SharedSessionContractImplementor session) {
+		try {
+			return fetch.join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						(SQLException) cause,
+						"could not load an entity batch: " + MessageHelper.infoString(
+								persister,
+								batchFetch.getIds(),
+								session.getFactory()
+						),
+						batchFetch.getSql()
+				);
+			}
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			throw new HibernateException( "Could not load an entity batch", cause );
+		}
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -444,11 +648,164 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 	}
 
 
+	/**
+	 * The executor used when no {@link org.hibernate.cfg.AvailableSettings#MULTI_LOAD_EXECUTOR} is configured.
+	 * Each parallel multi-load uses at most one of its threads per connection.
+	 */
+	private static final class SharedMultiLoadExecutor {
+		private static final Executor INSTANCE = new ThreadPoolExecutor(
+				0,
+				Integer.MAX_VALUE,
+				60L,
+				TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-parallel-multi-load" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+	}
+
+	/**
+	 * Binds a parameter value resolved on the Session's thread.
+	 */
+	private interface DetachedParameterBinder {
+		/**
+		 * @return The number of JDBC bind positions bound
+		 */
+		int bind(PreparedStatement statement, int position) throws SQLException;
+	}
+
+	/**
+	 * A batch fetch which can be executed on another thread than the Session's, as it does not access the
+	 * Session.  The statement stays open until the rows have been processed by the Session's thread.
+	 */
+	private static final class DetachedBatchFetch {
+		private final Serializable[] ids;
+		private final QueryParameters queryParameters;
+		private final String sql;
+		private final DetachedParameterBinder[] binders;
+
+		private Connection connection;
+		private PreparedStatement statement;
+
+		private DetachedBatchFetch(
+				Serializable[] ids,
+				QueryParameters queryParameters,
+				String sql,
+				DetachedParameterBinder[] binders) {
+			this.ids = ids;
+			this.queryParameters = queryParameters;
+			this.sql = sql;
+			this.binders = binders;
+		}
+
+		public Serializable[] getIds() {
+			return ids;
+		}
+
+		public QueryParameters getQueryParameters() {
+			return queryParameters;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public Connection getConnection() {
+			return connection;
+		}
+
+		/**
+		 * Execute the statement on the given connection, on a thread of the given executor.
+		 *
+		 * @return The rows, available once the statement has been executed
+		 */
+		public CompletableFuture<ResultSet> execute(Connection connection, Executor executor) {
+			this.connection = connection;
+			final CompletableFuture<ResultSet> fetch = new CompletableFuture<>();
+			try {
+				executor.execute(
+						() -> {
+							try {
+								statement = connection.prepareStatement( sql );
+								int position = 1;
+								for ( DetachedParameterBinder binder : binders ) {
+									position += binder.bind( statement, position );
+								}
+								fetch.complete( statement.executeQuery() );
+							}
+							catch (Throwable t) {
+								fetch.completeExceptionally( t );
+							}
+						}
+				);
+			}
+			catch (RejectedExecutionException e) {
+				fetch.completeExceptionally( e );
+			}
+			return fetch;
+		}
+
+		/**
+		 * Close the statement (and its rows), once the execution is complete.
+		 */
+		public void closeStatement() {
+			if ( statement != null ) {
+				try {
+					statement.close();
+				}
+				catch (SQLException e) {
+					log.debug( "Unable to close JDBC statement used for parallel multi-load", e );
+				}
+				statement = null;
+			}
+		}
+	}
+
+	/**
+	 * The options of a Session needed to bind parameter values without accessing the Session.
+	 */
+	private static final class DetachedWrapperOptions implements WrapperOptions {
+		private final boolean useStreamForLobBinding;
+		private final TimeZone jdbcTimeZone;
+		private final Dialect dialect;
+
+		private DetachedWrapperOptions(SharedSessionContractImplementor session) {
+			this.useStreamForLobBinding = session.useStreamForLobBinding();
+			this.jdbcTimeZone = session.getJdbcTimeZone();
+			this.dialect = session.getJdbcServices().getDialect();
+		}
+
+		@Override
+		public boolean useStreamForLobBinding() {
+			return useStreamForLobBinding;
+		}
+
+		@Override
+		public LobCreator getLobCreator() {
+			return NonContextualLobCreator.INSTANCE;
+		}
+
+		@Override
+		public SqlTypeDescriptor remapSqlTypeDescriptor(SqlTypeDescriptor sqlTypeDescriptor) {
+			return dialect.remapSqlTypeDescriptor( sqlTypeDescriptor );
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return jdbcTimeZone;
+		}
+	}
+
 	private static class DynamicEntityLoader extends EntityLoader {
 		// todo : see the discussion on org.hibernate.loader.collection.DynamicBatchingCollectionInitializerBuilder.DynamicBatchingCollectionLoader
 
 		private final String sqlTemplate;
 		private final String alias;
+		// the SQL binding all keys as a single array parameter, if the dialect and key allow it
+		private final String arrayRestrictionSql;
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
@@ -489,6 +846,18 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			this.alias = walker.getAlias();
 			postInstantiate();
 
+			// subselect fetches re-bind the positional parameters through the subselect loader,
+			// which does not know about the array parameter
+			this.arrayRestrictionSql = isSubselectLoadingEnabled()
+					? null
+					: ArrayRestrictionHelper.buildArrayRestrictionSql(
+							sqlTemplate,
+							alias,
+							persister.getIdentifierColumnNames(),
+							persister.getIdentifierType(),
+							factory
+					);
+
 			if ( LOG.isDebugEnabled() ) {
 				LOG.debugf(
 						"SQL-template for dynamic entity [%s] batch-fetching [%s] : %s",
@@ -509,19 +878,131 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			return persister.hasSubselectLoadableCollections();
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayRestrictionSql == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return ArrayRestrictionHelper.bindPositionalParameters( statement, queryParameters, startIndex, session );
+		}
+
 		public List doEntityBatchFetch(
 				SharedSessionContractImplementor session,
 				QueryParameters queryParameters,
 				Serializable[] ids) {
-			final JdbcServices jdbcServices = session.getJdbcServices();
-			final String sql = StringHelper.expandBatchIdPlaceholder(
+			final String sql = resolveBatchFetchSql( session, queryParameters, ids );
+			return doEntityBatchFetch( session, queryParameters, ids, sql, null );
+		}
+
+		/**
+		 * Prepare the fetch of the given ids for execution on another thread than the Session's: the SQL is
+		 * rendered and the JDBC binders of the parameter values are resolved here.
+		 *
+		 * @return The fetch, or {@code null} if some parameter value cannot be bound without the Session
+		 */
+		public DetachedBatchFetch prepareDetachedBatchFetch(
+				SharedSessionContractImplementor session,
+				QueryParameters queryParameters,
+				Serializable[] ids) {
+			queryParameters.processFilters( resolveBatchFetchSql( session, queryParameters, ids ), session );
+			final String sql = preprocessSQL(
+					queryParameters.getFilteredSQL(),
+					queryParameters,
+					getFactory(),
+					new ArrayList<>()
+			);
+			final String inspectedSql = session.getJdbcSessionContext().getStatementInspector().inspect( sql );
+			final String sqlToExecute = inspectedSql == null ? sql : inspectedSql;
+
+			final Object[] values = queryParameters.getFilteredPositionalParameterValues();
+			final Type[] types = queryParameters.getFilteredPositionalParameterTypes();
+			final WrapperOptions options = new DetachedWrapperOptions( session );
+			final int keysIndex = arrayRestrictionSql == null
+					? -1
+					: ArrayRestrictionHelper.resolveKeysIndex( queryParameters );
+			final DetachedParameterBinder[] binders = new DetachedParameterBinder[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				binders[i] = resolveDetachedBinder( values[i], types[i], i == keysIndex, options, session );
+				if ( binders[i] == null ) {
+					return null;
+				}
+			}
+
+			session.getJdbcServices().getSqlStatementLogger().logStatement( sqlToExecute );
+			return new DetachedBatchFetch( ids, queryParameters, sqlToExecute, binders );
+		}
+
+		@SuppressWarnings("unchecked")
+		private DetachedParameterBinder resolveDetachedBinder(
+				Object value,
+				Type type,
+				boolean keys,
+				WrapperOptions options,
+				SharedSessionContractImplementor session) {
+			if ( keys ) {
+				final Dialect dialect = session.getJdbcServices().getDialect();
+				final int sqlTypeCode = type.sqlTypes( getFactory() )[0];
+				return (statement, position) -> {
+					dialect.bindArrayRestrictionParameter( statement, position, (Object[]) value, sqlTypeCode );
+					return 1;
+				};
+			}
+			if ( !( type instanceof AbstractStandardBasicType ) ) {
+				return null;
+			}
+			final AbstractStandardBasicType basicType = (AbstractStandardBasicType) type;
+			final ValueBinder binder = session.remapSqlTypeDescriptor( basicType.getSqlTypeDescriptor() )
+					.getBinder( basicType.getJavaTypeDescriptor() );
+			return (statement, position) -> {
+				binder.bind( statement, value, position, options );
+				return 1;
+			};
+		}
+
+		/**
+		 * Build the entities from the rows of a fetch prepared through {@link #prepareDetachedBatchFetch}.
+		 */
+		public List processFetchedBatch(
+				SharedSessionContractImplementor session,
+				DetachedBatchFetch batchFetch,
+				ResultSet rows) {
+			return doEntityBatchFetch(
+					session,
+					batchFetch.getQueryParameters(),
+					batchFetch.getIds(),
+					batchFetch.getSql(),
+					rows
+			);
+		}
+
+		private String resolveBatchFetchSql(
+				SharedSessionContractImplementor session,
+				QueryParameters queryParameters,
+				Serializable[] ids) {
+			if ( arrayRestrictionSql != null ) {
+				ArrayRestrictionHelper.applyKeysAsArray( queryParameters, ids, persister.getIdentifierType() );
+				return arrayRestrictionSql;
+			}
+			return StringHelper.expandBatchIdPlaceholder(
 					sqlTemplate,
 					ids,
 					alias,
 					persister.getKeyColumnNames(),
-					jdbcServices.getJdbcEnvironment().getDialect()
+					session.getJdbcServices().getJdbcEnvironment().getDialect()
 			);
+		}
 
+		private List doEntityBatchFetch(
+				SharedSessionContractImplementor session,
+				QueryParameters queryParameters,
+				Serializable[] ids,
+				String sql,
+				ResultSet fetchedRows) {
+			final JdbcServices jdbcServices = session.getJdbcServices();
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 				boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
@@ -539,7 +1020,9 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				List results;
 				try {
 					try {
-						results = doTheLoad( sql, queryParameters, session );
+						results = fetchedRows == null
+								? doTheLoad( sql, queryParameters, session )
+								: processFetchedRows( fetchedRows, queryParameters, session );
 					}
 					finally {
 						persistenceContext.afterLoad();
@@ -566,6 +1049,22 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		private List processFetchedRows(
+				ResultSet rows,
+				QueryParameters queryParameters,
+				SharedSessionContractImplementor session) throws SQLException {
+			final RowSelection selection = queryParameters.getRowSelection();
+			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
+					selection.getMaxRows() :
+					Integer.MAX_VALUE;
+			try {
+				return processResultSet( rows, queryParameters, session, false, null, maxRows, new ArrayList<>() );
+			}
+			finally {
+				rows.close();
+			}
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+/**
+ * Chooses which of a fixed set of pre-built batch sizes to use for a batch load, based on
+ * the execution times observed for earlier batch loads of the same entity or collection role.
+ * <p/>
+ * The cost of loading a batch of {@code s} keys is modeled as {@code roundTrip + s * perKey},
+ * fitted by least squares over the (exponentially decayed) observations.  Given the number of
+ * pending keys the selector then weighs padding up to the next bigger pre-built size (a single
+ * round trip loading some duplicated keys) against loading the next smaller size exactly and
+ * leaving the remaining keys for later round trips.  Until enough observations are available
+ * the padded size is used, except that every {@value #EXPLORATION_INTERVAL}th selection loads
+ * the next smaller size instead: the fit needs observations of at least two distinct sizes,
+ * which a workload that always pads to the same size would otherwise never produce.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ */
+public class AdaptiveBatchSizeSelector {
+	private static final int MIN_OBSERVATIONS = 8;
+	private static final double DECAY = 0.95d;
+	private static final int EXPLORATION_INTERVAL = 4;
+
+	private final int[] batchSizes;
+
+	// decayed sums for the least squares fit of execution time (in nanoseconds) against batch size
+	private double weight;
+	private double sumSizes;
+	private double sumTimes;
+	private double sumSizesSquared;
+	private double sumSizesTimes;
+	private int observations;
+	private int explorations;
+
+	/**
+	 * Constructs a selector
+	 *
+	 * @param batchSizes The pre-built batch sizes, in descending order ending with 1
+	 * (see {@link org.hibernate.internal.util.collections.ArrayHelper#getBatchSizes}).
+	 */
+	public AdaptiveBatchSizeSelector(int[] batchSizes) {
+		this.batchSizes = batchSizes;
+	}
+
+	/**
+	 * Select the pre-built batch size to use for loading the given number of pending keys.
+	 *
+	 * @param numberOfKeys The number of keys pending for batch load
+	 *
+	 * @return The index of the batch size to use within the pre-built batch sizes
+	 */
+	public int selectBatchSizeIndex(int numberOfKeys) {
+		final int smallestIndex = batchSizes.length - 1;
+		if ( numberOfKeys <= 1 ) {
+			return smallestIndex;
+		}
+
+		// the first batch-size bigger than the number of keys
+		int paddedIndex = smallestIndex;
+		for ( int i = 0; i < smallestIndex; i++ ) {
+			if ( batchSizes[i] >= numberOfKeys ) {
+				paddedIndex = i;
+			}
+			else {
+				break;
+			}
+		}
+		if ( batchSizes[paddedIndex] <= numberOfKeys ) {
+			// exact fit, no padding needed
+			return paddedIndex;
+		}
+
+		final double perKey;
+		final double roundTrip;
+		synchronized ( this ) {
+			final double denominator = weight * sumSizesSquared - sumSizes * sumSizes;
+			// a (numerically) zero denominator means every observation was for the same batch size
+			if ( observations < MIN_OBSERVATIONS || denominator <= weight * sumSizesSquared * 1e-9 ) {
+				// batchSizes[paddedIndex] > numberOfKeys > 1, so there always is a smaller size
+				return ++explorations % EXPLORATION_INTERVAL == 0 ? paddedIndex + 1 : paddedIndex;
+			}
+			perKey = ( weight * sumSizesTimes - sumSizes * sumTimes ) / denominator;
+			roundTrip = ( sumTimes - perKey * sumSizes ) / weight;
+		}
+
+		final double paddedCost = roundTrip + perKey * batchSizes[paddedIndex];
+		final double exactCost = countRoundTrips( numberOfKeys ) * roundTrip + perKey * numberOfKeys;
+		// batchSizes[paddedIndex] > numberOfKeys > 1, so there always is a smaller size
+		return exactCost < paddedCost ? paddedIndex + 1 : paddedIndex;
+	}
+
+	/**
+	 * Record the execution time of a batch load.
+	 *
+	 * @param batchSize The size of the executed batch
+	 * @param elapsedNanos The time the batch load took, in nanoseconds
+	 */
+	public synchronized void recordExecution(int batchSize, long elapsedNanos) {
+		weight = weight * DECAY + 1;
+		sumSizes = sumSizes * DECAY + batchSize;
+		sumTimes = sumTimes * DECAY + elapsedNanos;
+		sumSizesSquared = sumSizesSquared * DECAY + (double) batchSize * batchSize;
+		sumSizesTimes = sumSizesTimes * DECAY + (double) batchSize * elapsedNanos;
+		if ( observations < MIN_OBSERVATIONS ) {
+			observations++;
+		}
+	}
+
+	private int countRoundTrips(int numberOfKeys) {
+		int remaining = numberOfKeys;
+		int roundTrips = 0;
+		for ( int batchSize : batchSizes ) {
+			roundTrips += remaining / batchSize;
+			remaining = remaining % batchSize;
+		}
+		return roundTrips;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+
+/**
+ * Helper for dynamic batch fetching using a single array parameter for all the keys of a batch
+ * (see {@link Dialect#supportsArrayRestriction()}) instead of an IN list expanded for the number
+ * of keys.
+ * <p/>
+ * The keys of a batch are carried through the {@link QueryParameters} as a single positional
+ * value (the key array), so that filter parameters are still interleaved correctly.
+ */
+public final class ArrayRestrictionHelper {
+	private ArrayRestrictionHelper() {
+	}
+
+	/**
+	 * Build the batch fetch SQL restricting the keys through a single array parameter.
+	 *
+	 * @param sqlTemplate The SQL template, containing the
+	 * {@link StringHelper#buildBatchFetchRestrictionFragment batch fetch restriction}
+	 * @param alias The alias used in the batch fetch restriction
+	 * @param keyColumnNames The key columns used in the batch fetch restriction
+	 * @param keyType The key type
+	 * @param factory The session factory
+	 *
+	 * @return The SQL, or {@code null} if array restrictions are not applicable to the given key.
+	 */
+	public static String buildArrayRestrictionSql(
+			String sqlTemplate,
+			String alias,
+			String[] keyColumnNames,
+			Type keyType,
+			SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getJdbcEnvironment().getDialect();
+		if ( !dialect.supportsArrayRestriction() || keyColumnNames.length != 1 || !isSupportedKeyType( keyType ) ) {
+			return null;
+		}
+
+		final String restriction = StringHelper.buildBatchFetchRestrictionFragment(
+				alias,
+				keyColumnNames,
+				dialect
+		).toString();
+		if ( !sqlTemplate.contains( restriction ) ) {
+			return null;
+		}
+		return StringHelper.replace(
+				sqlTemplate,
+				restriction,
+				dialect.getArrayRestrictionFragment( StringHelper.qualify( alias, keyColumnNames[0] ) )
+		);
+	}
+
+	private static boolean isSupportedKeyType(Type keyType) {
+		// the keys are handed to the driver as they are, so stick to types whose
+		// Java representation is the one the driver expects
+		return keyType instanceof LongType
+				|| keyType instanceof IntegerType
+				|| keyType instanceof ShortType
+				|| keyType instanceof StringType;
+	}
+
+	/**
+	 * Replace the positional parameters of the given batch fetch query parameters by the
+	 * single array parameter.
+	 *
+	 * @param queryParameters The query parameters
+	 * @param keys The keys of the batch
+	 * @param keyType The key type
+	 */
+	public static void applyKeysAsArray(QueryParameters queryParameters, Serializable[] keys, Type keyType) {
+		queryParameters.setPositionalParameterTypes( new Type[] { keyType } );
+		queryParameters.setPositionalParameterValues( new Object[] { keys } );
+	}
+
+	/**
+	 * Bind the positional parameters of a batch fetch query whose keys were applied through
+	 * {@link #applyKeysAsArray}.
+	 *
+	 * @return The number of JDBC bind positions actually bound during this method execution.
+	 *
+	 * @throws SQLException Indicates problems performing the binding.
+	 *
+	 * @see org.hibernate.loader.Loader#bindPositionalParameters
+	 */
+	public static int bindPositionalParameters(
+			PreparedStatement statement,
+			QueryParameters queryParameters,
+			int startIndex,
+			SharedSessionContractImplementor session) throws SQLException {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		final Type[] types = queryParameters.getFilteredPositionalParameterTypes();
+		final int keysIndex = resolveKeysIndex( queryParameters );
+		int span = 0;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( i == keysIndex ) {
+				factory.getJdbcServices().getJdbcEnvironment().getDialect().bindArrayRestrictionParameter(
+						statement,
+						startIndex + span,
+						(Object[]) values[i],
+						types[i].sqlTypes( factory )[0]
+				);
+				span++;
+			}
+			else {
+				types[i].nullSafeSet( statement, values[i], startIndex + span, session );
+				span += types[i].getColumnSpan( factory );
+			}
+		}
+		return span;
+	}
+
+	/**
+	 * Locate the key array applied through {@link #applyKeysAsArray} among the filtered positional
+	 * parameters, which also contain the values of the filter parameters interleaved with it.
+	 * <p/>
+	 * The key array is recognized as the very instance applied as positional parameter rather than by
+	 * its type, as filter parameter values may be arrays too.
+	 *
+	 * @param queryParameters The query parameters, with filters already processed
+	 *
+	 * @return The index of the key array within the filtered positional parameter values
+	 */
+	public static int resolveKeysIndex(QueryParameters queryParameters) {
+		final Object keys = queryParameters.getPositionalParameterValues()[0];
+		final Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == keys ) {
+				return i;
+			}
+		}
+		throw new AssertionFailure( "Batch fetch keys not found among the positional parameters" );
+	}
+}
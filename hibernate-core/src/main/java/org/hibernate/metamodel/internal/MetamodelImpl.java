@@ -50,6 +50,7 @@ import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.graph.spi.SubGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
+import org.hibernate.internal.util.ParallelTaskExecutor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -155,6 +156,21 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 	 * @param jpaMetaModelPopulationSetting Should the JPA Metamodel be built as well?
 	 */
 	public void initialize(MetadataImplementor mappingMetadata, JpaMetaModelPopulationSetting jpaMetaModelPopulationSetting) {
+		initialize( mappingMetadata, jpaMetaModelPopulationSetting, ParallelTaskExecutor.SEQUENTIAL );
+	}
+
+	/**
+	 * Prepare the metamodel using the information from the collection of Hibernate
+	 * {@link PersistentClass} models
+	 *
+	 * @param mappingMetadata The mapping information
+	 * @param jpaMetaModelPopulationSetting Should the JPA Metamodel be built as well?
+	 * @param executor Instantiates the persisters, and generates their SQL and loaders, possibly in parallel
+	 */
+	public void initialize(
+			MetadataImplementor mappingMetadata,
+			JpaMetaModelPopulationSetting jpaMetaModelPopulationSetting,
+			ParallelTaskExecutor executor) {
 		this.imports.putAll( mappingMetadata.getImports() );
 
 		primeSecondLevelCacheRegions( mappingMetadata );
@@ -173,18 +189,24 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 		final PersisterFactory persisterFactory = sessionFactory.getServiceRegistry().getService( PersisterFactory.class );
 
-		for ( final PersistentClass model : mappingMetadata.getEntityBindings() ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = sessionFactory.getCache().getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = sessionFactory.getCache().getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					persisterCreationContext
-			);
-			entityPersisterMap.put( model.getEntityName(), cp );
+		// the persisters only depend on their own mapping, and are registered in mapping order
+		final List<EntityPersister> entityPersisters = executor.map(
+				mappingMetadata.getEntityBindings(),
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = sessionFactory.getCache().getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = sessionFactory.getCache().getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							persisterCreationContext
+					);
+				}
+		);
+		for ( final EntityPersister cp : entityPersisters ) {
+			entityPersisterMap.put( cp.getEntityName(), cp );
 
 			if ( cp.getConcreteProxyClass() != null
 					&& cp.getConcreteProxyClass().isInterface()
@@ -216,18 +238,24 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 			}
 		}
 
-		for ( final Collection model : mappingMetadata.getCollectionBindings() ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+		// the collection persisters may look up the entity persisters, which are all registered by now
+		final List<CollectionPersister> collectionPersisters = executor.map(
+				mappingMetadata.getCollectionBindings(),
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
 
-			final CollectionDataAccess accessStrategy = sessionFactory.getCache().getCollectionRegionAccess(
-					navigableRole );
+					final CollectionDataAccess accessStrategy = sessionFactory.getCache().getCollectionRegionAccess(
+							navigableRole );
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					persisterCreationContext
-			);
-			collectionPersisterMap.put( model.getRole(), persister );
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							persisterCreationContext
+					);
+				}
+		);
+		for ( final CollectionPersister persister : collectionPersisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isAssociationType() && !indexType.isAnyType() ) {
 				String entityName = ( (AssociationType) indexType ).getAssociatedEntityName( sessionFactory );
@@ -253,11 +281,12 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 		// after *all* persisters and named queries are registered
 		entityPersisterMap.values().forEach( EntityPersister::generateEntityDefinition );
 
+		// the SQL and loaders of a persister are built from the state of the persisters, complete by now
+		executor.forEach( entityPersisterMap.values(), EntityPersister::postInstantiate );
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
 			registerEntityNameResolvers( persister, entityNameResolvers );
 		}
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		executor.forEach( collectionPersisterMap.values(), CollectionPersister::postInstantiate );
 
 		if ( jpaMetaModelPopulationSetting != JpaMetaModelPopulationSetting.DISABLED ) {
 			MetadataContext context = new MetadataContext(
@@ -1543,7 +1543,7 @@ public abstract class AbstractCollectionPersister
 		try {
 			// insert all the new entries
 			collection.preInsert( this );
-			Iterator entries = collection.entries( this );
+			Iterator entries = collection.insertCandidates( this );
 			Expectation expectation = Expectations.appropriateExpectation( getInsertCheckStyle() );
 			boolean callable = isInsertCallable();
 			boolean useBatch = expectation.canBeBatched();
@@ -68,6 +68,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
@@ -245,13 +246,14 @@ public abstract class AbstractEntityPersister
 
 	private final Set<String> affectingFetchProfileNames = new HashSet<>();
 
-	private final Map uniqueKeyLoaders = new HashMap();
+	private final Map<String, EntityLoader> uniqueKeyLoaders = new ConcurrentHashMap<>();
 	private final Map lockers = new HashMap();
 	private UniqueEntityLoader noneLockLoader;
 	private UniqueEntityLoader readLockLoader;
 	private final Map<Object, UniqueEntityLoader> loaders = new ConcurrentHashMap<>();
 
-	// SQL strings
+	// SQL strings, generated by postInstantiate() or, when lazy initialization is enabled, on first use
+	private volatile boolean staticSqlGenerated;
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
@@ -406,6 +408,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	private boolean[] getTableHasColumns() {
+		ensureStaticSqlGenerated();
 		return tableHasColumns;
 	}
 
@@ -414,6 +417,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLUpdateByRowIdStrings() {
+		ensureStaticSqlGenerated();
 		if ( sqlUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -424,6 +428,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLLazyUpdateByRowIdStrings() {
+		ensureStaticSqlGenerated();
 		if ( sqlLazyUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -434,26 +439,32 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String getSQLSnapshotSelectString() {
+		ensureStaticSqlGenerated();
 		return sqlSnapshotSelectString;
 	}
 
 	public String getSQLLazySelectString(String fetchGroup) {
+		ensureStaticSqlGenerated();
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
 	public String[] getSQLDeleteStrings() {
+		ensureStaticSqlGenerated();
 		return sqlDeleteStrings;
 	}
 
 	public String[] getSQLInsertStrings() {
+		ensureStaticSqlGenerated();
 		return sqlInsertStrings;
 	}
 
 	public String[] getSQLUpdateStrings() {
+		ensureStaticSqlGenerated();
 		return sqlUpdateStrings;
 	}
 
 	public String[] getSQLLazyUpdateStrings() {
+		ensureStaticSqlGenerated();
 		return sqlLazyUpdateStrings;
 	}
 
@@ -475,10 +486,12 @@ public abstract class AbstractEntityPersister
 	 * @return The IDENTITY-based insertion query.
 	 */
 	public String getSQLIdentityInsertString() {
+		ensureStaticSqlGenerated();
 		return sqlIdentityInsertString;
 	}
 
 	public String getVersionSelectString() {
+		ensureStaticSqlGenerated();
 		return sqlVersionSelectString;
 	}
 
@@ -2419,7 +2432,8 @@ public abstract class AbstractEntityPersister
 				&& propertyName.indexOf( '.' ) < 0; //ugly little workaround for fact that createUniqueKeyLoaders() does not handle component properties
 
 		if ( useStaticLoader ) {
-			return (EntityLoader) uniqueKeyLoaders.get( propertyName );
+			// only missing when lazy initialization is enabled
+			return uniqueKeyLoaders.computeIfAbsent( propertyName, this::createStaticUniqueKeyLoader );
 		}
 		else {
 			return createUniqueKeyLoader(
@@ -2435,6 +2449,11 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected void createUniqueKeyLoaders() throws MappingException {
+		if ( factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled() ) {
+			// created on first use instead
+			return;
+		}
+
 		Type[] propertyTypes = getPropertyTypes();
 		String[] propertyNames = getPropertyNames();
 		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
@@ -2453,6 +2472,19 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private EntityLoader createStaticUniqueKeyLoader(String propertyName) {
+		final Integer index = entityMetamodel.getPropertyIndexOrNull( propertyName );
+		if ( index == null || !propertyUniqueness[index] ) {
+			// same as when the static loaders are created up front
+			return null;
+		}
+		return createUniqueKeyLoader(
+				getPropertyTypes()[index],
+				getPropertyColumnNames( index ),
+				LoadQueryInfluencers.NONE
+		);
+	}
+
 	private EntityLoader createUniqueKeyLoader(
 			Type uniqueKeyType,
 			String[] columns,
@@ -3863,9 +3895,9 @@ public abstract class AbstractEntityPersister
 				LOG.debugf( " Snapshot select: %s", sqlSnapshotSelectString );
 			}
 			for ( int j = 0; j < getTableSpan(); j++ ) {
-				LOG.debugf( " Insert %s: %s", j, getSQLInsertStrings()[j] );
-				LOG.debugf( " Update %s: %s", j, getSQLUpdateStrings()[j] );
-				LOG.debugf( " Delete %s: %s", j, getSQLDeleteStrings()[j] );
+				LOG.debugf( " Insert %s: %s", j, sqlInsertStrings[j] );
+				LOG.debugf( " Update %s: %s", j, sqlUpdateStrings[j] );
+				LOG.debugf( " Delete %s: %s", j, sqlDeleteStrings[j] );
 			}
 			if ( sqlIdentityInsertString != null ) {
 				LOG.debugf( " Identity insert: %s", sqlIdentityInsertString );
@@ -4201,6 +4233,34 @@ public abstract class AbstractEntityPersister
 	}
 
 	private void doLateInit() {
+		if ( isIdentifierAssignedByInsert() ) {
+			identityDelegate = ( (PostInsertIdentifierGenerator) getIdentifierGenerator() )
+					.getInsertGeneratedIdentifierDelegate( this, getFactory().getDialect(), useGetGeneratedKeys() );
+		}
+
+		if ( !factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled() ) {
+			ensureStaticSqlGenerated();
+		}
+	}
+
+	/**
+	 * Generate the static SQL of this persister, unless already done.  Accessors of the SQL strings
+	 * call this first, as the SQL is only generated on first use when lazy initialization is enabled.
+	 */
+	protected final void ensureStaticSqlGenerated() {
+		if ( !staticSqlGenerated ) {
+			synchronized ( this ) {
+				if ( !staticSqlGenerated ) {
+					generateStaticSql();
+					staticSqlGenerated = true;
+					// only now, as logging must not re-enter the generation through the SQL accessors
+					logStaticSQL();
+				}
+			}
+		}
+	}
+
+	private void generateStaticSql() {
 		//insert/update/delete SQL
 		final int joinSpan = getTableSpan();
 		sqlDeleteStrings = new String[joinSpan];
@@ -4246,8 +4306,6 @@ public abstract class AbstractEntityPersister
 			sqlUpdateGeneratedValuesSelectString = generateUpdateGeneratedValuesSelectString();
 		}
 		if ( isIdentifierAssignedByInsert() ) {
-			identityDelegate = ( (PostInsertIdentifierGenerator) getIdentifierGenerator() )
-					.getInsertGeneratedIdentifierDelegate( this, getFactory().getDialect(), useGetGeneratedKeys() );
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: substituteBrackets( customSQLInsert[0] );
@@ -4255,8 +4313,6 @@ public abstract class AbstractEntityPersister
 		else {
 			sqlIdentityInsertString = null;
 		}
-
-		logStaticSQL();
 	}
 
 	private String substituteBrackets(String sql) {
@@ -4288,6 +4344,12 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
+		// When lazy initialization is enabled, all the loaders are created on first use
+		//		and stored in the loaders map
+		if ( factory.getSessionFactoryOptions().isLazyPersisterInitializationEnabled() ) {
+			return;
+		}
+
 		// We load the entity loaders for the most common lock modes.
 
 		noneLockLoader = createEntityLoader( LockMode.NONE );
@@ -4305,21 +4367,25 @@ public abstract class AbstractEntityPersister
 
 		// And finally, create the internal merge and refresh load plans
 
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
+		loaders.put( "merge", createCascadeEntityLoader( "merge" ) );
+		loaders.put( "refresh", createCascadeEntityLoader( "refresh" ) );
+	}
+
+	private UniqueEntityLoader createCascadeEntityLoader(Object internalFetchProfile) {
+		if ( "merge".equals( internalFetchProfile ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( internalFetchProfile ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+		return null;
 	}
 
 	protected final UniqueEntityLoader getLoaderByLockMode(LockMode lockMode) {
-		if ( LockMode.NONE == lockMode ) {
+		if ( LockMode.NONE == lockMode && noneLockLoader != null ) {
 			return noneLockLoader;
 		}
-		else if ( LockMode.READ == lockMode ) {
+		else if ( LockMode.READ == lockMode && readLockLoader != null ) {
 			return readLockLoader;
 		}
 
@@ -4350,7 +4416,11 @@ public abstract class AbstractEntityPersister
 						&& hasSubclasses()
 						&& !getFactory().getDialect().supportsOuterJoinForUpdate();
 
-				return disableForUpdate ? readLockLoader : createEntityLoader( lockMode );
+				if ( disableForUpdate ) {
+					// not getLoaderByLockMode( LockMode.READ ), as the loaders map cannot be updated from here
+					return readLockLoader != null ? readLockLoader : createEntityLoader( LockMode.READ );
+				}
+				return createEntityLoader( lockMode );
 			}
 			default: {
 				throw new IllegalStateException( String.format( Locale.ROOT, "Lock mode %1$s not supported by entity loaders.", lockMode ) );
@@ -4408,7 +4478,7 @@ public abstract class AbstractEntityPersister
 
 			final EntityKey entityKey = proxyInterceptor.getEntityKey();
 			final Serializable identifier = entityKey.getIdentifier();
-			final Object loaded = readLockLoader.load(
+			final Object loaded = getLoaderByLockMode( LockMode.READ ).load(
 					identifier,
 					entity,
 					session,
@@ -4501,7 +4571,10 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return loaders.get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return loaders.computeIfAbsent(
+					session.getLoadQueryInfluencers().getInternalFetchProfile(),
+					this::createCascadeEntityLoader
+			);
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4718,6 +4791,11 @@ public abstract class AbstractEntityPersister
 		return entityMetamodel.hasCascades();
 	}
 
+	@Override
+	public int[] getCascadingPropertyIndexes(CascadingAction action) {
+		return entityMetamodel.getCascadingPropertyIndexes( action );
+	}
+
 	public boolean hasIdentifierProperty() {
 		return !entityMetamodel.getIdentifierProperty().isVirtual();
 	}
@@ -5195,6 +5273,7 @@ public abstract class AbstractEntityPersister
 		if ( !hasInsertGeneratedProperties() ) {
 			throw new AssertionFailure( "no insert-generated properties" );
 		}
+		ensureStaticSqlGenerated();
 		processGeneratedProperties(
 				id,
 				entity,
@@ -5213,6 +5292,7 @@ public abstract class AbstractEntityPersister
 		if ( !hasUpdateGeneratedProperties() ) {
 			throw new AssertionFailure( "no update-generated properties" );
 		}
+		ensureStaticSqlGenerated();
 		processGeneratedProperties(
 				id,
 				entity,
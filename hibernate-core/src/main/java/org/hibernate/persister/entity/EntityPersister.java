@@ -22,13 +22,16 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.walking.spi.EntityDefinition;
@@ -219,6 +222,22 @@ public interface EntityPersister extends EntityDefinition {
 	 */
 	boolean hasCascades();
 
+	/**
+	 * Determine the indexes of the properties which need to be visited when cascading the given
+	 * action to instances of this entity.
+	 *
+	 * @param action The cascading action
+	 *
+	 * @return The property indexes, in property order; an empty array if cascading the action
+	 * never needs to visit any property of this entity.
+	 */
+	default int[] getCascadingPropertyIndexes(CascadingAction action) {
+		if ( !hasCascades() && !action.requiresNoCascadeChecking() ) {
+			return ArrayHelper.EMPTY_INT_ARRAY;
+		}
+		return Cascade.resolveCascadingPropertyIndexes( action, getPropertyCascadeStyles(), getPropertyTypes() );
+	}
+
 	/**
 	 * Determine whether instances of this entity are considered mutable.
 	 *
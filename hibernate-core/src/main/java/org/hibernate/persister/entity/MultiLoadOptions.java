@@ -57,4 +57,15 @@ public interface MultiLoadOptions {
 	 * @return JDBC batch size
 	 */
 	Integer getBatchSize();
+
+	/**
+	 * The maximum number of batches to load concurrently, on connections other than the Session's.
+	 *
+	 * @return the maximum number of concurrently loaded batches, or {@code null} to load them one after the other
+	 *
+	 * @see org.hibernate.MultiIdentifierLoadAccess#withParallelism
+	 */
+	default Integer getParallelism() {
+		return null;
+	}
 }
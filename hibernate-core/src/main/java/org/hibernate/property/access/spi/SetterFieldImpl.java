@@ -73,6 +73,15 @@ public class SetterFieldImpl implements Setter {
 		}
 	}
 
+	/**
+	 * The field set by this setter.
+	 *
+	 * @return The field
+	 */
+	public Field getField() {
+		return field;
+	}
+
 	@Override
 	public String getMethodName() {
 		return setterMethod != null ? setterMethod.getName() : null;
@@ -18,6 +18,8 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
@@ -176,8 +178,13 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 				throw new LazyInitializationException( "could not initialize proxy [" + entityName + "#" + id + "] - the owning Session is disconnected" );
 			}
 			else {
+				final EventMonitor eventMonitor = session.getFactory().getEventMonitor();
+				final DiagnosticEvent initializationEvent = eventMonitor.beginLazyInitializationEvent();
 				target = session.immediateLoad( entityName, id );
 				initialized = true;
+				if ( initializationEvent != null ) {
+					eventMonitor.completeLazyInitializationEvent( initializationEvent, session, entityName, id );
+				}
 				checkTargetState(session);
 			}
 		}
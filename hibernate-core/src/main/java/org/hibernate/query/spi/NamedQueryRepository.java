@@ -8,6 +8,8 @@ package org.hibernate.query.spi;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
@@ -18,6 +20,7 @@ import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.internal.util.ParallelTaskExecutor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.procedure.ProcedureCallMemento;
 
@@ -145,55 +148,90 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		return checkNamedQueries( queryPlanCache, ParallelTaskExecutor.SEQUENTIAL );
+	}
+
+	/**
+	 * Compile the named queries, possibly in parallel.
+	 *
+	 * @param queryPlanCache The cache of the compiled queries
+	 * @param executor Compiles the queries
+	 *
+	 * @return The errors, keyed by the name of the failing query, in the order in which the queries are defined
+	 */
+	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache, ParallelTaskExecutor executor) {
+		Map<String,HibernateException> errors = new LinkedHashMap<String,HibernateException>();
+		// the maps are replaced when queries are registered, possibly while checking in the background
+		final Map<String, NamedQueryDefinition> namedQueryDefinitions = namedQueryDefinitionMap;
+		final Map<String, NamedSQLQueryDefinition> namedSqlQueryDefinitions = namedSqlQueryDefinitionMap;
 
 		// Check named HQL queries
-		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
+		log.debugf( "Checking %s named HQL queries", namedQueryDefinitions.size() );
+		final List<HibernateException> hqlErrors = executor.map(
+				namedQueryDefinitions.values(),
+				namedQueryDefinition -> {
+					// this will throw an error if there's something wrong.
+					try {
+						log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+						//TODO: BUG! this currently fails for named queries for non-POJO entities
+						queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+						return null;
+					}
+					catch ( HibernateException e ) {
+						return e;
+					}
+				}
+		);
+		int i = 0;
+		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitions.values() ) {
+			final HibernateException error = hqlErrors.get( i++ );
+			if ( error != null ) {
+				errors.put( namedQueryDefinition.getName(), error );
 			}
-
-
 		}
 
 		// Check native-sql queries
-		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
-		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitions.size() );
+		final List<HibernateException> sqlErrors = executor.map(
+				namedSqlQueryDefinitions.values(),
+				namedSQLQueryDefinition -> {
+					// this will throw an error if there's something wrong.
+					try {
+						log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
+						// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+						// currently not doable though because of the resultset-ref stuff...
+						NativeSQLQuerySpecification spec;
+						if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+							ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+							if ( definition == null ) {
+								throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+							}
+							spec = new NativeSQLQuerySpecification(
+									namedSQLQueryDefinition.getQueryString(),
+									definition.getQueryReturns(),
+									namedSQLQueryDefinition.getQuerySpaces()
+							);
+						}
+						else {
+							spec =  new NativeSQLQuerySpecification(
+									namedSQLQueryDefinition.getQueryString(),
+									namedSQLQueryDefinition.getQueryReturns(),
+									namedSQLQueryDefinition.getQuerySpaces()
+							);
+						}
+						queryPlanCache.getNativeSQLQueryPlan( spec );
+						return null;
+					}
+					catch ( HibernateException e ) {
+						return e;
 					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
 				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
+		);
+		i = 0;
+		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitions.values() ) {
+			final HibernateException error = sqlErrors.get( i++ );
+			if ( error != null ) {
+				errors.put( namedSQLQueryDefinition.getName(), error );
 			}
 		}
 
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,48 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Does this registry cache released prepared statements for reuse?
+	 *
+	 * @return True if statements registered with a cache key are cached when released; false otherwise.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default boolean isStatementCachingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Register a JDBC prepared statement which, once {@link #release released}, may be kept open
+	 * under the given key to be handed out again by {@link #takeCachedStatement}.
+	 *
+	 * @param statement The statement to register.
+	 * @param cancelable Is the statement being registered capable of being cancelled?
+	 * @param cacheKey The key identifying the SQL and options the statement was prepared with.
+	 */
+	default void register(PreparedStatement statement, boolean cancelable, Object cacheKey) {
+		register( statement, cancelable );
+	}
+
+	/**
+	 * Remove a previously released statement from the cache of this registry.  The statement
+	 * must be registered again before being used.
+	 *
+	 * @param cacheKey The key the statement was registered with.
+	 *
+	 * @return The cached statement, or {@code null} if none.
+	 */
+	default PreparedStatement takeCachedStatement(Object cacheKey) {
+		return null;
+	}
+
+	/**
+	 * Close the prepared statements kept open for reuse.  Must be called before the JDBC connection they
+	 * were prepared on is released.
+	 */
+	default void releaseCachedStatements() {
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p/>
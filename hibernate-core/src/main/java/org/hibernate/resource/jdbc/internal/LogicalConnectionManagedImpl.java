@@ -186,6 +186,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 
 		try {
+			// the cached statements must not outlive the connection they were prepared on
+			getResourceRegistry().releaseCachedStatements();
 			if ( !physicalConnection.isClosed() ) {
 				sqlExceptionHelper.logAndClearWarnings( physicalConnection );
 			}
@@ -9,11 +9,14 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -34,6 +37,13 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
  *
+ * When a statement cache size is given, prepared statements registered with
+ * a cache key are not closed when released but kept open, up to that many in
+ * least recently released order, until {@link #releaseCachedStatements()} or
+ * {@link #releaseResources()}.  As they are not considered as held resources by
+ * {@link #hasRegisteredResources()}, the logical connection closes them before
+ * releasing the physical connection.
+ *
  * @author Steve Ebersole
  * @author Sanne Grinovero
  */
@@ -52,7 +62,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private final JdbcObserver jdbcObserver;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
-	private final HashMap<ResultSet,Object> unassociatedResultSets = new HashMap<ResultSet,Object>();
+	//Lazily initialized: only used for ResultSets whose Statement cannot be determined
+	private HashMap<ResultSet,Object> unassociatedResultSets;
 
 	private ArrayList<Blob> blobs;
 	private ArrayList<Clob> clobs;
@@ -60,12 +71,22 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final int statementCacheSize;
+	//Lazily initialized: only used when statement caching is enabled
+	private HashMap<Statement,CachedStatement> cacheableStatements;
+	private LinkedHashMap<Object,CachedStatement> cachedStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
@@ -92,10 +113,61 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public boolean isStatementCachingEnabled() {
+		return statementCacheSize > 0;
+	}
+
+	@Override
+	public void register(PreparedStatement statement, boolean cancelable, Object cacheKey) {
+		register( statement, cancelable );
+
+		if ( statementCacheSize > 0 ) {
+			final int fetchSize;
+			try {
+				fetchSize = statement.getFetchSize();
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to access JDBC statement fetch size, statement will not be cached [%s]", e.getMessage() );
+				return;
+			}
+			if ( cacheableStatements == null ) {
+				cacheableStatements = new HashMap<>();
+			}
+			cacheableStatements.put( statement, new CachedStatement( cacheKey, statement, fetchSize ) );
+		}
+	}
+
+	@Override
+	public PreparedStatement takeCachedStatement(Object cacheKey) {
+		if ( cachedStatements == null ) {
+			return null;
+		}
+		final CachedStatement cachedStatement = cachedStatements.remove( cacheKey );
+		if ( cachedStatement == null ) {
+			return null;
+		}
+		log.tracef( "Reusing cached statement [%s]", cachedStatement.statement );
+		return cachedStatement.statement;
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( cachedStatements != null && !cachedStatements.isEmpty() ) {
+			log.trace( "Releasing cached JDBC statements" );
+			cachedStatements.forEach( (key, cachedStatement) -> close( cachedStatement.statement ) );
+			cachedStatements.clear();
+		}
+	}
+
 	@Override
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
+		if ( jdbcObserver != null ) {
+			jdbcObserver.jdbcReleaseStatement( statement );
+		}
+
 		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
 		if ( resultSets != null ) {
 			closeAll( resultSets );
@@ -106,7 +178,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		final CachedStatement cacheable = cacheableStatements == null ? null : cacheableStatements.remove( statement );
+		if ( cacheable == null || !cache( cacheable ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -138,7 +213,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		else {
-			final Object removed = unassociatedResultSets.remove( resultSet );
+			final Object removed = unassociatedResultSets == null ? null : unassociatedResultSets.remove( resultSet );
 			if ( removed == null ) {
 				log.unregisteredResultSetWithoutStatement();
 			}
@@ -146,6 +221,51 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		close( resultSet );
 	}
 
+	private boolean cache(CachedStatement cachedStatement) {
+		if ( cachedStatements == null ) {
+			cachedStatements = new LinkedHashMap<Object,CachedStatement>() {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object,CachedStatement> eldest) {
+					if ( size() > statementCacheSize ) {
+						close( eldest.getValue().statement );
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+		else if ( cachedStatements.containsKey( cachedStatement.key ) ) {
+			// another statement for the same SQL was released first
+			return false;
+		}
+
+		final PreparedStatement statement = cachedStatement.statement;
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cachedStatement.fetchSize ) {
+				statement.setFetchSize( cachedStatement.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		log.tracef( "Caching statement [%s]", statement );
+		cachedStatements.put( cachedStatement.key, cachedStatement );
+		return true;
+	}
+
 	private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
 		resultSets.forEach( (resultSet, o) -> close( resultSet ) );
 		resultSets.clear();
@@ -234,6 +354,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			resultSets.put( resultSet, PRESENT );
 		}
 		else {
+			if ( unassociatedResultSets == null ) {
+				unassociatedResultSets = new HashMap<ResultSet,Object>();
+			}
 			unassociatedResultSets.put( resultSet, PRESENT );
 		}
 	}
@@ -323,7 +446,14 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
-		closeAll( unassociatedResultSets );
+		releaseCachedStatements();
+		if ( cacheableStatements != null ) {
+			cacheableStatements.clear();
+		}
+
+		if ( unassociatedResultSets != null ) {
+			closeAll( unassociatedResultSets );
+		}
 
 		if ( blobs != null ) {
 			blobs.forEach( blob -> {
@@ -370,4 +500,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
+
+	private static final class CachedStatement {
+		private final Object key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(Object key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
 }
@@ -7,6 +7,9 @@
 package org.hibernate.resource.jdbc.spi;
 
 import java.sql.Connection;
+import java.sql.Statement;
+
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 
 /**
  * @deprecated It is no longer possible to plug custom implementations of
@@ -33,5 +36,18 @@ public interface JdbcObserver {
 	default public void jdbcReleaseRegistryResourcesStart() {}
 	default public void jdbcReleaseRegistryResourcesEnd() {}
 
+	default public void jdbcReleaseStatement(Statement statement) {}
+
+	/**
+	 * Called by the basic binders for each value they bind, when this observer is the
+	 * {@link org.hibernate.type.descriptor.WrapperOptions#getParameterBindingObserver() parameter binding observer}
+	 * of the session.
+	 */
+	default public void jdbcBindParameter(
+			Statement statement,
+			Object position,
+			Object value,
+			JavaTypeDescriptor javaTypeDescriptor) {}
+
 
 }
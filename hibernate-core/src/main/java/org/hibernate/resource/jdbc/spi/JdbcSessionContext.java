@@ -21,6 +21,17 @@ public interface JdbcSessionContext {
 	boolean isGetGeneratedKeysEnabled();
 	int getFetchSize();
 
+	/**
+	 * The maximum number of released prepared statements kept open for reuse.
+	 *
+	 * @return The statement cache size, {@code 0} if statements should not be cached
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	boolean doesConnectionProviderDisableAutoCommit();
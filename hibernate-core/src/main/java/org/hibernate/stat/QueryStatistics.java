@@ -99,4 +99,17 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Estimated execution time (in milliseconds) under which the given percentage of the executions
+	 * of this query completed, e.g. {@code getExecutionTimePercentile( 99 )} for the p99 latency.
+	 * <p/>
+	 * The estimate is derived from a histogram and may overstate the actual value by up to 25%.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
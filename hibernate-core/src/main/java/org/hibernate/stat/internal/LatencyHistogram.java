@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of execution times (in ms) supporting percentile estimates.
+ * <p/>
+ * Values below {@value #EXACT_BUCKETS} are counted exactly; larger values are counted in
+ * 4 buckets per power of two, so a percentile is reported with a relative error of at
+ * most 25%.  Recording is a single atomic increment and the footprint is fixed, which
+ * keeps it cheap enough to be maintained for every tracked query.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int EXACT_BUCKETS = 8;
+	private static final int EXACT_BUCKETS_EXPONENT = 3;
+	private static final int SUB_BUCKETS = 4;
+	private static final int MAX_EXPONENT = 40;
+
+	private static final int BUCKET_COUNT = EXACT_BUCKETS + ( MAX_EXPONENT - EXACT_BUCKETS_EXPONENT + 1 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+
+	void record(long value) {
+		buckets.incrementAndGet( bucketIndex( value ) );
+	}
+
+	/**
+	 * Estimate the given percentile of the recorded values.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The upper bound of the bucket holding the percentile, or 0 if nothing was recorded
+	 */
+	long percentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100 : " + percentile );
+		}
+
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1L, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulated += counts[i];
+			if ( cumulated >= rank ) {
+				return upperBound( i );
+			}
+		}
+		return upperBound( BUCKET_COUNT - 1 );
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < EXACT_BUCKETS ) {
+			return value < 0 ? 0 : (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		if ( exponent > MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int subBucket = (int) ( value >>> ( exponent - 2 ) ) & ( SUB_BUCKETS - 1 );
+		return EXACT_BUCKETS + ( exponent - EXACT_BUCKETS_EXPONENT ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBound(int index) {
+		if ( index < EXACT_BUCKETS ) {
+			return index;
+		}
+		final int exponent = EXACT_BUCKETS_EXPONENT + ( index - EXACT_BUCKETS ) / SUB_BUCKETS;
+		final int subBucket = ( index - EXACT_BUCKETS ) % SUB_BUCKETS;
+		return ( (long) ( SUB_BUCKETS + subBucket + 1 ) << ( exponent - 2 ) ) - 1;
+	}
+}
@@ -8,9 +8,6 @@ package org.hibernate.stat.internal;
 
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.stat.QueryStatistics;
 
@@ -31,21 +28,15 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder executionRowCount = new LongAdder();
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAdder totalExecutionTime = new LongAdder();
+	private final LatencyHistogram executionTimeHistogram = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
-	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
-
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final LongAdder planCompilationTotalMicroseconds = new LongAdder();
 
 	QueryStatisticsImpl(String query) {
 		this.query = query;
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
 	}
 
 	/**
@@ -94,21 +85,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * average time in ms as double taken by the execution of this query onto the DB
 	 */
 	public double getExecutionAvgTimeAsDouble() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			double avgExecutionTime = 0;
-			final long ec = executionCount.sum();
-			if ( ec > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) ec;
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			writeLock.unlock();
+		// executed(long, long) adds the time before incrementing the count, so reading the count
+		// first guarantees that the total includes at least the time of every counted execution
+		final long ec = executionCount.sum();
+		if ( ec == 0 ) {
+			return 0;
 		}
+		return totalExecutionTime.sum() / (double) ec;
 	}
 
 	/**
@@ -129,7 +112,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return totalExecutionTime.sum();
+	}
+
+	/**
+	 * estimated time in ms under which the given percentage of the executions of this query onto the DB completed
+	 */
+	public long getExecutionTimePercentile(double percentile) {
+		return Math.min( executionTimeHistogram.percentile( percentile ), executionMaxTime.get() );
 	}
 
 	/**
@@ -150,7 +140,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * Query plan overall compiled total
 	 */
 	public long getPlanCompilationTotalMicroseconds() {
-		return planCompilationTotalMicroseconds.get();
+		return planCompilationTotalMicroseconds.sum();
 	}
 
 	/**
@@ -160,20 +150,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * @param time time taken
 	 */
 	void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
-			executionCount.increment();
-			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			readLock.unlock();
-		}
+		// Less chances for a context switch
+		for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
+		for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
+		executionTimeHistogram.record( time );
+		executionRowCount.add( rows );
+		totalExecutionTime.add( time );
+		executionCount.increment();
 	}
 
 	/**
@@ -183,7 +166,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 */
 	void compiled(long microseconds) {
 		planCacheMissCount.increment();
-		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		planCompilationTotalMicroseconds.add( microseconds );
 	}
 
 	void incrementCacheHitCount() {
@@ -215,6 +198,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
 				+ ",executionMaxTime=" + this.executionMaxTime
 				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionP50Time=" + this.getExecutionTimePercentile( 50 )
+				+ ",executionP95Time=" + this.getExecutionTimePercentile( 95 )
+				+ ",executionP99Time=" + this.getExecutionTimePercentile( 99 )
 				+ ']';
 	}
 }
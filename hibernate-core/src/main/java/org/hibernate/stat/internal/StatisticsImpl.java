@@ -7,6 +7,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -23,6 +24,9 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
 import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.MetricNames;
+import org.hibernate.stat.spi.MetricTags;
+import org.hibernate.stat.spi.MetricsReporter;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -43,6 +47,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final String cacheRegionPrefix;
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final MetricsReporter metricsReporter;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile long startTime;
@@ -114,6 +119,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final StatsNamedContainer<DeprecatedNaturalIdCacheStatisticsImpl> deprecatedNaturalIdStatsMap = new StatsNamedContainer();
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
+		this( sessionFactory, null );
+	}
+
+	public StatisticsImpl(SessionFactoryImplementor sessionFactory, MetricsReporter metricsReporter) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.queryStatsMap = new StatsNamedContainer(
@@ -128,6 +137,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		cacheRegionPrefix = sessionFactoryOptions.getCacheRegionPrefix();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		this.metricsReporter = metricsReporter;
 	}
 
 	/**
@@ -210,6 +220,29 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		isStatisticsEnabled = b;
 	}
 
+	@Override
+	public MetricsReporter getMetricsReporter() {
+		return metricsReporter;
+	}
+
+	private void report(String metric) {
+		if ( metricsReporter != null ) {
+			metricsReporter.count( metric, 1, MetricTags.EMPTY );
+		}
+	}
+
+	private void report(String metric, String tagName, String tagValue) {
+		if ( metricsReporter != null ) {
+			metricsReporter.count( metric, 1, MetricTags.of( tagName, tagValue ) );
+		}
+	}
+
+	private void reportCache(String metric, String regionName, String tagName, String tagValue) {
+		if ( metricsReporter != null ) {
+			metricsReporter.count( metric, 1, MetricTags.of( MetricTags.REGION, regionName ).and( tagName, tagValue ) );
+		}
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -262,36 +295,42 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	public void loadEntity(String entityName) {
 		entityLoadCount.increment();
 		getEntityStatistics( entityName ).incrementLoadCount();
+		report( MetricNames.ENTITY_LOAD, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
 		getEntityStatistics( entityName ).incrementFetchCount();
+		report( MetricNames.ENTITY_FETCH, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
 		getEntityStatistics( entityName ).incrementUpdateCount();
+		report( MetricNames.ENTITY_UPDATE, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
 	public void insertEntity(String entityName) {
 		entityInsertCount.increment();
 		getEntityStatistics( entityName ).incrementInsertCount();
+		report( MetricNames.ENTITY_INSERT, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
 	public void deleteEntity(String entityName) {
 		entityDeleteCount.increment();
 		getEntityStatistics( entityName ).incrementDeleteCount();
+		report( MetricNames.ENTITY_DELETE, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.increment();
 		getEntityStatistics( entityName ).incrementOptimisticFailureCount();
+		report( MetricNames.OPTIMISTIC_FAILURE, MetricTags.ENTITY, entityName );
 	}
 
 	@Override
@@ -299,6 +338,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCachePutCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementPutCount();
 		getEntityStatistics( entityName.getFullPath() ).incrementCachePutCount();
+		reportCache( MetricNames.CACHE_PUT, regionName, MetricTags.ENTITY, entityName.getFullPath() );
 	}
 
 	@Override
@@ -306,6 +346,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCacheHitCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementHitCount();
 		getEntityStatistics( entityName.getFullPath() ).incrementCacheHitCount();
+		reportCache( MetricNames.CACHE_HIT, regionName, MetricTags.ENTITY, entityName.getFullPath() );
 	}
 
 	@Override
@@ -313,6 +354,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCacheMissCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementMissCount();
 		getEntityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
+		reportCache( MetricNames.CACHE_MISS, regionName, MetricTags.ENTITY, entityName.getFullPath() );
 	}
 
 
@@ -361,30 +403,35 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	public void loadCollection(String role) {
 		collectionLoadCount.increment();
 		getCollectionStatistics( role ).incrementLoadCount();
+		report( MetricNames.COLLECTION_LOAD, MetricTags.COLLECTION, role );
 	}
 
 	@Override
 	public void fetchCollection(String role) {
 		collectionFetchCount.increment();
 		getCollectionStatistics( role ).incrementFetchCount();
+		report( MetricNames.COLLECTION_FETCH, MetricTags.COLLECTION, role );
 	}
 
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
 		getCollectionStatistics( role ).incrementUpdateCount();
+		report( MetricNames.COLLECTION_UPDATE, MetricTags.COLLECTION, role );
 	}
 
 	@Override
 	public void recreateCollection(String role) {
 		collectionRecreateCount.increment();
 		getCollectionStatistics( role ).incrementRecreateCount();
+		report( MetricNames.COLLECTION_RECREATE, MetricTags.COLLECTION, role );
 	}
 
 	@Override
 	public void removeCollection(String role) {
 		collectionRemoveCount.increment();
 		getCollectionStatistics( role ).incrementRemoveCount();
+		report( MetricNames.COLLECTION_REMOVE, MetricTags.COLLECTION, role );
 	}
 
 	@Override
@@ -392,6 +439,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCachePutCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementPutCount();
 		getCollectionStatistics( collectionRole.getFullPath() ).incrementCachePutCount();
+		reportCache( MetricNames.CACHE_PUT, regionName, MetricTags.COLLECTION, collectionRole.getFullPath() );
 	}
 
 	@Override
@@ -399,6 +447,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCacheHitCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementHitCount();
 		getCollectionStatistics( collectionRole.getFullPath() ).incrementCacheHitCount();
+		reportCache( MetricNames.CACHE_HIT, regionName, MetricTags.COLLECTION, collectionRole.getFullPath() );
 	}
 
 	@Override
@@ -406,6 +455,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCacheMissCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementMissCount();
 		getCollectionStatistics( collectionRole.getFullPath() ).incrementCacheMissCount();
+		reportCache( MetricNames.CACHE_MISS, regionName, MetricTags.COLLECTION, collectionRole.getFullPath() );
 	}
 
 
@@ -484,6 +534,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getNaturalIdStatistics( rootEntityName.getFullPath() ).incrementCachePutCount();
 
 		getNaturalIdCacheStatistics( qualify( regionName ) ).incrementPutCount();
+
+		reportCache( MetricNames.CACHE_PUT, regionName, MetricTags.ENTITY, rootEntityName.getFullPath() );
 	}
 
 	@Override
@@ -497,6 +549,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getNaturalIdStatistics( rootEntityName.getFullPath() ).incrementCacheHitCount();
 
 		getNaturalIdCacheStatistics( qualify( regionName ) ).incrementHitCount();
+
+		reportCache( MetricNames.CACHE_HIT, regionName, MetricTags.ENTITY, rootEntityName.getFullPath() );
 	}
 
 	@Override
@@ -510,6 +564,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getNaturalIdStatistics( rootEntityName.getFullPath() ).incrementCacheMissCount();
 
 		getNaturalIdCacheStatistics( qualify( regionName ) ).incrementMissCount();
+
+		reportCache( MetricNames.CACHE_MISS, regionName, MetricTags.ENTITY, rootEntityName.getFullPath() );
 	}
 
 	private String qualify(final String regionName) {
@@ -548,6 +604,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				naturalIdQueryExecutionMaxTimeRegion = naturalIdRegionName;
 			}
 		}
+
+		if ( metricsReporter != null ) {
+			metricsReporter.recordTime(
+					MetricNames.NATURAL_ID_QUERY,
+					time,
+					TimeUnit.MILLISECONDS,
+					MetricTags.of( MetricTags.ENTITY, rootEntityName )
+			);
+		}
 	}
 
 
@@ -665,16 +730,37 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	@Override
 	public void updateTimestampsCacheHit() {
 		updateTimestampsCacheHitCount.increment();
+		if ( metricsReporter != null ) {
+			metricsReporter.count(
+					MetricNames.CACHE_HIT,
+					1,
+					MetricTags.of( MetricTags.REGION, cache.getTimestampsCache().getRegion().getName() )
+			);
+		}
 	}
 
 	@Override
 	public void updateTimestampsCacheMiss() {
 		updateTimestampsCacheMissCount.increment();
+		if ( metricsReporter != null ) {
+			metricsReporter.count(
+					MetricNames.CACHE_MISS,
+					1,
+					MetricTags.of( MetricTags.REGION, cache.getTimestampsCache().getRegion().getName() )
+			);
+		}
 	}
 
 	@Override
 	public void updateTimestampsCachePut() {
 		updateTimestampsCachePutCount.increment();
+		if ( metricsReporter != null ) {
+			metricsReporter.count(
+					MetricNames.CACHE_PUT,
+					1,
+					MetricTags.of( MetricTags.REGION, cache.getTimestampsCache().getRegion().getName() )
+			);
+		}
 	}
 
 
@@ -744,6 +830,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).executed( rows, time );
 		}
+
+		if ( metricsReporter != null ) {
+			final MetricTags tags = MetricTags.of( MetricTags.QUERY, hql );
+			metricsReporter.recordTime( MetricNames.QUERY_EXECUTION, time, TimeUnit.MILLISECONDS, tags );
+			metricsReporter.count( MetricNames.QUERY_ROWS, rows, tags );
+		}
 	}
 
 	@Override
@@ -757,6 +849,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCacheHitCount();
 		}
+
+		reportCache( MetricNames.CACHE_HIT, regionName, MetricTags.QUERY, hql );
 	}
 
 	@Override
@@ -770,6 +864,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCacheMissCount();
 		}
+
+		reportCache( MetricNames.CACHE_MISS, regionName, MetricTags.QUERY, hql );
 	}
 
 	@Override
@@ -783,6 +879,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCachePutCount();
 		}
+
+		reportCache( MetricNames.CACHE_PUT, regionName, MetricTags.QUERY, hql );
 	}
 
 	@Override
@@ -802,6 +900,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).compiled( microseconds );
 		}
+
+		report( MetricNames.QUERY_PLAN_CACHE_MISS, MetricTags.QUERY, hql );
 	}
 
 	@Override
@@ -811,6 +911,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementPlanCacheHitCount();
 		}
+
+		report( MetricNames.QUERY_PLAN_CACHE_HIT, MetricTags.QUERY, hql );
 	}
 
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
@@ -866,31 +968,37 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
+		report( MetricNames.SESSION_OPEN );
 	}
 
 	@Override
 	public void closeSession() {
 		sessionCloseCount.increment();
+		report( MetricNames.SESSION_CLOSE );
 	}
 
 	@Override
 	public void flush() {
 		flushCount.increment();
+		report( MetricNames.FLUSH );
 	}
 
 	@Override
 	public void connect() {
 		connectCount.increment();
+		report( MetricNames.CONNECT );
 	}
 
 	@Override
 	public void prepareStatement() {
 		prepareStatementCount.increment();
+		report( MetricNames.STATEMENT_PREPARE );
 	}
 
 	@Override
 	public void closeStatement() {
 		closeStatementCount.increment();
+		report( MetricNames.STATEMENT_CLOSE );
 	}
 
 	@Override
@@ -899,6 +1007,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		if ( success ) {
 			committedTransactionCount.increment();
 		}
+		report( success ? MetricNames.TRANSACTION_SUCCESS : MetricNames.TRANSACTION_FAILURE );
 	}
 
 	@Override
@@ -8,13 +8,16 @@ package org.hibernate.stat.internal;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+import org.hibernate.stat.spi.MetricsReporter;
 import org.hibernate.stat.spi.StatisticsFactory;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -91,7 +94,7 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 		final StatisticsImplementor statistics;
 		if ( statisticsFactory == null ) {
 			// Default:
-			statistics = new StatisticsImpl( sessionFactory );
+			statistics = new StatisticsImpl( sessionFactory, resolveMetricsReporter( registry ) );
 		}
 		else {
 			statistics = statisticsFactory.buildStatistics( sessionFactory );
@@ -102,4 +105,14 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 		return statistics;
 	}
 
+	private MetricsReporter resolveMetricsReporter(ServiceRegistryImplementor registry) {
+		final Object configValue = registry.getService( ConfigurationService.class )
+				.getSettings()
+				.get( AvailableSettings.STATISTICS_METRICS_REPORTER );
+		if ( configValue == null ) {
+			return null;
+		}
+		return registry.getService( StrategySelector.class ).resolveStrategy( MetricsReporter.class, configValue );
+	}
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link MetricsReporter} keeping the reported metrics in memory, per metric name and tags.
+ * <p/>
+ * Meant for tests and for simple setups polling the aggregated values; it does not depend on any
+ * metrics library.
+ */
+public class InMemoryMetricsReporter implements MetricsReporter {
+	private final Map<Key, Measurement> measurements = new ConcurrentHashMap<>();
+
+	@Override
+	public void count(String metric, long amount, MetricTags tags) {
+		measurement( metric, tags ).record( amount );
+	}
+
+	@Override
+	public void recordTime(String metric, long duration, TimeUnit unit, MetricTags tags) {
+		measurement( metric, tags ).record( unit.toNanos( duration ) );
+	}
+
+	private Measurement measurement(String metric, MetricTags tags) {
+		return measurements.computeIfAbsent( new Key( metric, tags ), k -> new Measurement() );
+	}
+
+	/**
+	 * The number of times the given metric was reported for the given tags, i.e. the number of
+	 * {@link #count} and {@link #recordTime} calls.
+	 */
+	public long getReportCount(String metric, MetricTags tags) {
+		final Measurement measurement = measurements.get( new Key( metric, tags ) );
+		return measurement == null ? 0 : measurement.reports.sum();
+	}
+
+	/**
+	 * The total amount counted for the given metric and tags.
+	 */
+	public long getCount(String metric, MetricTags tags) {
+		final Measurement measurement = measurements.get( new Key( metric, tags ) );
+		return measurement == null ? 0 : measurement.total.sum();
+	}
+
+	/**
+	 * The total amount counted for the given metric, whatever the tags.
+	 */
+	public long getCount(String metric) {
+		long count = 0;
+		for ( Map.Entry<Key, Measurement> entry : measurements.entrySet() ) {
+			if ( entry.getKey().metric.equals( metric ) ) {
+				count += entry.getValue().total.sum();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The total time recorded for the given metric and tags.
+	 */
+	public long getTotalTime(String metric, MetricTags tags, TimeUnit unit) {
+		final Measurement measurement = measurements.get( new Key( metric, tags ) );
+		return measurement == null ? 0 : unit.convert( measurement.total.sum(), TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * The distinct tags the given metric was reported with.
+	 */
+	public Set<MetricTags> getTags(String metric) {
+		return measurements.keySet().stream()
+				.filter( key -> key.metric.equals( metric ) )
+				.map( key -> key.tags )
+				.collect( Collectors.toSet() );
+	}
+
+	public void clear() {
+		measurements.clear();
+	}
+
+	private static final class Key {
+		private final String metric;
+		private final MetricTags tags;
+
+		private Key(String metric, MetricTags tags) {
+			this.metric = metric;
+			this.tags = tags;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return metric.equals( key.metric ) && tags.equals( key.tags );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( metric, tags );
+		}
+	}
+
+	private static final class Measurement {
+		private final LongAdder reports = new LongAdder();
+		private final LongAdder total = new LongAdder();
+
+		private void record(long amount) {
+			reports.increment();
+			total.add( amount );
+		}
+	}
+}
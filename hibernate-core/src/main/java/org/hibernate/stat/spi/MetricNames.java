@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+/**
+ * The names of the metrics reported by Hibernate to a {@link MetricsReporter}, along with the
+ * {@link MetricTags} qualifying them.
+ */
+public interface MetricNames {
+
+	// Session/misc, no tags ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	String SESSION_OPEN = "hibernate.session.open";
+	String SESSION_CLOSE = "hibernate.session.close";
+	String FLUSH = "hibernate.flush";
+	String CONNECT = "hibernate.connect";
+	String STATEMENT_PREPARE = "hibernate.statement.prepare";
+	String STATEMENT_CLOSE = "hibernate.statement.close";
+	String TRANSACTION_SUCCESS = "hibernate.transaction.success";
+	String TRANSACTION_FAILURE = "hibernate.transaction.failure";
+
+	// Entities and collections, tagged with ENTITY or COLLECTION ~~~~~~~~~~~~~~~~
+
+	String ENTITY_LOAD = "hibernate.entity.load";
+	String ENTITY_FETCH = "hibernate.entity.fetch";
+	String ENTITY_INSERT = "hibernate.entity.insert";
+	String ENTITY_UPDATE = "hibernate.entity.update";
+	String ENTITY_DELETE = "hibernate.entity.delete";
+	String OPTIMISTIC_FAILURE = "hibernate.entity.optimistic_failure";
+	String COLLECTION_LOAD = "hibernate.collection.load";
+	String COLLECTION_FETCH = "hibernate.collection.fetch";
+	String COLLECTION_UPDATE = "hibernate.collection.update";
+	String COLLECTION_RECREATE = "hibernate.collection.recreate";
+	String COLLECTION_REMOVE = "hibernate.collection.remove";
+
+	/**
+	 * Time of the queries resolving natural ids, tagged with ENTITY.
+	 */
+	String NATURAL_ID_QUERY = "hibernate.natural_id.query";
+
+	// Second-level cache, tagged with REGION and ENTITY, COLLECTION or QUERY ~~~~
+
+	String CACHE_HIT = "hibernate.cache.hit";
+	String CACHE_MISS = "hibernate.cache.miss";
+	String CACHE_PUT = "hibernate.cache.put";
+
+	// Queries, tagged with QUERY ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Time of the query executions.
+	 */
+	String QUERY_EXECUTION = "hibernate.query.execution";
+
+	/**
+	 * Number of rows returned by the query executions.
+	 */
+	String QUERY_ROWS = "hibernate.query.rows";
+
+	String QUERY_PLAN_CACHE_HIT = "hibernate.query.plan_cache.hit";
+	String QUERY_PLAN_CACHE_MISS = "hibernate.query.plan_cache.miss";
+
+	// JDBC batching, tagged with TENANT for multi-tenant Sessions ~~~~~~~~~~~~~~
+
+	/**
+	 * Time of the JDBC batch executions.
+	 */
+	String BATCH_EXECUTION = "hibernate.jdbc.batch.execution";
+
+	/**
+	 * Number of statements sent by the JDBC batch executions.
+	 */
+	String BATCH_STATEMENTS = "hibernate.jdbc.batch.statements";
+
+	/**
+	 * Number of JDBC batches executed early because a statement for a different batch was
+	 * requested, e.g. when inserts of different entities are interleaved.
+	 */
+	String BATCH_SWITCH = "hibernate.jdbc.batch.switch";
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable set of dimensional tags (name/value pairs) qualifying a metric reported to a
+ * {@link MetricsReporter}, e.g. the entity or the cache region a measurement relates to.
+ */
+public final class MetricTags {
+	/**
+	 * Tag naming the entity a metric relates to.
+	 */
+	public static final String ENTITY = "entity";
+
+	/**
+	 * Tag naming the collection role a metric relates to.
+	 */
+	public static final String COLLECTION = "collection";
+
+	/**
+	 * Tag naming the second-level cache region a metric relates to.
+	 */
+	public static final String REGION = "region";
+
+	/**
+	 * Tag holding the (HQL/JPQL or native SQL) query string a metric relates to.
+	 */
+	public static final String QUERY = "query";
+
+	/**
+	 * Tag holding the tenant identifier of the Session a metric relates to.
+	 */
+	public static final String TENANT = "tenant";
+
+	public static final MetricTags EMPTY = new MetricTags( new String[0] );
+
+	private final String[] namesAndValues;
+
+	private MetricTags(String[] namesAndValues) {
+		this.namesAndValues = namesAndValues;
+	}
+
+	/**
+	 * Create tags holding a single tag.
+	 *
+	 * @param name The tag name
+	 * @param value The tag value; a {@code null} value results in no tag
+	 *
+	 * @return The tags
+	 */
+	public static MetricTags of(String name, String value) {
+		return EMPTY.and( name, value );
+	}
+
+	/**
+	 * Create tags holding these tags plus the given one, replacing any tag of the same name.
+	 *
+	 * @param name The tag name
+	 * @param value The tag value; a {@code null} value results in these tags being returned unchanged
+	 *
+	 * @return The tags
+	 */
+	public MetricTags and(String name, String value) {
+		if ( value == null ) {
+			return this;
+		}
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			if ( namesAndValues[i].equals( name ) ) {
+				final String[] replaced = namesAndValues.clone();
+				replaced[i + 1] = value;
+				return new MetricTags( replaced );
+			}
+		}
+		final String[] extended = Arrays.copyOf( namesAndValues, namesAndValues.length + 2 );
+		extended[namesAndValues.length] = name;
+		extended[namesAndValues.length + 1] = value;
+		return new MetricTags( extended );
+	}
+
+	/**
+	 * Create tags holding these tags plus the given ones, the given ones taking precedence.
+	 *
+	 * @param tags The tags to add
+	 *
+	 * @return The tags
+	 */
+	public MetricTags and(MetricTags tags) {
+		MetricTags result = this;
+		for ( int i = 0; i < tags.namesAndValues.length; i += 2 ) {
+			result = result.and( tags.namesAndValues[i], tags.namesAndValues[i + 1] );
+		}
+		return result;
+	}
+
+	/**
+	 * The value of the named tag.
+	 *
+	 * @param name The tag name
+	 *
+	 * @return The tag value, or {@code null} if there is no such tag
+	 */
+	public String get(String name) {
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			if ( namesAndValues[i].equals( name ) ) {
+				return namesAndValues[i + 1];
+			}
+		}
+		return null;
+	}
+
+	public boolean isEmpty() {
+		return namesAndValues.length == 0;
+	}
+
+	/**
+	 * The tags as a Map of tag name to value, in the order the tags were added.
+	 */
+	public Map<String, String> asMap() {
+		final Map<String, String> map = new LinkedHashMap<>();
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			map.put( namesAndValues[i], namesAndValues[i + 1] );
+		}
+		return Collections.unmodifiableMap( map );
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		final MetricTags other = (MetricTags) o;
+		if ( namesAndValues.length != other.namesAndValues.length ) {
+			return false;
+		}
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			if ( !namesAndValues[i + 1].equals( other.get( namesAndValues[i] ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		// independent of the order the tags were added, like Map#hashCode
+		int hashCode = 0;
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			hashCode += namesAndValues[i].hashCode() ^ namesAndValues[i + 1].hashCode();
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "MetricTags" + asMap();
+	}
+}
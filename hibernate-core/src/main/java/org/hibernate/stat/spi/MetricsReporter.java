@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Push-style contract for exporting Hibernate metrics to a metrics backend.
+ * <p/>
+ * When statistics are enabled, the configured reporter is notified of every event counted by the
+ * {@link StatisticsImplementor} as well as of JDBC batch executions, each measurement being qualified by
+ * {@link MetricTags} such as the entity name, the cache region or the tenant.  The metric names
+ * reported by Hibernate are listed in {@link MetricNames}.
+ * <p/>
+ * Implementations are called on the hot path of the calling threads and concurrently, so they
+ * should be thread-safe and cheap, ideally just updating in-memory counters.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_METRICS_REPORTER
+ * @see InMemoryMetricsReporter
+ */
+public interface MetricsReporter {
+	/**
+	 * Report the given number of occurrences of an event.
+	 *
+	 * @param metric The metric name
+	 * @param amount The number of occurrences
+	 * @param tags The tags qualifying the measurement
+	 */
+	void count(String metric, long amount, MetricTags tags);
+
+	/**
+	 * Report the duration of an operation.
+	 *
+	 * @param metric The metric name
+	 * @param duration The duration
+	 * @param unit The unit of the duration
+	 * @param tags The tags qualifying the measurement
+	 */
+	void recordTime(String metric, long duration, TimeUnit unit, MetricTags tags);
+}
@@ -266,4 +266,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * The reporter metrics are pushed to, in addition to being collected by these statistics.
+	 *
+	 * @return The reporter, or {@code null} if none is configured
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_METRICS_REPORTER
+	 */
+	default MetricsReporter getMetricsReporter() {
+		return null;
+	}
 }
@@ -8,6 +8,7 @@ package org.hibernate.tuple.component;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -66,15 +67,35 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 			parentGetter = propertyAccess.getGetter();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
+		if ( !Environment.useReflectionOptimizer() ) {
 			optimizer = null;
 		}
 		else {
 			final BytecodeProvider bytecodeProvider = component.getServiceRegistry().getService( BytecodeProvider.class );
-			optimizer = bytecodeProvider.getReflectionOptimizer(
-					componentClass, getterNames, setterNames, propTypes
+			final ReflectionOptimizer accessorBasedOptimizer = bytecodeProvider.getReflectionOptimizer(
+					componentClass, propertyNames( component ), getters, setters
 			);
+			if ( accessorBasedOptimizer != null ) {
+				optimizer = accessorBasedOptimizer;
+			}
+			else if ( hasCustomAccessors ) {
+				optimizer = null;
+			}
+			else {
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						componentClass, getterNames, setterNames, propTypes
+				);
+			}
+		}
+	}
+
+	private String[] propertyNames(Component component) {
+		final String[] propertyNames = new String[propertySpan];
+		final Iterator properties = component.getPropertyIterator();
+		for ( int i = 0; properties.hasNext(); i++ ) {
+			propertyNames[i] = ( (Property) properties.next() ).getName();
 		}
+		return propertyNames;
 	}
 
 	public Class getMappedClass() {
@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
@@ -23,8 +24,10 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementHelper;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -105,6 +108,8 @@ public class EntityMetamodel implements Serializable {
 
 	private boolean lazy; //not final because proxy factory creation can fail
 	private final boolean hasCascades;
+	// property indexes to visit per cascading action, resolved on first use
+	private transient volatile Map<CascadingAction, int[]> cascadingPropertyIndexes;
 	private final boolean mutable;
 	private final boolean isAbstract;
 	private final boolean selectBeforeUpdate;
@@ -895,6 +900,26 @@ public class EntityMetamodel implements Serializable {
 		return hasCascades;
 	}
 
+	/**
+	 * The indexes of the properties which need to be visited when cascading the given action.
+	 *
+	 * @see Cascade#resolveCascadingPropertyIndexes
+	 */
+	public int[] getCascadingPropertyIndexes(CascadingAction action) {
+		if ( !hasCascades && !action.requiresNoCascadeChecking() ) {
+			return ArrayHelper.EMPTY_INT_ARRAY;
+		}
+		Map<CascadingAction, int[]> indexes = cascadingPropertyIndexes;
+		if ( indexes == null ) {
+			indexes = new ConcurrentHashMap<>();
+			cascadingPropertyIndexes = indexes;
+		}
+		return indexes.computeIfAbsent(
+				action,
+				key -> Cascade.resolveCascadingPropertyIndexes( key, cascadeStyles, propertyTypes )
+		);
+	}
+
 	public boolean isMutable() {
 		return mutable;
 	}
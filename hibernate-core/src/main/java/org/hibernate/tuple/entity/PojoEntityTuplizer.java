@@ -64,17 +64,31 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 			propTypes[i] = getters[i].getReturnType();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
+		if ( !Environment.useReflectionOptimizer() ) {
 			optimizer = null;
 		}
 		else {
 			final BytecodeProvider bytecodeProvider = entityMetamodel.getSessionFactory().getServiceRegistry().getService( BytecodeProvider.class );
-			optimizer = bytecodeProvider.getReflectionOptimizer(
+			final ReflectionOptimizer accessorBasedOptimizer = bytecodeProvider.getReflectionOptimizer(
 					mappedClass,
-					getterNames,
-					setterNames,
-					propTypes
+					entityMetamodel.getPropertyNames(),
+					getters,
+					setters
 			);
+			if ( accessorBasedOptimizer != null ) {
+				optimizer = accessorBasedOptimizer;
+			}
+			else if ( hasCustomAccessors ) {
+				optimizer = null;
+			}
+			else {
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						mappedClass,
+						getterNames,
+						setterNames,
+						propTypes
+				);
+			}
 		}
 	}
 
@@ -11,6 +11,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
@@ -53,4 +54,14 @@ public interface WrapperOptions {
 	 * @return JDBC {@link TimeZone}
 	 */
 	public TimeZone getJdbcTimeZone();
+
+	/**
+	 * The observer told about the values bound by the {@link org.hibernate.type.descriptor.sql.BasicBinder basic
+	 * binders}, if any.
+	 *
+	 * @return The observer, or {@code null} if the bound values are not observed
+	 */
+	default JdbcObserver getParameterBindingObserver() {
+		return null;
+	}
 }
@@ -11,6 +11,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.type.descriptor.JdbcTypeNameMapper;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -47,6 +48,10 @@ public abstract class BasicBinder<J> implements ValueBinder<J> {
 
 	@Override
 	public final void bind(PreparedStatement st, J value, int index, WrapperOptions options) throws SQLException {
+		final JdbcObserver bindingObserver = options == null ? null : options.getParameterBindingObserver();
+		if ( bindingObserver != null ) {
+			bindingObserver.jdbcBindParameter( st, index, value, javaDescriptor );
+		}
 		if ( value == null ) {
 			if ( log.isTraceEnabled() ) {
 				log.trace(
@@ -76,6 +81,10 @@ public abstract class BasicBinder<J> implements ValueBinder<J> {
 
 	@Override
 	public final void bind(CallableStatement st, J value, String name, WrapperOptions options) throws SQLException {
+		final JdbcObserver bindingObserver = options == null ? null : options.getParameterBindingObserver();
+		if ( bindingObserver != null ) {
+			bindingObserver.jdbcBindParameter( st, name, value, javaDescriptor );
+		}
 		if ( value == null ) {
 			if ( log.isTraceEnabled() ) {
 				log.trace(
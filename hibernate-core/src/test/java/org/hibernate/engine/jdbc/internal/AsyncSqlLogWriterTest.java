@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.internal.CoreLogging;
+
+import org.hibernate.testing.logger.LoggerInspectionRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AsyncSqlLogWriter}
+ */
+public class AsyncSqlLogWriterTest {
+
+	@Rule
+	public LoggerInspectionRule logInspection = new LoggerInspectionRule( CoreLogging.logger( "org.hibernate.SQL" ) );
+
+	@Test
+	public void testStatementsAreLoggedOnBackgroundThread() {
+		final List<String> messages = new CopyOnWriteArrayList<>();
+		final List<String> threadNames = new CopyOnWriteArrayList<>();
+		logInspection.registerListener( (level, renderedMessage, thrown) -> {
+			messages.add( renderedMessage );
+			threadNames.add( Thread.currentThread().getName() );
+		} );
+
+		final SqlStatementLogger logger = new SqlStatementLogger( false, false, 0, 16 );
+		assertTrue( logger.isAsync() );
+		logger.logStatement( "select b.id from t_book b" );
+		logger.logStatement( "delete from t_book" );
+		// writes out the pending statements
+		logger.stop();
+
+		assertEquals( 2, messages.size() );
+		assertEquals( "select b.id from t_book b", messages.get( 0 ) );
+		assertEquals( "delete from t_book", messages.get( 1 ) );
+		assertNotEquals( Thread.currentThread().getName(), threadNames.get( 0 ) );
+	}
+
+	@Test
+	public void testStatementsAreDroppedWhenBufferIsFull() throws Exception {
+		final CountDownLatch blocked = new CountDownLatch( 1 );
+		final CountDownLatch release = new CountDownLatch( 1 );
+		logInspection.registerListener( (level, renderedMessage, thrown) -> {
+			if ( renderedMessage.equals( "select 0" ) ) {
+				blocked.countDown();
+				try {
+					release.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		} );
+
+		final SqlStatementLogger logger = new SqlStatementLogger( false, false, 0, 4 );
+		logger.logStatement( "select 0" );
+		// the background thread is now busy logging the first statement
+		assertTrue( blocked.await( 10, TimeUnit.SECONDS ) );
+		for ( int i = 1; i <= 6; i++ ) {
+			logger.logStatement( "select " + i );
+		}
+		release.countDown();
+		logger.stop();
+
+		assertEquals( 2, logger.getDroppedStatementCount() );
+	}
+}
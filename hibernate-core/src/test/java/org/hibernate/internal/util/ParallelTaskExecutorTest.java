@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ParallelTaskExecutor}
+ */
+public class ParallelTaskExecutorTest extends BaseUnitTestCase {
+
+	private static final List<Integer> ELEMENTS = Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8 );
+
+	@Test
+	public void testResultsAreInIterationOrder() {
+		try ( ParallelTaskExecutor executor = ParallelTaskExecutor.create( 4 ) ) {
+			final List<String> results = executor.map(
+					ELEMENTS,
+					element -> {
+						// the first elements complete last
+						sleep( ( ELEMENTS.size() - element ) * 5L );
+						return "#" + element;
+					}
+			);
+			assertEquals( Arrays.asList( "#1", "#2", "#3", "#4", "#5", "#6", "#7", "#8" ), results );
+		}
+	}
+
+	@Test
+	public void testFirstFailureInIterationOrderIsRethrown() {
+		try ( ParallelTaskExecutor executor = ParallelTaskExecutor.create( 4 ) ) {
+			final AtomicInteger applied = new AtomicInteger();
+			try {
+				executor.map(
+						ELEMENTS,
+						element -> {
+							applied.incrementAndGet();
+							if ( element == 3 ) {
+								// fails after element 6 did
+								sleep( 50L );
+								throw new IllegalStateException( "#3" );
+							}
+							if ( element == 6 ) {
+								throw new IllegalArgumentException( "#6" );
+							}
+							return element;
+						}
+				);
+				fail( "Expecting the failure of element 3" );
+			}
+			catch (IllegalStateException expected) {
+				assertEquals( "#3", expected.getMessage() );
+			}
+			// the other tasks are still applied, as when applying them sequentially up to the failure
+			assertEquals( ELEMENTS.size(), applied.get() );
+		}
+	}
+
+	@Test
+	public void testErrorIsRethrownUnwrapped() {
+		try ( ParallelTaskExecutor executor = ParallelTaskExecutor.create( 4 ) ) {
+			try {
+				executor.forEach(
+						ELEMENTS,
+						element -> {
+							if ( element == 2 ) {
+								throw new AssertionError( "#2" );
+							}
+						}
+				);
+				fail( "Expecting the error of element 2" );
+			}
+			catch (AssertionError expected) {
+				assertEquals( "#2", expected.getMessage() );
+			}
+		}
+	}
+
+	@Test
+	public void testSequentialFailureStopsAtFirstElement() {
+		final AtomicInteger applied = new AtomicInteger();
+		try {
+			ParallelTaskExecutor.SEQUENTIAL.map(
+					ELEMENTS,
+					element -> {
+						applied.incrementAndGet();
+						if ( element >= 3 ) {
+							throw new IllegalStateException( "#" + element );
+						}
+						return element;
+					}
+			);
+			fail( "Expecting the failure of element 3" );
+		}
+		catch (IllegalStateException expected) {
+			assertEquals( "#3", expected.getMessage() );
+			assertEquals( 3, applied.get() );
+		}
+	}
+
+	@Test
+	public void testCancelledBeforeMapping() {
+		try ( ParallelTaskExecutor executor = ParallelTaskExecutor.create( 4 ) ) {
+			final AtomicInteger applied = new AtomicInteger();
+			executor.cancel();
+			try {
+				executor.map( ELEMENTS, element -> applied.incrementAndGet() );
+				fail( "Expecting the mapping to be cancelled" );
+			}
+			catch (CancellationException expected) {
+				assertEquals( 0, applied.get() );
+			}
+		}
+	}
+
+	@Test
+	public void testCancelledWhileMappingSequentially() {
+		try ( ParallelTaskExecutor executor = ParallelTaskExecutor.create( 1 ) ) {
+			final AtomicInteger applied = new AtomicInteger();
+			try {
+				executor.map(
+						ELEMENTS,
+						element -> {
+							if ( applied.incrementAndGet() == 2 ) {
+								executor.cancel();
+							}
+							return element;
+						}
+				);
+				fail( "Expecting the mapping to be cancelled" );
+			}
+			catch (CancellationException expected) {
+				assertEquals( 2, applied.get() );
+			}
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testSequentialCannotBeCancelled() {
+		ParallelTaskExecutor.SEQUENTIAL.cancel();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RingBuffer}
+ */
+public class RingBufferTest {
+
+	@Test
+	public void testOfferAndPoll() {
+		final RingBuffer<String> buffer = new RingBuffer<>( 3 );
+		assertEquals( 4, buffer.capacity() );
+		assertNull( buffer.poll() );
+
+		for ( int i = 0; i < 4; i++ ) {
+			assertTrue( buffer.offer( "#" + i ) );
+		}
+		assertFalse( buffer.offer( "#4" ) );
+		assertEquals( 1, buffer.getDroppedCount() );
+
+		assertEquals( "#0", buffer.poll() );
+		assertTrue( buffer.offer( "#5" ) );
+		assertEquals( "#1", buffer.poll() );
+		assertEquals( "#2", buffer.poll() );
+		assertEquals( "#3", buffer.poll() );
+		assertEquals( "#5", buffer.poll() );
+		assertNull( buffer.poll() );
+	}
+
+	@Test
+	public void testConcurrentProducers() throws Exception {
+		final int producers = 4;
+		final int elementsPerProducer = 100_000;
+		final RingBuffer<long[]> buffer = new RingBuffer<>( 1024 );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( producers );
+		final CountDownLatch done = new CountDownLatch( producers );
+		try {
+			for ( int p = 0; p < producers; p++ ) {
+				final long producer = p;
+				executor.execute( () -> {
+					for ( long i = 0; i < elementsPerProducer; i++ ) {
+						buffer.offer( new long[] { producer, i } );
+					}
+					done.countDown();
+				} );
+			}
+
+			final long[] lastElements = new long[producers];
+			Arrays.fill( lastElements, -1 );
+			long received = 0;
+			while ( true ) {
+				final boolean producing = done.getCount() > 0;
+				final long[] element = buffer.poll();
+				if ( element != null ) {
+					// the elements of a given producer are received in order
+					assertTrue( element[1] > lastElements[(int) element[0]] );
+					lastElements[(int) element[0]] = element[1];
+					received++;
+				}
+				else if ( !producing ) {
+					break;
+				}
+			}
+			assertEquals( producers * elementsPerProducer, received + buffer.getDroppedCount() );
+		}
+		finally {
+			executor.shutdownNow();
+			executor.awaitTermination( 10, TimeUnit.SECONDS );
+		}
+	}
+}
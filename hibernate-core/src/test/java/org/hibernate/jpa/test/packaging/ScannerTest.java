@@ -6,7 +6,9 @@
  */
 package org.hibernate.jpa.test.packaging;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import javax.persistence.EntityManagerFactory;
@@ -15,6 +17,7 @@ import javax.persistence.Persistence;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.AbstractScannerImpl;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
@@ -26,10 +29,19 @@ import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.jpa.test.pack.defaultpar.ApplicationServer;
+import org.hibernate.jpa.test.pack.defaultpar.Lighter;
 import org.hibernate.jpa.test.pack.defaultpar.Version;
 
 import org.junit.Test;
 
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.shrinkwrap.api.ArchivePaths;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -69,6 +81,45 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testJandexIndexIsUsed() throws Exception {
+		final Indexer indexer = new Indexer();
+		indexClass( indexer, ApplicationServer.class );
+		indexClass( indexer, Version.class );
+		indexClass( indexer, Lighter.class );
+		final ByteArrayOutputStream index = new ByteArrayOutputStream();
+		new IndexWriter( index ).write( indexer.complete() );
+
+		final String fileName = "jandexpar.par";
+		final JavaArchive archive = ShrinkWrap.create( JavaArchive.class, fileName );
+		archive.addClasses( Version.class, Lighter.class );
+		// unreadable class file, only categorized through the index
+		archive.add(
+				new ByteArrayAsset( new byte[] { 0, 1, 2, 3 } ),
+				ArchivePaths.create( ApplicationServer.class.getName().replace( '.', '/' ) + ".class" )
+		);
+		archive.add( new ByteArrayAsset( index.toByteArray() ), ArchivePaths.create( AbstractScannerImpl.JANDEX_INDEX ) );
+		archive.addAsResource( "defaultpar/META-INF/persistence.xml", ArchivePaths.create( "META-INF/persistence.xml" ) );
+		final File jandexPar = new File( packageTargetDir, fileName );
+		archive.as( ZipExporter.class ).exportTo( jandexPar, true );
+		addPackageToClasspath( jandexPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( jandexPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		assertEquals( 2, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, ApplicationServer.class );
+		assertClassesContained( scanResult, Version.class );
+	}
+
+	private void indexClass(Indexer indexer, Class clazz) throws IOException {
+		try (InputStream stream = clazz.getClassLoader().getResourceAsStream( clazz.getName().replace( '.', '/' ) + ".class" )) {
+			indexer.index( stream );
+		}
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
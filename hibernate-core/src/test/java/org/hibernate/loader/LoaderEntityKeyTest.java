@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.type.IntegerType;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the reuse of the EntityKey of the previous row by {@link Loader#resolveEntityKey}
+ */
+public class LoaderEntityKeyTest extends BaseUnitTestCase {
+
+	private Loadable persister;
+	private SharedSessionContractImplementor session;
+
+	@Before
+	public void setUp() {
+		persister = mock( Loadable.class );
+		when( persister.getIdentifierType() ).thenReturn( IntegerType.INSTANCE );
+		session = mock( SharedSessionContractImplementor.class );
+		when( session.generateEntityKey( any( Serializable.class ), any( Loadable.class ) ) ).thenAnswer(
+				invocation -> new EntityKey( invocation.getArgument( 0 ), invocation.getArgument( 1 ) )
+		);
+	}
+
+	@Test
+	public void testKeyOfPreviousRowIsReused() {
+		final EntityKey first = Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, null, session );
+		assertEquals( 1, first.getIdentifier() );
+
+		assertSame( first, Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, first, session ) );
+		assertSame( first, Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, first, session ) );
+		verify( session, times( 1 ) ).generateEntityKey( any( Serializable.class ), any( Loadable.class ) );
+	}
+
+	@Test
+	public void testKeyIsGeneratedForOtherIdentifier() {
+		final EntityKey first = Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, null, session );
+		final EntityKey second = Loader.resolveEntityKey( 2, IntegerType.INSTANCE, persister, first, session );
+		assertNotSame( first, second );
+		assertEquals( 2, second.getIdentifier() );
+	}
+
+	@Test
+	public void testKeyIsGeneratedForOtherPersister() {
+		final Loadable otherPersister = mock( Loadable.class );
+		when( otherPersister.getIdentifierType() ).thenReturn( IntegerType.INSTANCE );
+
+		final EntityKey first = Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, null, session );
+		final EntityKey other = Loader.resolveEntityKey( 1, IntegerType.INSTANCE, otherPersister, first, session );
+		assertNotSame( first, other );
+		assertSame( otherPersister, other.getPersister() );
+	}
+
+	@Test
+	public void testNullIdentifier() {
+		final EntityKey first = Loader.resolveEntityKey( 1, IntegerType.INSTANCE, persister, null, session );
+		assertNull( Loader.resolveEntityKey( null, IntegerType.INSTANCE, persister, first, session ) );
+		verify( session, never() ).generateEntityKey( null, persister );
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.util.Map;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.LockModeType;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+public class LazyPersisterInitializationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Order.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.LAZY_PERSISTER_INITIALIZATION, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Order" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadersAreCreatedOnFirstUse() {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory().getMetamodel()
+				.entityPersister( Customer.class );
+		assertFalse( persister.getLoaders().containsKey( "merge" ) );
+		assertFalse( persister.getLoaders().containsKey( LockMode.PESSIMISTIC_WRITE ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "C-1", "Customer" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNotNull( session.get( Customer.class, 1L ) );
+		} );
+		assertTrue( persister.getLoaders().containsKey( LockMode.NONE ) );
+		assertFalse( persister.getLoaders().containsKey( "merge" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = session.merge( new Customer( 1L, "C-1", "Renamed customer" ) );
+			assertEquals( "Renamed customer", customer.name );
+		} );
+		assertTrue( persister.getLoaders().containsKey( "merge" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = session.find( Customer.class, 1L, LockModeType.PESSIMISTIC_WRITE );
+			assertEquals( "Renamed customer", customer.name );
+			session.refresh( customer );
+			session.delete( customer );
+		} );
+		assertTrue( persister.getLoaders().containsKey( LockMode.PESSIMISTIC_WRITE ) );
+	}
+
+	@Test
+	public void testUniqueKeyLoaderIsCreatedOnFirstUse() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = new Customer( 1L, "C-1", "Customer" );
+			session.persist( customer );
+			session.persist( new Order( 1L, customer ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Order order = session.get( Order.class, 1L );
+			assertEquals( "Customer", order.customer.name );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "t_customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		@Column(unique = true)
+		private String code;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "t_order")
+	public static class Order {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		@JoinColumn(name = "customer_code", referencedColumnName = "code")
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the static SQL of an entity persister can be generated while its DEBUG logging is enabled.
+ */
+public class StaticSqlDebugLoggingTest extends BaseUnitTestCase {
+
+	@Test
+	public void testEagerStaticSqlGeneration() {
+		buildSessionFactory( false );
+	}
+
+	@Test
+	public void testLazyStaticSqlGeneration() {
+		buildSessionFactory( true );
+	}
+
+	private void buildSessionFactory(boolean lazy) {
+		final Logger logger = LogManager.getLogger( AbstractEntityPersister.class );
+		final Level originalLevel = logger.getLevel();
+		logger.setLevel( Level.DEBUG );
+
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.LAZY_PERSISTER_INITIALIZATION, Boolean.toString( lazy ) )
+				.build();
+		try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( ssr )
+				.addAnnotatedClass( Item.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMetamodel()
+					.entityPersister( Item.class );
+			assertEquals( 1, persister.getSQLInsertStrings().length );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+			logger.setLevel( originalLevel );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
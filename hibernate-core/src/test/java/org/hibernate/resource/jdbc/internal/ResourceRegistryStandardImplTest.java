@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for ResultSets registered without a Statement, which are tracked lazily,
+ * and for the caching of released prepared statements.
+ */
+public class ResourceRegistryStandardImplTest extends BaseUnitTestCase {
+
+	@Test
+	public void testNoRegisteredResources() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		assertFalse( registry.hasRegisteredResources() );
+		registry.releaseResources();
+		assertFalse( registry.hasRegisteredResources() );
+	}
+
+	@Test
+	public void testReleaseUnassociatedResultSet() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( resultSet, null );
+		assertTrue( registry.hasRegisteredResources() );
+
+		registry.release( resultSet, null );
+		assertFalse( registry.hasRegisteredResources() );
+		verify( resultSet, times( 1 ) ).close();
+	}
+
+	@Test
+	public void testReleaseResourcesClosesUnassociatedResultSet() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( resultSet, null );
+		registry.releaseResources();
+
+		assertFalse( registry.hasRegisteredResources() );
+		verify( resultSet, times( 1 ) ).close();
+	}
+
+	@Test
+	public void testReleaseNeverRegisteredResultSet() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.release( resultSet, null );
+		verify( resultSet, times( 1 ) ).close();
+	}
+
+	@Test
+	public void testReleasedStatementIsCached() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl( null, 2 );
+		final PreparedStatement statement = mock( PreparedStatement.class );
+
+		registry.register( statement, true, "select 1" );
+		registry.release( statement );
+
+		assertFalse( registry.hasRegisteredResources() );
+		verify( statement, never() ).close();
+		verify( statement, times( 1 ) ).clearParameters();
+
+		assertSame( statement, registry.takeCachedStatement( "select 1" ) );
+		assertNull( registry.takeCachedStatement( "select 1" ) );
+	}
+
+	@Test
+	public void testCachedStatementsAreEvictedAndReleased() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl( null, 2 );
+		final PreparedStatement first = mock( PreparedStatement.class );
+		final PreparedStatement second = mock( PreparedStatement.class );
+		final PreparedStatement third = mock( PreparedStatement.class );
+
+		registry.register( first, true, "select 1" );
+		registry.register( second, true, "select 2" );
+		registry.register( third, true, "select 3" );
+		registry.release( first );
+		registry.release( second );
+		registry.release( third );
+
+		// the least recently released statement was evicted
+		verify( first, times( 1 ) ).close();
+		assertNull( registry.takeCachedStatement( "select 1" ) );
+
+		registry.releaseResources();
+		verify( second, times( 1 ) ).close();
+		verify( third, times( 1 ) ).close();
+		assertNull( registry.takeCachedStatement( "select 2" ) );
+	}
+
+	@Test
+	public void testStatementsNotCachedByDefault() throws Exception {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final PreparedStatement statement = mock( PreparedStatement.class );
+
+		registry.register( statement, true, "select 1" );
+		registry.release( statement );
+
+		verify( statement, times( 1 ) ).close();
+		assertNull( registry.takeCachedStatement( "select 1" ) );
+	}
+
+	@Test
+	public void testCachedStatementsAreClosedBeforeConnectionIsReleased() throws Exception {
+		final Connection connection = mock( Connection.class );
+		final JdbcConnectionAccess connectionAccess = mock( JdbcConnectionAccess.class );
+		when( connectionAccess.obtainConnection() ).thenReturn( connection );
+		final JdbcSessionContext sessionContext = mock( JdbcSessionContext.class );
+		when( sessionContext.getObserver() ).thenReturn( mock( JdbcObserver.class ) );
+		when( sessionContext.getPhysicalConnectionHandlingMode() )
+				.thenReturn( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION );
+		final JdbcServices jdbcServices = mock( JdbcServices.class );
+		when( jdbcServices.getSqlExceptionHelper() ).thenReturn( new SqlExceptionHelper( false ) );
+
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl( null, 2 );
+		final LogicalConnectionManagedImpl logicalConnection = new LogicalConnectionManagedImpl(
+				connectionAccess,
+				sessionContext,
+				registry,
+				jdbcServices
+		);
+		logicalConnection.getPhysicalConnection();
+
+		final PreparedStatement statement = mock( PreparedStatement.class );
+		registry.register( statement, true, "select 1" );
+		registry.release( statement );
+		verify( statement, never() ).close();
+
+		logicalConnection.afterTransaction();
+
+		final InOrder inOrder = inOrder( statement, connectionAccess );
+		inOrder.verify( statement ).close();
+		inOrder.verify( connectionAccess ).releaseConnection( connection );
+		assertNull( registry.takeCachedStatement( "select 1" ) );
+	}
+}
@@ -6,10 +6,17 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.SerializationHelper;
+
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Vlad Mihalcea
@@ -40,4 +47,66 @@ public class ConcurrentQueryStatisticsTest extends BaseUnitTestCase {
 		assertEquals( 11, stats.getExecutionAvgTime() );
 		assertEquals( 11.5, stats.getExecutionAvgTimeAsDouble(), 0.1 );
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testPercentiles() {
+		assertEquals( 0, stats.getExecutionTimePercentile( 99 ) );
+
+		for ( int i = 1; i <= 100; i++ ) {
+			stats.executed( 1, i );
+		}
+
+		assertEquals( 100, stats.getExecutionTimePercentile( 100 ) );
+		assertEquals( 1, stats.getExecutionTimePercentile( 1 ) );
+		assertPercentile( 50, stats.getExecutionTimePercentile( 50 ) );
+		assertPercentile( 95, stats.getExecutionTimePercentile( 95 ) );
+		assertPercentile( 99, stats.getExecutionTimePercentile( 99 ) );
+	}
+
+	@Test
+	public void testConcurrentExecutions() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			for ( int thread = 0; thread < 4; thread++ ) {
+				executor.execute( () -> {
+					for ( int i = 0; i < 10_000; i++ ) {
+						stats.executed( 1, 2 );
+					}
+				} );
+			}
+		}
+		finally {
+			executor.shutdown();
+			assertTrue( executor.awaitTermination( 30, TimeUnit.SECONDS ) );
+		}
+
+		assertEquals( 40_000, stats.getExecutionCount() );
+		assertEquals( 80_000, stats.getExecutionTotalTime() );
+		assertEquals( 2.0, stats.getExecutionAvgTimeAsDouble(), 0.0 );
+		assertEquals( 2, stats.getExecutionTimePercentile( 99 ) );
+	}
+
+	@Test
+	public void testSerialization() {
+		for ( int i = 1; i <= 100; i++ ) {
+			stats.executed( 1, i );
+		}
+
+		final QueryStatisticsImpl copy = (QueryStatisticsImpl) SerializationHelper.clone( stats );
+
+		assertEquals( stats.getExecutionCount(), copy.getExecutionCount() );
+		assertEquals( stats.getExecutionTotalTime(), copy.getExecutionTotalTime() );
+		assertEquals( stats.getExecutionMinTime(), copy.getExecutionMinTime() );
+		assertEquals( stats.getExecutionMaxTime(), copy.getExecutionMaxTime() );
+		assertEquals( stats.getExecutionTimePercentile( 50 ), copy.getExecutionTimePercentile( 50 ) );
+		assertEquals( stats.getExecutionTimePercentile( 99 ), copy.getExecutionTimePercentile( 99 ) );
+
+		copy.executed( 1, 1000 );
+		assertEquals( 101, copy.getExecutionCount() );
+		assertPercentile( 1000, copy.getExecutionTimePercentile( 100 ) );
+	}
+
+	private static void assertPercentile(long expected, long actual) {
+		assertTrue( "Expected about " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.25 );
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.annotations.query;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.SessionFactoryImpl;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_STARTUP_CHECKING_BACKGROUND}
+ */
+public class BackgroundNamedQueryCheckTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING, "true" );
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING_BACKGROUND, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInvalidNamedQueryIsReportedAfterBootstrap() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 1L, "Item" ) );
+		} );
+
+		// usable whether or not the background check has reached it
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					1,
+					session.createNamedQuery( "Item.byName", Item.class )
+							.setParameter( "name", "Item" )
+							.getResultList()
+							.size()
+			);
+		} );
+
+		final Map<String, HibernateException> errors = ( (SessionFactoryImpl) sessionFactory() ).getNamedQueryCheck()
+				.get( 30, TimeUnit.SECONDS );
+		assertEquals( 1, errors.size() );
+		assertTrue( errors.containsKey( "Item.invalid" ) );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	@NamedQueries({
+			@NamedQuery(name = "Item.byName", query = "select i from Item i where i.name = :name"),
+			@NamedQuery(name = "Item.invalid", query = "select i from Item i where i.missing = :name")
+	})
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
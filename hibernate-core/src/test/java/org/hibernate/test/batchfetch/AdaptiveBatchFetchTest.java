@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.internal.AdaptiveBatchSizeSelector;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveBatchFetchTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Country.class, City.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.ADAPTIVE.name() );
+		configuration.setProperty( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "15" );
+	}
+
+	@Test
+	public void adaptiveBatchFetchTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			IntStream.range( 0, 11 ).forEach( i -> {
+				Country c = new Country( "Country " + i );
+				session.save( c );
+				session.save( new City( "City " + i, c ) );
+			} );
+		} );
+
+		// repeat so that the selector has observations to base its choice on
+		for ( int run = 0; run < 10; run++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				List<City> allCities = session.createQuery( "from City", City.class ).list();
+				assertEquals( 11, allCities.size() );
+				for ( City city : allCities ) {
+					assertTrue( city.getCountry().getName().startsWith( "Country " ) );
+					assertTrue( Hibernate.isInitialized( city.getCountry() ) );
+				}
+			} );
+		}
+	}
+
+	@Test
+	public void testSelectorPadsUntilLearned() {
+		// [15, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]
+		final int[] batchSizes = ArrayHelper.getBatchSizes( 15 );
+		final AdaptiveBatchSizeSelector selector = new AdaptiveBatchSizeSelector( batchSizes );
+
+		assertEquals( batchSizes.length - 1, selector.selectBatchSizeIndex( 1 ) );
+		assertEquals( 15, batchSizes[selector.selectBatchSizeIndex( 11 )] );
+		assertEquals( 10, batchSizes[selector.selectBatchSizeIndex( 10 )] );
+	}
+
+	@Test
+	public void testSelectorPrefersPaddingForExpensiveRoundTrips() {
+		final int[] batchSizes = ArrayHelper.getBatchSizes( 15 );
+		final AdaptiveBatchSizeSelector selector = new AdaptiveBatchSizeSelector( batchSizes );
+		// 1ms per round trip, 1us per key
+		for ( int i = 0; i < 20; i++ ) {
+			final int size = batchSizes[i % batchSizes.length];
+			selector.recordExecution( size, 1_000_000L + size * 1_000L );
+		}
+		assertEquals( 15, batchSizes[selector.selectBatchSizeIndex( 11 )] );
+	}
+
+	@Test
+	public void testSelectorPrefersExactBatchesForExpensiveKeys() {
+		final int[] batchSizes = ArrayHelper.getBatchSizes( 15 );
+		final AdaptiveBatchSizeSelector selector = new AdaptiveBatchSizeSelector( batchSizes );
+		// 1us per round trip, 1ms per key
+		for ( int i = 0; i < 20; i++ ) {
+			final int size = batchSizes[i % batchSizes.length];
+			selector.recordExecution( size, 1_000L + size * 1_000_000L );
+		}
+		assertEquals( 10, batchSizes[selector.selectBatchSizeIndex( 11 )] );
+	}
+
+	@Test
+	public void testSelectorExploresWhenAllObservationsHaveTheSameSize() {
+		final int[] batchSizes = ArrayHelper.getBatchSizes( 15 );
+		final AdaptiveBatchSizeSelector selector = new AdaptiveBatchSizeSelector( batchSizes );
+		// 1us per round trip, 1ms per key, but only ever observed padded to 15
+		for ( int i = 0; i < 20; i++ ) {
+			selector.recordExecution( 15, 1_000L + 15 * 1_000_000L );
+		}
+
+		boolean explored = false;
+		for ( int i = 0; i < 10 && !explored; i++ ) {
+			final int batchSize = batchSizes[selector.selectBatchSizeIndex( 11 )];
+			if ( batchSize == 10 ) {
+				explored = true;
+			}
+			else {
+				assertEquals( 15, batchSize );
+			}
+			selector.recordExecution( batchSize, 1_000L + batchSize * 1_000_000L );
+		}
+		assertTrue( explored );
+
+		// with two distinct sizes observed the fit now favours the exact batches
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals( 10, batchSizes[selector.selectBatchSizeIndex( 11 )] );
+		}
+	}
+}
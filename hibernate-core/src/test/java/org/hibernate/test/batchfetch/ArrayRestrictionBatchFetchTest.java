@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.loader.BatchFetchStyle;
+
+import org.hibernate.test.util.ArrayRestrictionH2Dialect;
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Dynamic batch fetching binding all the keys of a batch as a single array parameter.
+ */
+@RequiresDialect(H2Dialect.class)
+public class ArrayRestrictionBatchFetchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.DIALECT, ArrayRestrictionH2Dialect.class.getName() );
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.DYNAMIC.name() );
+		settings.put( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "10" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "Author #" + i );
+				session.persist( author );
+				for ( long j = 1; j <= 2; j++ ) {
+					final Book book = new Book( i * 10 + j, "Book #" + ( i * 10 + j ), author );
+					author.books.add( book );
+					session.persist( book );
+				}
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Author> authors = new ArrayList<>();
+			for ( long i = 1; i <= 3; i++ ) {
+				authors.add( session.load( Author.class, i ) );
+			}
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			Hibernate.initialize( authors.get( 0 ) );
+
+			assertTrue( Hibernate.isInitialized( authors.get( 1 ) ) );
+			assertTrue( Hibernate.isInitialized( authors.get( 2 ) ) );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( "array_contains(?," ) );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadUsesSameSql() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Author> authors = session.byMultipleIds( Author.class ).multiLoad( 1L, 2L, 3L );
+			assertEquals( 3, authors.size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Author> authors = session.byMultipleIds( Author.class ).multiLoad( 4L, 5L );
+			assertEquals( 2, authors.size() );
+			assertEquals( "Author #5", authors.get( 1 ).name );
+		} );
+
+		assertEquals( 2, sqlStatementInterceptor.getSqlQueries().size() );
+		assertEquals(
+				sqlStatementInterceptor.getSqlQueries().get( 0 ),
+				sqlStatementInterceptor.getSqlQueries().get( 1 )
+		);
+	}
+
+	@Test
+	public void testCollectionBatchLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Author> authors = session.createQuery( "from Author a order by a.id", Author.class ).list();
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			for ( Author author : authors ) {
+				assertFalse( Hibernate.isInitialized( author.books ) );
+			}
+
+			assertEquals( 2, authors.get( 0 ).books.size() );
+
+			for ( Author author : authors ) {
+				assertTrue( Hibernate.isInitialized( author.books ) );
+				assertEquals( 2, author.books.size() );
+			}
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( "array_contains(?," ) );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchLoadWithArrayFilterParameter() {
+		doInHibernate( this::sessionFactory, session -> {
+			// a wrapper array filter value, which must be bound through its type rather than as the key array
+			session.enableFilter( "excludedTitle" ).setParameter( "title", new Character[] { 'B', 'o', 'o', 'k', ' ', '#', '1', '1' } );
+			final List<Author> authors = session.createQuery( "from Author a order by a.id", Author.class ).list();
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			assertEquals( 1, authors.get( 0 ).books.size() );
+			for ( Author author : authors ) {
+				assertTrue( Hibernate.isInitialized( author.books ) );
+			}
+			assertEquals( 2, authors.get( 1 ).books.size() );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( "array_contains(?," ) );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "t_author")
+	@FilterDef(name = "excludedTitle", parameters = @ParamDef(name = "title", type = "wrapper-characters"))
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author")
+		@Filter(name = "excludedTitle", condition = "title <> :title")
+		List<Book> books = new ArrayList<>();
+
+		Author() {
+		}
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "t_book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQuery;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests for {@link AvailableSettings#BOOTSTRAP_PARALLELISM}
+ */
+public class ParallelBootstrapTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.BOOTSTRAP_PARALLELISM, "4" );
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersistersAreBuilt() {
+		final MetamodelImplementor metamodel = sessionFactory().getMetamodel();
+		assertNotNull( metamodel.entityPersister( Author.class ) );
+		assertNotNull( metamodel.entityPersister( Book.class ) );
+		assertNotNull( metamodel.collectionPersister( Author.class.getName() + ".books" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author( 1L, "Author" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Book", author ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createNamedQuery( "Book.byAuthor", Book.class )
+					.setParameter( "name", "Author" )
+					.getResultList();
+			assertEquals( 1, books.size() );
+			assertEquals( 1, session.get( Author.class, 1L ).books.size() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "t_author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "t_book")
+	@NamedQuery(name = "Book.byAuthor", query = "select b from Book b where b.author.name = :name")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
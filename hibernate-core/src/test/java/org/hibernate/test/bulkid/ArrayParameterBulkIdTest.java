@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.array.ArrayParameterBulkIdStrategy;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.test.util.ArrayRestrictionH2Dialect;
+
+/**
+ * Runs the bulk-id tests with the {@link ArrayParameterBulkIdStrategy}, using an H2 Dialect
+ * supporting array restrictions.
+ */
+@RequiresDialect(H2Dialect.class)
+public class ArrayParameterBulkIdTest extends AbstractBulkIdTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty(
+				AvailableSettings.DIALECT,
+				ArrayRestrictionH2Dialect.class.getName()
+		);
+		return configuration;
+	}
+
+	@Override
+	protected Class<? extends MultiTableBulkIdStrategy> getMultiTableBulkIdStrategyClass() {
+		return ArrayParameterBulkIdStrategy.class;
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for reflection optimizers built from property getters and setters
+ */
+public class AccessorReflectionOptimizerTest extends BaseUnitTestCase {
+
+	private static final String[] PROPERTY_NAMES = { "id", "name", "count", "rate", "description", "active" };
+
+	@Test
+	public void testFieldAndMethodAccess() {
+		final ReflectionOptimizer optimizer = buildOptimizer( Child.class );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = optimizer.getAccessOptimizer();
+		assertArrayEquals( PROPERTY_NAMES, accessOptimizer.getPropertyNames() );
+
+		final Child child = (Child) optimizer.getInstantiationOptimizer().newInstance();
+		final Object[] values = { 1L, "name", 2, 3.5d, "description", Boolean.TRUE };
+		accessOptimizer.setPropertyValues( child, values );
+
+		assertEquals( Long.valueOf( 1L ), child.id );
+		assertEquals( "name", child.getName() );
+		assertEquals( 2, child.count );
+		assertEquals( 3.5d, child.rate, 0d );
+		assertEquals( "description", child.description );
+		assertEquals( true, child.isActive() );
+
+		assertArrayEquals( values, accessOptimizer.getPropertyValues( child ) );
+	}
+
+	@Test
+	public void testNullForPrimitive() {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = buildOptimizer( Child.class ).getAccessOptimizer();
+		try {
+			accessOptimizer.setPropertyValues( new Child(), new Object[] { 1L, "name", null, 3.5d, "description", true } );
+			fail( "Expecting a failure setting null into a primitive" );
+		}
+		catch (PropertyAccessException expected) {
+			assertEquals( "count", expected.getPropertyName() );
+		}
+	}
+
+	@Test
+	public void testValueOfWrongType() {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = buildOptimizer( Child.class ).getAccessOptimizer();
+		final Child child = new Child();
+		try {
+			accessOptimizer.setPropertyValues( child, new Object[] { 1L, "name", 2, "3.5", "description", true } );
+			fail( "Expecting a failure setting a String into a double" );
+		}
+		catch (PropertyAccessException expected) {
+			assertEquals( "rate", expected.getPropertyName() );
+		}
+		// set once, through the setters, up to the offending property
+		assertEquals( 2, child.count );
+		assertNull( child.description );
+	}
+
+	@Test
+	public void testNullForReference() {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = buildOptimizer( Child.class ).getAccessOptimizer();
+		final Child child = new Child();
+		accessOptimizer.setPropertyValues( child, new Object[] { null, null, 2, 3.5d, null, true } );
+		assertNull( child.id );
+		assertNull( child.getName() );
+		assertEquals( 2, child.count );
+	}
+
+	@Test
+	public void testValuesOfInstanceOfSubclass() {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = buildOptimizer( Child.class ).getAccessOptimizer();
+		final GrandChild grandChild = new GrandChild();
+		grandChild.id = 5L;
+		grandChild.description = "grand child";
+		final Object[] values = accessOptimizer.getPropertyValues( grandChild );
+		assertEquals( 5L, values[0] );
+		assertSame( grandChild.description, values[4] );
+	}
+
+	@Test
+	public void testFinalField() {
+		final ReflectionOptimizer optimizer = buildOptimizer( Immutable.class, "id", "code" );
+		final Immutable immutable = (Immutable) optimizer.getInstantiationOptimizer().newInstance();
+		// the final field can not be written by the generated accessor, but still through its setter
+		optimizer.getAccessOptimizer().setPropertyValues( immutable, new Object[] { 1L, "code" } );
+		assertEquals( Long.valueOf( 1L ), immutable.id );
+		assertEquals( "code", immutable.code );
+		assertArrayEquals( new Object[] { 1L, "code" }, optimizer.getAccessOptimizer().getPropertyValues( immutable ) );
+	}
+
+	private static ReflectionOptimizer buildOptimizer(Class<?> clazz) {
+		return buildOptimizer( clazz, PROPERTY_NAMES );
+	}
+
+	private static ReflectionOptimizer buildOptimizer(Class<?> clazz, String... propertyNames) {
+		final Getter[] getters = new Getter[propertyNames.length];
+		final Setter[] setters = new Setter[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			final PropertyAccessStrategy strategy = "name".equals( propertyNames[i] ) || "active".equals( propertyNames[i] )
+					? PropertyAccessStrategyBasicImpl.INSTANCE
+					: PropertyAccessStrategyFieldImpl.INSTANCE;
+			final PropertyAccess propertyAccess = strategy.buildPropertyAccess( clazz, propertyNames[i] );
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+		final ReflectionOptimizer optimizer = new BytecodeProviderImpl().getReflectionOptimizer(
+				clazz,
+				propertyNames,
+				getters,
+				setters
+		);
+		assertNotNull( optimizer );
+		return optimizer;
+	}
+
+	public static class Parent {
+		// inherited, package-private
+		Long id;
+		// inherited, accessed through its private methods
+		private String name;
+
+		private String getName() {
+			return name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Child extends Parent {
+		// private
+		private int count;
+		protected double rate;
+		public String description;
+		private boolean active;
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+
+	public static class GrandChild extends Child {
+	}
+
+	public static class Immutable {
+		Long id;
+		// package-private and final, as mapped with field access
+		final String code;
+
+		public Immutable() {
+			this.code = null;
+		}
+	}
+}
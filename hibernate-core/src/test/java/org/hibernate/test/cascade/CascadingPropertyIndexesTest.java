@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cascade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link EntityPersister#getCascadingPropertyIndexes}
+ */
+public class CascadingPropertyIndexesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, PurchaseOrder.class, Region.class, Profile.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Customer", Customer.class ).list().forEach( session::remove );
+			session.createQuery( "delete from Region" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testNonCascadingEntity() {
+		final EntityPersister persister = persister( Region.class );
+		assertEquals( 0, persister.getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE ).length );
+		assertEquals( 0, persister.getCascadingPropertyIndexes( CascadingActions.PERSIST_ON_FLUSH ).length );
+		assertEquals( 0, persister.getCascadingPropertyIndexes( CascadingActions.DELETE ).length );
+	}
+
+	@Test
+	public void testCascadingEntity() {
+		final EntityPersister persister = persister( Customer.class );
+		final int orders = persister.getEntityMetamodel().getPropertyIndex( "orders" );
+		final int region = persister.getEntityMetamodel().getPropertyIndex( "region" );
+		final int profile = persister.getEntityMetamodel().getPropertyIndex( "profile" );
+
+		assertArrayEquals( new int[] { orders }, persister.getCascadingPropertyIndexes( CascadingActions.PERSIST ) );
+		// the delete-orphan style also applies to save-update
+		assertArrayEquals(
+				sorted( orders, profile ),
+				persister.getCascadingPropertyIndexes( CascadingActions.SAVE_UPDATE )
+		);
+		// non-cascading entity associations are checked for transient references
+		assertArrayEquals(
+				sorted( orders, region, profile ),
+				persister.getCascadingPropertyIndexes( CascadingActions.PERSIST_ON_FLUSH )
+		);
+
+		assertSame(
+				persister.getCascadingPropertyIndexes( CascadingActions.MERGE ),
+				persister.getCascadingPropertyIndexes( CascadingActions.MERGE )
+		);
+	}
+
+	@Test
+	public void testFlushCascades() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Region region = new Region( 1L );
+			session.persist( region );
+			final Customer customer = new Customer( 1L );
+			customer.region = region;
+			session.persist( customer );
+			session.flush();
+
+			customer.orders.add( new PurchaseOrder( 1L ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNotNull( session.get( PurchaseOrder.class, 1L ) );
+		} );
+	}
+
+	private EntityPersister persister(Class<?> entityClass) {
+		return sessionFactory().getMetamodel().entityPersister( entityClass );
+	}
+
+	private static int[] sorted(int... indexes) {
+		Arrays.sort( indexes );
+		return indexes;
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "t_customer")
+	public static class Customer {
+		@Id
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Region region;
+
+		@OneToOne(orphanRemoval = true)
+		Profile profile;
+
+		@OneToMany(cascade = CascadeType.ALL)
+		List<PurchaseOrder> orders = new ArrayList<>();
+
+		Customer() {
+		}
+
+		Customer(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "t_purchase_order")
+	public static class PurchaseOrder {
+		@Id
+		Long id;
+
+		PurchaseOrder() {
+		}
+
+		PurchaseOrder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Region")
+	@Table(name = "t_region")
+	public static class Region {
+		@Id
+		Long id;
+
+		String name;
+
+		Region() {
+		}
+
+		Region(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Profile")
+	@Table(name = "t_profile")
+	public static class Profile {
+		@Id
+		Long id;
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.set;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the operation log of {@link org.hibernate.collection.internal.PersistentSet}, which limits
+ * the flush of a set of immutable elements to the added and removed elements.
+ */
+public class PersistentSetOperationLogTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Library.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			final Library library = new Library( 1L );
+			for ( int i = 0; i < 50; i++ ) {
+				library.tags.add( "tag" + i );
+			}
+			session.persist( library );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Library library = session.get( Library.class, 1L );
+			assertEquals( 50, library.tags.size() );
+
+			sqlStatementInterceptor.getSqlQueries().clear();
+			library.tags.add( "new" );
+			session.flush();
+			assertEquals( 1, countStatements( "insert" ) );
+			assertEquals( 0, countStatements( "delete" ) );
+
+			sqlStatementInterceptor.getSqlQueries().clear();
+			library.tags.remove( "tag1" );
+			library.tags.remove( "tag2" );
+			library.tags.add( "tag2" );
+			library.tags.add( "other" );
+			library.tags.remove( "other" );
+			session.flush();
+			assertEquals( 0, countStatements( "insert" ) );
+			assertEquals( 1, countStatements( "delete" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Set<String> tags = session.get( Library.class, 1L ).tags;
+			assertEquals( 50, tags.size() );
+			assertTrue( tags.contains( "new" ) );
+			assertTrue( tags.contains( "tag2" ) );
+			assertFalse( tags.contains( "tag1" ) );
+			assertFalse( tags.contains( "other" ) );
+		} );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Library library = session.get( Library.class, 1L );
+			library.tags.add( "new" );
+			final Iterator<String> iterator = library.tags.iterator();
+			while ( iterator.hasNext() ) {
+				if ( iterator.next().startsWith( "tag1" ) ) {
+					iterator.remove();
+				}
+			}
+			session.flush();
+
+			library.tags.add( "newer" );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Set<String> tags = session.get( Library.class, 1L ).tags;
+			assertEquals( 41, tags.size() );
+			assertTrue( tags.contains( "new" ) );
+			assertTrue( tags.contains( "newer" ) );
+			assertFalse( tags.contains( "tag12" ) );
+		} );
+	}
+
+	private long countStatements(String prefix) {
+		return sqlStatementInterceptor.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( prefix ) )
+				.count();
+	}
+
+	@Entity(name = "Library")
+	@Table(name = "t_library")
+	public static class Library {
+		@Id
+		Long id;
+
+		@ElementCollection
+		@CollectionTable(name = "t_library_tag")
+		Set<String> tags = new HashSet<>();
+
+		Library() {
+		}
+
+		Library(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Event instances are only reused by the Session when the registered listeners are the built-in ones.
+ */
+public class EventReuseTest extends BaseCoreFunctionalTestCase {
+
+	private final RecordingLoadEventListener listener = new RecordingLoadEventListener();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Product.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testBuiltInListenersOnly() {
+		final EventListenerRegistry registry = sessionFactory().getServiceRegistry().getService( EventListenerRegistry.class );
+		assertTrue( registry.getEventListenerGroup( EventType.PERSIST ).hasBuiltInListenersOnly() );
+		assertTrue( registry.getEventListenerGroup( EventType.MERGE ).hasBuiltInListenersOnly() );
+		assertFalse( registry.getEventListenerGroup( EventType.LOAD ).hasBuiltInListenersOnly() );
+	}
+
+	@Test
+	public void testPersistMergeAndLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "first" ) );
+			session.persist( new Product( 2, "second" ) );
+		} );
+
+		final Product merged = doInHibernate( this::sessionFactory, session -> {
+			session.merge( new Product( 1, "first, renamed" ) );
+			return session.merge( new Product( 2, "second, renamed" ) );
+		} );
+		assertEquals( "second, renamed", merged.name );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "first, renamed", session.get( Product.class, 1 ).name );
+			assertEquals( "second, renamed", session.get( Product.class, 2 ).name );
+		} );
+	}
+
+	@Test
+	public void testNoReuseWithCustomListener() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "first" ) );
+			session.persist( new Product( 2, "second" ) );
+		} );
+
+		listener.events.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 1 );
+			session.get( Product.class, 2 );
+		} );
+
+		assertEquals( 2, listener.events.size() );
+		assertNotSame( listener.events.get( 0 ), listener.events.get( 1 ) );
+		// the events were left untouched once fired
+		assertEquals( 1, listener.events.get( 0 ).getEntityId() );
+		assertEquals( 2, listener.events.get( 1 ).getEntityId() );
+	}
+
+	@Override
+	protected void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder builder) {
+		super.prepareBootstrapRegistryBuilder( builder );
+		builder.applyIntegrator(
+				new Integrator() {
+					@Override
+					public void integrate(
+							Metadata metadata,
+							SessionFactoryImplementor sessionFactory,
+							SessionFactoryServiceRegistry serviceRegistry) {
+						serviceRegistry.getService( EventListenerRegistry.class ).appendListeners(
+								EventType.LOAD,
+								listener
+						);
+					}
+
+					@Override
+					public void disintegrate(
+							SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+					}
+				}
+		);
+	}
+
+	private static class RecordingLoadEventListener implements LoadEventListener {
+		private final List<LoadEvent> events = new ArrayList<>();
+
+		@Override
+		public void onLoad(LoadEvent event, LoadType loadType) {
+			events.add( event );
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "t_product")
+	public static class Product {
+		@Id
+		Integer id;
+
+		String name;
+
+		Product() {
+		}
+
+		Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
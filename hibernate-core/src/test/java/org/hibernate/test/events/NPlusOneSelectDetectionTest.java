@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.NPlusOneSelectDetector;
+import org.hibernate.engine.spi.NPlusOneSelectDetectionMode;
+import org.hibernate.internal.CoreLogging;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.testing.logger.LoggerInspectionRule;
+import org.hibernate.testing.logger.Triggerable;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link NPlusOneSelectDetector}
+ */
+public class NPlusOneSelectDetectionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Rule
+	public LoggerInspectionRule logInspection = new LoggerInspectionRule(
+			CoreLogging.messageLogger( NPlusOneSelectDetector.class )
+	);
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.N_PLUS_ONE_SELECT_DETECTION, "exception" );
+		settings.put( AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, "3" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Override
+	protected void prepareTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "Author #" + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book #" + i, author ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionFetchedForEachQueryResult() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Author> authors = session.createQuery( "from Author a order by a.id", Author.class ).list();
+			try {
+				for ( Author author : authors ) {
+					author.getBooks().size();
+				}
+				fail( "Expecting the N+1 selects to be detected" );
+			}
+			catch (HibernateException expected) {
+				assertEquals(
+						"N+1 selects detected: " + Author.class.getName() + ".books was fetched 3 times"
+								+ " following query [from Author a order by a.id]",
+						expected.getMessage()
+				);
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchFetchedProxies() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createQuery( "from Book b order by b.id", Book.class ).list();
+			for ( Book book : books ) {
+				// all the authors are fetched by the first initialization, thanks to @BatchSize
+				assertTrue( book.getAuthor().getName().startsWith( "Author" ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testFetchesAreCountedPerQuery() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = session.createQuery( "from Author a where a.id = :id", Author.class )
+						.setParameter( "id", i )
+						.getSingleResult();
+				assertEquals( 1, author.getBooks().size() );
+			}
+		} );
+	}
+
+	@Test
+	public void testWarning() {
+		final Triggerable triggerable = logInspection.watchForLogMessages( "N+1 selects detected" );
+		final NPlusOneSelectDetector detector = new NPlusOneSelectDetector( NPlusOneSelectDetectionMode.WARNING, 3 );
+
+		detector.queryExecution( "from Author" );
+		detector.associationFetch( "Author.books" );
+		detector.associationFetch( "Author.books" );
+		detector.queryExecution( "from Book" );
+		detector.associationFetch( "Author.books" );
+		assertFalse( triggerable.wasTriggered() );
+
+		detector.associationFetch( "Author.books" );
+		detector.associationFetch( "Author.books" );
+		detector.associationFetch( "Author.books" );
+		// reported once the Session ends, or the next query is executed
+		assertFalse( triggerable.wasTriggered() );
+		detector.end();
+		assertEquals(
+				"N+1 selects detected: Author.books was fetched 4 times following query [from Book]",
+				triggerable.triggerMessage()
+		);
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "t_n_plus_one_author")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		Author() {
+		}
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "t_n_plus_one_book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.extralazy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.boot.SessionFactoryBuilder;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link Hibernate#pagedIterator}
+ */
+public class PagedIterationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Forum.class, Post.class, Tag.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = new Forum( 1L );
+			session.persist( forum );
+			for ( long i = 1; i <= 25; i++ ) {
+				final Post post = new Post( i, forum );
+				forum.posts.add( post );
+				session.persist( post );
+			}
+			for ( int i = 1; i <= 5; i++ ) {
+				final Tag tag = new Tag( new TagId( "tag", i ), forum );
+				forum.tags.add( tag );
+				session.persist( tag );
+			}
+			for ( int i = 0; i < 7; i++ ) {
+				forum.notes.add( "note" + i );
+				forum.labels.add( "label" + ( i % 3 ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Post" ).executeUpdate();
+			session.createQuery( "delete from Tag" ).executeUpdate();
+			session.remove( session.get( Forum.class, 1L ) );
+		} );
+	}
+
+	@Test
+	public void testSetOfEntities() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = session.get( Forum.class, 1L );
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			final Set<Long> ids = new HashSet<>();
+			final Iterator<Post> posts = Hibernate.pagedIterator( forum.posts, 10 );
+			while ( posts.hasNext() ) {
+				ids.add( posts.next().id );
+			}
+
+			assertEquals( 25, ids.size() );
+			assertEquals( 3, sqlStatementInterceptor.getSqlQueries().size() );
+			assertFalse( Hibernate.isInitialized( forum.posts ) );
+		} );
+	}
+
+	@Test
+	public void testSetOfEntitiesWithCompositeId() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = session.get( Forum.class, 1L );
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			final Set<Integer> versions = new HashSet<>();
+			final Iterator<Tag> tags = Hibernate.pagedIterator( forum.tags, 2 );
+			while ( tags.hasNext() ) {
+				versions.add( tags.next().id.version );
+			}
+
+			assertEquals( 5, versions.size() );
+			assertEquals( 3, sqlStatementInterceptor.getSqlQueries().size() );
+			assertFalse( Hibernate.isInitialized( forum.tags ) );
+		} );
+	}
+
+	@Test
+	public void testList() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = session.get( Forum.class, 1L );
+
+			final List<String> notes = new ArrayList<>();
+			Hibernate.pagedIterator( forum.notes, 3 ).forEachRemaining( notes::add );
+
+			assertEquals( 7, notes.size() );
+			for ( int i = 0; i < 7; i++ ) {
+				assertEquals( "note" + i, notes.get( i ) );
+			}
+			assertFalse( Hibernate.isInitialized( forum.notes ) );
+		} );
+	}
+
+	@Test
+	public void testBagWithDuplicates() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = session.get( Forum.class, 1L );
+
+			final List<String> labels = new ArrayList<>();
+			Hibernate.pagedIterator( forum.labels, 2 ).forEachRemaining( labels::add );
+
+			assertEquals( 7, labels.size() );
+			assertFalse( Hibernate.isInitialized( forum.labels ) );
+		} );
+	}
+
+	@Test
+	public void testInitializedCollection() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Forum forum = session.get( Forum.class, 1L );
+			Hibernate.initialize( forum.posts );
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			int count = 0;
+			final Iterator<Post> posts = Hibernate.pagedIterator( forum.posts, 10 );
+			while ( posts.hasNext() ) {
+				posts.next();
+				count++;
+			}
+
+			assertEquals( 25, count );
+			assertEquals( 0, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Entity(name = "Forum")
+	@Table(name = "t_forum")
+	public static class Forum {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "forum")
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		Set<Post> posts = new HashSet<>();
+
+		@OneToMany(mappedBy = "forum")
+		Set<Tag> tags = new HashSet<>();
+
+		@ElementCollection
+		@CollectionTable(name = "t_forum_note")
+		@OrderColumn
+		List<String> notes = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "t_forum_label")
+		Collection<String> labels = new ArrayList<>();
+
+		Forum() {
+		}
+
+		Forum(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Post")
+	@Table(name = "t_post")
+	public static class Post {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Forum forum;
+
+		Post() {
+		}
+
+		Post(Long id, Forum forum) {
+			this.id = id;
+			this.forum = forum;
+		}
+	}
+
+	@Entity(name = "Tag")
+	@Table(name = "t_tag")
+	public static class Tag {
+		@EmbeddedId
+		TagId id;
+
+		@ManyToOne
+		Forum forum;
+
+		Tag() {
+		}
+
+		Tag(TagId id, Forum forum) {
+			this.id = id;
+			this.forum = forum;
+		}
+	}
+
+	@Embeddable
+	public static class TagId implements Serializable {
+		String name;
+
+		int version;
+
+		TagId() {
+		}
+
+		TagId(String name, int version) {
+			this.name = name;
+			this.version = version;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof TagId ) ) {
+				return false;
+			}
+			final TagId other = (TagId) o;
+			return version == other.version && name.equals( other.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + version;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_CACHE_SIZE}
+ */
+public class PreparedStatementCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.STATEMENT_CACHE_SIZE, "10" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item #" + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testStatementsReusedWithinTransaction() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				assertNotNull( session.get( Item.class, i ) );
+			}
+			for ( long i = 1; i <= 5; i++ ) {
+				session.get( Item.class, i ).name = "Renamed #" + i;
+				session.flush();
+			}
+		} );
+
+		// one select and one update statement, each executed five times
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				assertEquals( "Renamed #" + i, session.get( Item.class, i ).name );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_psc_item")
+	public static class Item {
+		@Id
+		Long id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
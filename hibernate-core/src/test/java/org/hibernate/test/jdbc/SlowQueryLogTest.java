@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.internal.SlowQueryLog;
+import org.hibernate.engine.jdbc.spi.SlowQuery;
+import org.hibernate.engine.jdbc.spi.SlowQuerySink;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SlowQueryLog}
+ */
+public class SlowQueryLogTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final List<SlowQuery> SLOW_QUERIES = new CopyOnWriteArrayList<>();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.LOG_SLOW_QUERY, "10" );
+		final SlowQuerySink sink = SLOW_QUERIES::add;
+		settings.put( AvailableSettings.SLOW_QUERY_SINK, sink );
+		settings.put( AvailableSettings.SLOW_QUERY_EXPLAIN, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item #" + i ) );
+			}
+		} );
+		SLOW_QUERIES.clear();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testFetchTimeIsMeasuredUntilRelease() {
+		final SlowQuery slowQuery = scrollSlowly();
+
+		assertTrue( slowQuery.getFetchMillis() >= 50 );
+		assertEquals( -1, slowQuery.getRowCount() );
+		assertEquals( "2", slowQuery.getBoundValues().get( "1" ) );
+		assertEquals( "query [select i from Item i where i.id > :id]", slowQuery.getOrigin() );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testExecutionPlanIsCaptured() {
+		final SlowQuery slowQuery = scrollSlowly();
+
+		assertNotNull( slowQuery.getExecutionPlan() );
+		assertTrue( slowQuery.getExecutionPlan().toLowerCase().contains( "t_item" ) );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testTransactionIsNotAffectedByExecutionPlanCapture() {
+		final SlowQuery slowQuery = scrollSlowly( session -> session.persist( new Item( 6L, "Item #6" ) ) );
+		assertNotNull( slowQuery.getExecutionPlan() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNotNull( session.get( Item.class, 6L ) );
+		} );
+	}
+
+	private SlowQuery scrollSlowly() {
+		return scrollSlowly( session -> {
+		} );
+	}
+
+	private SlowQuery scrollSlowly(Consumer<Session> afterScroll) {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( ScrollableResults results = session.createQuery( "select i from Item i where i.id > :id" )
+					.setParameter( "id", 2L )
+					.scroll() ) {
+				while ( results.next() ) {
+					Thread.sleep( 20 );
+				}
+			}
+			catch (InterruptedException e) {
+				throw new RuntimeException( e );
+			}
+			afterScroll.accept( session );
+		} );
+
+		final List<SlowQuery> slowSelects = SLOW_QUERIES.stream()
+				.filter( slowQuery -> slowQuery.getSql().contains( "t_item" ) && slowQuery.getFetchMillis() >= 0 )
+				.collect( Collectors.toList() );
+		assertEquals( 1, slowSelects.size() );
+		return slowSelects.get( 0 );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
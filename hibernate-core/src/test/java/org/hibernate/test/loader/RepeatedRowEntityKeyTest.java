@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.loader;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests results for queries where the same entity shows up on consecutive rows, in which
+ * case the Loader reuses the EntityKey of the previous row (see {@code LoaderEntityKeyTest}
+ * for the reuse itself).
+ */
+public class RepeatedRowEntityKeyTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class };
+	}
+
+	@Test
+	public void testRepeatedOwnerRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				for ( int j = 1; j <= 4; j++ ) {
+					final Child child = new Child( i * 10 + j, parent );
+					parent.children.add( child );
+					session.persist( child );
+				}
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Object[]> rows = session.createQuery(
+					"select c, c.parent from Child c order by c.id",
+					Object[].class
+			).list();
+			assertEquals( 12, rows.size() );
+			for ( Object[] row : rows ) {
+				final Child child = (Child) row[0];
+				assertSame( child.parent, row[1] );
+				assertEquals( child.id / 10, child.parent.id.intValue() );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Parent> parents = session.createQuery(
+					"select distinct p from Parent p join fetch p.children order by p.id",
+					Parent.class
+			).list();
+			assertEquals( 3, parents.size() );
+			for ( Parent parent : parents ) {
+				assertEquals( 4, parent.children.size() );
+				for ( Child child : parent.children ) {
+					assertSame( parent, child.parent );
+				}
+			}
+		} );
+	}
+
+	@Entity( name = "Parent" )
+	@Table( name = "t_parent" )
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany( mappedBy = "parent" )
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Child" )
+	@Table( name = "t_child" )
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.boot.SessionFactoryBuilder;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.NaturalIdMultiLoadAccess.compoundValue;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link org.hibernate.Session#byMultipleNaturalId}
+ */
+public class MultiNaturalIdLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Account.class };
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 30; i++ ) {
+				session.persist( new Product( i, "SKU-" + i ) );
+			}
+			session.persist( new Account( 1L, "sap", "A-1" ) );
+			session.persist( new Account( 2L, "sap", "A-2" ) );
+			session.persist( new Account( 3L, "crm", "A-1" ) );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSimpleNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<String> skus = new ArrayList<>();
+			for ( int i = 30; i >= 1; i-- ) {
+				skus.add( "SKU-" + i );
+			}
+			skus.add( 5, "unknown" );
+
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Product> products = session.byMultipleNaturalId( Product.class )
+					.withBatchSize( 10 )
+					.multiLoad( skus );
+
+			assertEquals( 31, products.size() );
+			assertEquals( "SKU-30", products.get( 0 ).sku );
+			assertNull( products.get( 5 ) );
+			assertEquals( "SKU-1", products.get( 30 ).sku );
+			// one query per batch of 10 unknown natural ids
+			assertEquals( 4, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testCrossReferencedNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.bySimpleNaturalId( Product.class ).load( "SKU-3" );
+
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Product> products = session.byMultipleNaturalId( Product.class )
+					.multiLoad( "SKU-3", "SKU-4", "SKU-3" );
+
+			assertSame( product, products.get( 0 ) );
+			assertEquals( "SKU-4", products.get( 1 ).sku );
+			assertSame( product, products.get( 2 ) );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+
+			sqlStatementInterceptor.getSqlQueries().clear();
+			session.byMultipleNaturalId( Product.class ).multiLoad( "SKU-3", "SKU-4" );
+			assertEquals( 0, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testCompoundNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+			final List<Account> accounts = session.byMultipleNaturalId( Account.class ).multiLoad(
+					compoundValue( "realm", "crm", "code", "A-1" ),
+					compoundValue( "realm", "sap", "code", "A-3" ),
+					compoundValue( "realm", "sap", "code", "A-1" )
+			);
+
+			assertEquals( 3, accounts.size() );
+			assertEquals( Long.valueOf( 3L ), accounts.get( 0 ).id );
+			assertNull( accounts.get( 1 ) );
+			assertEquals( Long.valueOf( 1L ), accounts.get( 2 ).id );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "t_mnid_product")
+	public static class Product {
+		@Id
+		Long id;
+
+		@NaturalId
+		String sku;
+
+		Product() {
+		}
+
+		Product(Long id, String sku) {
+			this.id = id;
+			this.sku = sku;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "t_mnid_account")
+	public static class Account {
+		@Id
+		Long id;
+
+		@NaturalId
+		String realm;
+
+		@NaturalId
+		String code;
+
+		Account() {
+		}
+
+		Account(Long id, String realm, String code) {
+			this.id = id;
+			this.realm = realm;
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Tests for {@link AvailableSettings#MERGE_DETACHED_FAST_PATH}
+ */
+public class MergeDetachedFastPathTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Basket.class, Fruit.class, Seed.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.MERGE_DETACHED_FAST_PATH, "true" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket basket = new Basket( 1L );
+			session.persist( basket );
+			for ( long i = 1; i <= 5; i++ ) {
+				final Fruit fruit = new Fruit( i, "Fruit #" + i, basket );
+				basket.fruits.add( fruit );
+				session.persist( fruit );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Seed" ).executeUpdate();
+			session.createQuery( "delete from Fruit" ).executeUpdate();
+			session.createQuery( "delete from Basket" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMergeDetachedGraph() {
+		final Basket detached = doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery(
+					"select b from Basket b join fetch b.fruits where b.id = 1",
+					Basket.class
+			).getSingleResult();
+		} );
+		detached.fruits.get( 2 ).name = "Banana";
+
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket merged = (Basket) session.merge( detached );
+			assertNotSame( detached, merged );
+			assertEquals( 5, merged.fruits.size() );
+			assertEquals( "Banana", merged.fruits.get( 2 ).name );
+		} );
+
+		// the fruits were all loaded by a single multi-load
+		assertEquals( 1, countStatements( "select", "in (" ) );
+		assertEquals( 1, countStatements( "update", "t_fp_fruit" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket basket = session.get( Basket.class, 1L );
+			assertEquals( "Banana", basket.fruits.get( 2 ).name );
+			assertEquals( 1, basket.fruits.get( 2 ).version );
+			assertEquals( 0, basket.fruits.get( 1 ).version );
+			assertEquals( "Fruit #2", basket.fruits.get( 1 ).name );
+		} );
+	}
+
+	@Test
+	public void testMergeDetachedGraphFetchesCascadedCollections() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Fruit fruit : session.get( Basket.class, 1L ).fruits ) {
+				for ( long i = 1; i <= 2; i++ ) {
+					final Seed seed = new Seed( fruit.id * 10 + i, fruit );
+					fruit.seeds.add( seed );
+					session.persist( seed );
+				}
+			}
+		} );
+
+		final Basket detached = doInHibernate( this::sessionFactory, session -> {
+			final Basket basket = session.createQuery(
+					"select b from Basket b join fetch b.fruits where b.id = 1",
+					Basket.class
+			).getSingleResult();
+			for ( Fruit fruit : basket.fruits ) {
+				Hibernate.initialize( fruit.seeds );
+			}
+			return basket;
+		} );
+
+		sqlStatementInterceptor.getSqlQueries().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket merged = (Basket) session.merge( detached );
+			assertEquals( 2, merged.fruits.get( 0 ).seeds.size() );
+		} );
+
+		// the seeds were fetched along with the fruits, as when merging loads them one by one
+		assertEquals( 1, countStatements( "select", "t_fp_seed" ) );
+		assertEquals( 1, countStatements( "select", "in (" ) );
+	}
+
+	@Test
+	public void testMergeDetachedChangedReference() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Basket( 2L ) );
+		} );
+
+		final Fruit detached = doInHibernate( this::sessionFactory, session -> {
+			return session.get( Fruit.class, 1L );
+		} );
+		detached.basket = new Basket( 2L );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Fruit merged = (Fruit) session.merge( detached );
+			assertEquals( Long.valueOf( 2L ), merged.basket.id );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( Long.valueOf( 2L ), session.get( Fruit.class, 1L ).basket.id );
+		} );
+	}
+
+	private long countStatements(String prefix, String fragment) {
+		return sqlStatementInterceptor.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( prefix ) && sql.toLowerCase().contains( fragment ) )
+				.count();
+	}
+
+	@Entity(name = "Basket")
+	@Table(name = "t_fp_basket")
+	public static class Basket {
+		@Id
+		Long id;
+
+		@Version
+		int version;
+
+		@OneToMany(mappedBy = "basket", cascade = CascadeType.MERGE)
+		@OrderBy("id")
+		List<Fruit> fruits = new ArrayList<>();
+
+		Basket() {
+		}
+
+		Basket(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Fruit")
+	@Table(name = "t_fp_fruit")
+	public static class Fruit {
+		@Id
+		Long id;
+
+		@Version
+		int version;
+
+		String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Basket basket;
+
+		@OneToMany(mappedBy = "fruit", cascade = CascadeType.MERGE)
+		@OrderBy("id")
+		List<Seed> seeds = new ArrayList<>();
+
+		Fruit() {
+		}
+
+		Fruit(Long id, String name, Basket basket) {
+			this.id = id;
+			this.name = name;
+			this.basket = basket;
+		}
+	}
+
+	@Entity(name = "Seed")
+	@Table(name = "t_fp_seed")
+	public static class Seed {
+		@Id
+		Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Fruit fruit;
+
+		Seed() {
+		}
+
+		Seed(Long id, Fruit fruit) {
+			this.id = id;
+			this.fruit = fruit;
+		}
+	}
+}
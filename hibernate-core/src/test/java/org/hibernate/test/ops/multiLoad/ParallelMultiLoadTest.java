@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops.multiLoad;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.MultiIdentifierLoadAccess#withParallelism}
+ */
+public class ParallelMultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private final AtomicInteger executedStatements = new AtomicInteger();
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put(
+				AvailableSettings.MULTI_LOAD_EXECUTOR,
+				(Executor) command -> {
+					executedStatements.incrementAndGet();
+					ForkJoinPool.commonPool().execute( command );
+				}
+		);
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 60; i++ ) {
+				session.persist( new Item( i, "Item #" + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testOrderedParallelMultiLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			sqlStatementInterceptor.getSqlQueries().clear();
+			executedStatements.set( 0 );
+
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.withBatchSize( 10 )
+					.withParallelism( 3 )
+					.multiLoad( ids( 60 ) );
+
+			assertEquals( 6, sqlStatementInterceptor.getSqlQueries().size() );
+			assertEquals( 6, executedStatements.get() );
+
+			assertEquals( 60, items.size() );
+			for ( int i = 0; i < 60; i++ ) {
+				final Item item = items.get( i );
+				assertEquals( Integer.valueOf( i + 1 ), item.id );
+				assertEquals( "Item #" + ( i + 1 ), item.name );
+				assertTrue( session.contains( item ) );
+				assertTrue( session.isReadOnly( item ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testUnorderedParallelMultiLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.withBatchSize( 7 )
+					.withParallelism( 3 )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( 60 ) );
+
+			assertEquals( 60, items.size() );
+			final Set<Integer> loadedIds = new HashSet<>();
+			for ( Item item : items ) {
+				loadedIds.add( item.id );
+				assertTrue( session.contains( item ) );
+			}
+			assertEquals( 60, loadedIds.size() );
+		} );
+	}
+
+	@Test
+	public void testParallelMultiLoadOfManagedEntities() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			final List<Item> managedItems = session.byMultipleIds( Item.class )
+					.withBatchSize( 10 )
+					.multiLoad( ids( 60 ) );
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.withBatchSize( 10 )
+					.withParallelism( 3 )
+					.enableSessionCheck( true )
+					.multiLoad( ids( 60 ) );
+
+			assertEquals( managedItems, items );
+			assertEquals( 0, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testParallelismIgnoredForModifiableSession() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.withBatchSize( 10 )
+					.withParallelism( 3 )
+					.multiLoad( ids( 60 ) );
+
+			assertEquals( 60, items.size() );
+			assertEquals( 6, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	private Integer[] ids(int count) {
+		Integer[] ids = new Integer[count];
+		for ( int i = 1; i <= count; i++ ) {
+			ids[i - 1] = i;
+		}
+		return ids;
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
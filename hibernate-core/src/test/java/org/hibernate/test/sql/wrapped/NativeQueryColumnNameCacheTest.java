@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.sql.wrapped;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
+import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
+import org.hibernate.engine.query.spi.sql.NativeSQLQueryScalarReturn;
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.type.StringType;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests that the column-name -> column-index cache used for wrapped result sets
+ * is kept by the native query plan and reused across executions.
+ */
+public class NativeQueryColumnNameCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String QUERY_STRING = "select c.name as cname from t_customer c order by c.id";
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.WRAP_RESULT_SETS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class };
+	}
+
+	@Test
+	public void testColumnNameCacheSharedAcrossExecutions() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1, "Samuel" ) );
+			session.persist( new Customer( 2, "Steve" ) );
+		} );
+
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				List<String> names = session.createNativeQuery( QUERY_STRING )
+						.addScalar( "cname", StringType.INSTANCE )
+						.list();
+				assertEquals( 2, names.size() );
+				assertEquals( "Samuel", names.get( 0 ) );
+				assertEquals( "Steve", names.get( 1 ) );
+			} );
+		}
+
+		final NativeSQLQueryPlan plan = sessionFactory().getQueryPlanCache().getNativeSQLQueryPlan(
+				new NativeSQLQuerySpecification(
+						QUERY_STRING,
+						new NativeSQLQueryReturn[] { new NativeSQLQueryScalarReturn( "cname", StringType.INSTANCE ) },
+						null
+				)
+		);
+
+		// the cache was already built by the first execution, so no further metadata access is needed
+		final ResultSet resultSet = Mockito.mock( ResultSet.class );
+		final ColumnNameCache cache = plan.getCustomQuery().resolveColumnNameCache( resultSet );
+		assertNotNull( cache );
+		assertSame( cache, plan.getCustomQuery().resolveColumnNameCache( resultSet ) );
+		verify( resultSet, never() ).getMetaData();
+	}
+
+	@Entity( name = "Customer" )
+	@Table( name = "t_customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.InMemoryMetricsReporter;
+import org.hibernate.stat.spi.MetricNames;
+import org.hibernate.stat.spi.MetricTags;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#STATISTICS_METRICS_REPORTER}
+ */
+public class MetricsReporterTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private InMemoryMetricsReporter reporter;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class, Author.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.STATISTICS_METRICS_REPORTER, InMemoryMetricsReporter.class.getName() );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void resetReporter() {
+		reporter = (InMemoryMetricsReporter) sessionFactory().getStatistics().getMetricsReporter();
+		reporter.clear();
+	}
+
+	@Test
+	public void testEntityAndQueryMetrics() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book #" + i ) );
+			}
+		} );
+
+		final MetricTags bookTags = MetricTags.of( MetricTags.ENTITY, Book.class.getName() );
+		assertEquals( 10, reporter.getCount( MetricNames.ENTITY_INSERT, bookTags ) );
+		assertEquals( 2, reporter.getReportCount( MetricNames.BATCH_EXECUTION, MetricTags.EMPTY ) );
+		assertEquals( 10, reporter.getCount( MetricNames.BATCH_STATEMENTS, MetricTags.EMPTY ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Book.class, 1L );
+			assertEquals( 10, session.createQuery( "from Book" ).list().size() );
+		} );
+
+		// the query only loads the 9 books not already in the persistence context
+		assertEquals( 10, reporter.getCount( MetricNames.ENTITY_LOAD, bookTags ) );
+		final MetricTags queryTags = MetricTags.of( MetricTags.QUERY, "from Book" );
+		assertEquals( 1, reporter.getReportCount( MetricNames.QUERY_EXECUTION, queryTags ) );
+		assertEquals( 10, reporter.getCount( MetricNames.QUERY_ROWS, queryTags ) );
+		assertEquals( 2, reporter.getCount( MetricNames.SESSION_OPEN ) );
+		assertEquals( 2, reporter.getCount( MetricNames.TRANSACTION_SUCCESS ) );
+	}
+
+	@Test
+	public void testBatchSwitches() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 2; i++ ) {
+				session.persist( new Book( i, "Book #" + i ) );
+				session.persist( new Author( i, "Author #" + i ) );
+			}
+		} );
+
+		assertEquals( 3, reporter.getCount( MetricNames.BATCH_SWITCH ) );
+		assertTrue( reporter.getTags( MetricNames.ENTITY_INSERT ).contains(
+				MetricTags.of( MetricTags.ENTITY, Author.class.getName() )
+		) );
+	}
+
+	@Test
+	public void testTags() {
+		final MetricTags tags = MetricTags.of( MetricTags.REGION, "books" ).and( MetricTags.ENTITY, "Book" );
+
+		assertEquals( tags, MetricTags.of( MetricTags.ENTITY, "Book" ).and( MetricTags.REGION, "books" ) );
+		assertEquals( "Book", tags.get( MetricTags.ENTITY ) );
+		assertEquals( tags, tags.and( MetricTags.TENANT, null ) );
+		assertEquals( "authors", tags.and( MetricTags.REGION, "authors" ).get( MetricTags.REGION ) );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "t_metrics_book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "t_metrics_author")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		Author() {
+		}
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
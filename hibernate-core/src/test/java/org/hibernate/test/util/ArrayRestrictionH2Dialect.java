@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * An H2 Dialect supporting array restrictions, for testing the features relying on them.
+ * H2 has no {@code = any (?)}, so its {@code array_contains} function is used instead.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsArrayRestriction()
+ */
+public class ArrayRestrictionH2Dialect extends H2Dialect {
+	@Override
+	public boolean supportsArrayRestriction() {
+		return true;
+	}
+
+	@Override
+	public String getArrayRestrictionFragment(String columnName) {
+		return "array_contains(?, " + columnName + ")";
+	}
+
+	@Override
+	public void bindArrayRestrictionParameter(
+			PreparedStatement statement,
+			int position,
+			Object[] values,
+			int sqlTypeCode) throws SQLException {
+		statement.setObject( position, values );
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+
+@Name( CacheGetEvent.NAME )
+@Label( "Cache Get" )
+@Category( JfrEventMonitor.CATEGORY )
+@Description( "Hibernate ORM second-level cache lookup" )
+@StackTrace( false )
+public class CacheGetEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.CacheGet";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Region Name" )
+	public String regionName;
+
+	@Label( "Hit" )
+	public boolean hit;
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+
+@Name( FlushEvent.NAME )
+@Label( "Flush" )
+@Category( JfrEventMonitor.CATEGORY )
+@Description( "Hibernate ORM Session flushed" )
+@StackTrace( false )
+public class FlushEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.Flush";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Number Of Entities" )
+	public int numberOfEntities;
+
+	@Label( "Number Of Collections" )
+	public int numberOfCollections;
+}
@@ -0,0 +1,268 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.EventType;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+
+/**
+ * An {@link EventMonitor} emitting JDK Flight Recorder events.
+ * <p/>
+ * Events are only created while a recording enabling them is running, so the overhead is a
+ * single check per operation otherwise.
+ */
+public class JfrEventMonitor implements EventMonitor {
+	public static final String CATEGORY = "Hibernate ORM";
+
+	private static final EventType sessionOpenEventType = EventType.getEventType( SessionOpenEvent.class );
+	private static final EventType sessionClosedEventType = EventType.getEventType( SessionClosedEvent.class );
+	private static final EventType flushEventType = EventType.getEventType( FlushEvent.class );
+	private static final EventType queryPlanCompilationEventType = EventType.getEventType( QueryPlanCompilationEvent.class );
+	private static final EventType jdbcStatementExecutionEventType = EventType.getEventType( JdbcStatementExecutionEvent.class );
+	private static final EventType jdbcBatchExecutionEventType = EventType.getEventType( JdbcBatchExecutionEvent.class );
+	private static final EventType cacheGetEventType = EventType.getEventType( CacheGetEvent.class );
+	private static final EventType cachePutEventType = EventType.getEventType( CachePutEvent.class );
+	private static final EventType lazyInitializationEventType = EventType.getEventType( LazyInitializationEvent.class );
+
+	@Override
+	public DiagnosticEvent beginSessionOpenEvent() {
+		if ( sessionOpenEventType.isEnabled() ) {
+			final SessionOpenEvent event = new SessionOpenEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(DiagnosticEvent event, SharedSessionContractImplementor session) {
+		if ( event == null ) {
+			return;
+		}
+		final SessionOpenEvent sessionOpenEvent = (SessionOpenEvent) event;
+		sessionOpenEvent.end();
+		if ( sessionOpenEvent.shouldCommit() ) {
+			sessionOpenEvent.sessionIdentifier = getSessionIdentifier( session );
+			sessionOpenEvent.tenantIdentifier = session.getTenantIdentifier();
+			sessionOpenEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginSessionClosedEvent() {
+		if ( sessionClosedEventType.isEnabled() ) {
+			final SessionClosedEvent event = new SessionClosedEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(DiagnosticEvent event, SharedSessionContractImplementor session) {
+		if ( event == null ) {
+			return;
+		}
+		final SessionClosedEvent sessionClosedEvent = (SessionClosedEvent) event;
+		sessionClosedEvent.end();
+		if ( sessionClosedEvent.shouldCommit() ) {
+			sessionClosedEvent.sessionIdentifier = getSessionIdentifier( session );
+			sessionClosedEvent.tenantIdentifier = session.getTenantIdentifier();
+			sessionClosedEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginFlushEvent() {
+		if ( flushEventType.isEnabled() ) {
+			final FlushEvent event = new FlushEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			int numberOfEntities,
+			int numberOfCollections) {
+		if ( event == null ) {
+			return;
+		}
+		final FlushEvent flushEvent = (FlushEvent) event;
+		flushEvent.end();
+		if ( flushEvent.shouldCommit() ) {
+			flushEvent.sessionIdentifier = getSessionIdentifier( session );
+			flushEvent.numberOfEntities = numberOfEntities;
+			flushEvent.numberOfCollections = numberOfCollections;
+			flushEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginQueryPlanCompilationEvent() {
+		if ( queryPlanCompilationEventType.isEnabled() ) {
+			final QueryPlanCompilationEvent event = new QueryPlanCompilationEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeQueryPlanCompilationEvent(DiagnosticEvent event, String query) {
+		if ( event == null ) {
+			return;
+		}
+		final QueryPlanCompilationEvent compilationEvent = (QueryPlanCompilationEvent) event;
+		compilationEvent.end();
+		if ( compilationEvent.shouldCommit() ) {
+			compilationEvent.query = query;
+			compilationEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcStatementExecutionEvent() {
+		if ( jdbcStatementExecutionEventType.isEnabled() ) {
+			final JdbcStatementExecutionEvent event = new JdbcStatementExecutionEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcStatementExecutionEvent(DiagnosticEvent event, String sql, int rowCount) {
+		if ( event == null ) {
+			return;
+		}
+		final JdbcStatementExecutionEvent executionEvent = (JdbcStatementExecutionEvent) event;
+		executionEvent.end();
+		if ( executionEvent.shouldCommit() ) {
+			executionEvent.sql = sql;
+			executionEvent.rowCount = rowCount;
+			executionEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcBatchExecutionEvent() {
+		if ( jdbcBatchExecutionEventType.isEnabled() ) {
+			final JdbcBatchExecutionEvent event = new JdbcBatchExecutionEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(DiagnosticEvent event, String sql, int batchSize, int rowCount) {
+		if ( event == null ) {
+			return;
+		}
+		final JdbcBatchExecutionEvent executionEvent = (JdbcBatchExecutionEvent) event;
+		executionEvent.end();
+		if ( executionEvent.shouldCommit() ) {
+			executionEvent.sql = sql;
+			executionEvent.batchSize = batchSize;
+			executionEvent.rowCount = rowCount;
+			executionEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginCacheGetEvent() {
+		if ( cacheGetEventType.isEnabled() ) {
+			final CacheGetEvent event = new CacheGetEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String regionName,
+			boolean hit) {
+		if ( event == null ) {
+			return;
+		}
+		final CacheGetEvent cacheGetEvent = (CacheGetEvent) event;
+		cacheGetEvent.end();
+		if ( cacheGetEvent.shouldCommit() ) {
+			cacheGetEvent.sessionIdentifier = getSessionIdentifier( session );
+			cacheGetEvent.regionName = regionName;
+			cacheGetEvent.hit = hit;
+			cacheGetEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginCachePutEvent() {
+		if ( cachePutEventType.isEnabled() ) {
+			final CachePutEvent event = new CachePutEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(DiagnosticEvent event, SharedSessionContractImplementor session, String regionName) {
+		if ( event == null ) {
+			return;
+		}
+		final CachePutEvent cachePutEvent = (CachePutEvent) event;
+		cachePutEvent.end();
+		if ( cachePutEvent.shouldCommit() ) {
+			cachePutEvent.sessionIdentifier = getSessionIdentifier( session );
+			cachePutEvent.regionName = regionName;
+			cachePutEvent.commit();
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginLazyInitializationEvent() {
+		if ( lazyInitializationEventType.isEnabled() ) {
+			final LazyInitializationEvent event = new LazyInitializationEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier) {
+		if ( event == null ) {
+			return;
+		}
+		final LazyInitializationEvent initializationEvent = (LazyInitializationEvent) event;
+		initializationEvent.end();
+		if ( initializationEvent.shouldCommit() ) {
+			initializationEvent.sessionIdentifier = getSessionIdentifier( session );
+			initializationEvent.role = role;
+			initializationEvent.identifier = identifier == null ? null : identifier.toString();
+			initializationEvent.commit();
+		}
+	}
+
+	private static String getSessionIdentifier(SharedSessionContractImplementor session) {
+		return session == null ? null : session.getSessionIdentifier().toString();
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+
+@Name( LazyInitializationEvent.NAME )
+@Label( "Lazy Initialization" )
+@Category( JfrEventMonitor.CATEGORY )
+@Description( "Hibernate ORM proxy or collection lazily initialized" )
+// the stack trace points at the code triggering the lazy load, e.g. to track down N+1 selects
+@StackTrace( true )
+public class LazyInitializationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.LazyInitialization";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Role" )
+	public String role;
+
+	@Label( "Identifier" )
+	public String identifier;
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+
+@Name( QueryPlanCompilationEvent.NAME )
+@Label( "Query Plan Compilation" )
+@Category( JfrEventMonitor.CATEGORY )
+@Description( "Hibernate ORM HQL/JPQL query plan compiled" )
+@StackTrace( false )
+public class QueryPlanCompilationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryPlanCompilation";
+
+	@Label( "Query" )
+	public String query;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+
+@Name( SessionOpenEvent.NAME )
+@Label( "Session Open" )
+@Category( JfrEventMonitor.CATEGORY )
+@Description( "Hibernate ORM Session opened" )
+@StackTrace( false )
+public class SessionOpenEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SessionOpen";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Tenant Identifier" )
+	public String tenantIdentifier;
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.FlushEvent;
+import org.hibernate.event.jfr.internal.JdbcBatchExecutionEvent;
+import org.hibernate.event.jfr.internal.JdbcStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.JfrEventMonitor;
+import org.hibernate.event.jfr.internal.LazyInitializationEvent;
+import org.hibernate.event.jfr.internal.QueryPlanCompilationEvent;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link JfrEventMonitor}
+ */
+public class JfrEventMonitorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEventMonitorIsDiscovered() {
+		assertTrue( sessionFactory().getEventMonitor() instanceof JfrEventMonitor );
+	}
+
+	@Test
+	public void testEvents() throws Exception {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( SessionOpenEvent.NAME );
+			recording.enable( SessionClosedEvent.NAME );
+			recording.enable( FlushEvent.NAME );
+			recording.enable( QueryPlanCompilationEvent.NAME );
+			recording.enable( JdbcStatementExecutionEvent.NAME );
+			recording.enable( JdbcBatchExecutionEvent.NAME );
+			recording.enable( LazyInitializationEvent.NAME );
+			recording.start();
+
+			doInHibernate( this::sessionFactory, session -> {
+				final Author author = new Author( 1L, "Gavin" );
+				session.persist( author );
+				session.persist( new Book( 1L, "Java Persistence with Hibernate", author ) );
+				session.persist( new Book( 2L, "Hibernate in Action", author ) );
+			} );
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Book> books = session.createQuery( "from Book b order by b.id", Book.class ).list();
+				// the proxy is initialized by a method call, not by field access
+				assertEquals( "Gavin", books.get( 0 ).author.getName() );
+			} );
+
+			recording.stop();
+			final Path file = Files.createTempFile( "hibernate-jfr", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+
+		assertEquals( 2, eventsNamed( events, SessionOpenEvent.NAME ).size() );
+		assertEquals( 2, eventsNamed( events, SessionClosedEvent.NAME ).size() );
+		assertFalse( eventsNamed( events, FlushEvent.NAME ).isEmpty() );
+
+		final List<RecordedEvent> batchEvents = eventsNamed( events, JdbcBatchExecutionEvent.NAME );
+		assertEquals( 2, batchEvents.size() );
+		assertEquals( 3, batchEvents.stream().mapToInt( event -> event.getInt( "rowCount" ) ).sum() );
+
+		final List<RecordedEvent> compilationEvents = eventsNamed( events, QueryPlanCompilationEvent.NAME );
+		assertEquals( 1, compilationEvents.size() );
+		assertEquals( "from Book b order by b.id", compilationEvents.get( 0 ).getString( "query" ) );
+
+		assertEquals( 2, eventsNamed( events, JdbcStatementExecutionEvent.NAME ).size() );
+
+		final List<RecordedEvent> initializationEvents = eventsNamed( events, LazyInitializationEvent.NAME );
+		assertEquals( 1, initializationEvents.size() );
+		assertEquals( Author.class.getName(), initializationEvents.get( 0 ).getString( "role" ) );
+		assertEquals( "1", initializationEvents.get( 0 ).getString( "identifier" ) );
+		assertTrue( initializationEvents.get( 0 ).getStackTrace() != null );
+	}
+
+	@Test
+	public void testNoEventsWithoutRecording() {
+		assertEquals( null, sessionFactory().getEventMonitor().beginFlushEvent() );
+	}
+
+	@Test
+	public void testSessionWithoutRecording() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", author ) );
+			session.flush();
+			assertEquals(
+					1,
+					session.createQuery( "from Book b where b.title like 'Hibernate%'", Book.class ).list().size()
+			);
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Gavin", session.get( Book.class, 1L ).author.getName() );
+		} );
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter( event -> event.getEventType().getName().equals( name ) )
+				.collect( Collectors.toCollection( ArrayList::new ) );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "t_jfr_author")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		Author() {
+		}
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "t_jfr_book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}